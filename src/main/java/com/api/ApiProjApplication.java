@@ -5,11 +5,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
 @EnableAsync
-@MapperScan(basePackages = {"com.api.member.mapper", "com.api.item.mapper", "com.api.board.mapper", "com.api.payment.mapper", "com.api.favorite.mapper"})
+@EnableScheduling
+@MapperScan(basePackages = {"com.api.member.mapper", "com.api.item.mapper", "com.api.board.mapper", "com.api.payment.mapper", "com.api.favorite.mapper", "com.api.mail.mapper", "com.api.union.mapper"})
 public class ApiProjApplication {
 
 	public static void main(String[] args) {
@@ -1,5 +1,6 @@
 package com.api.admin.controller;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,7 +15,19 @@ import com.api.admin.domain.ItemListResponse;
 import com.api.admin.domain.MemberResponse;
 import com.api.admin.domain.OperationResponse;
 import com.api.admin.service.AdminService;
+import com.api.item.dto.ItemChangeEvent;
+import com.api.item.service.CatalogReloadService;
+import com.api.item.service.ItemChangeLogService;
+import com.api.item.service.ItemFingerprintStore;
+import com.api.mail.service.EmailDispatcher;
+import com.api.mail.service.EmailOutboxService;
+import com.api.payment.service.PendingPaymentStore;
+import com.api.union.dto.IngestionJob;
 import com.api.union.service.ApiService;
+import com.api.union.service.IngestionJobService;
+import com.api.union.service.OnbidCallBudget;
+import com.api.union.service.OnbidFeed;
+import com.api.union.service.RegionIngestionScheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +40,15 @@ public class AdminRestController {
 
 	private final AdminService adminService;
 	private final ApiService apiService;
+	private final OnbidCallBudget callBudget;
+	private final PendingPaymentStore pendingPaymentStore;
+	private final EmailOutboxService emailOutboxService;
+	private final EmailDispatcher emailDispatcher;
+	private final IngestionJobService ingestionJobService;
+	private final RegionIngestionScheduler regionIngestionScheduler;
+	private final ItemFingerprintStore fingerprintStore;
+	private final ItemChangeLogService changeLogService;
+	private final CatalogReloadService catalogReloadService;
 
 	// =============================================================================
 	// 관리 페이지 (View)
@@ -234,18 +256,6 @@ public class AdminRestController {
 	// =============================================================================
 	// 데이터 삭제
 	// =============================================================================
-	/**
-	 * DB에서 서울특별시 외 지역 삭제 DELETE /api/admin/db/delete-non-seoul
-	 */
-	@DeleteMapping("/db/delete-non-seoul")
-	public ResponseEntity<OperationResponse> deleteNonSeoulItems() {
-		log.info("========================================");
-		log.info("🌐 [URL 호출] DELETE /api/admin/db/delete-non-seoul");
-		log.info("🗑️ [대량 삭제 시작] 서울특별시 외 지역 삭제");
-
-		return adminService.deleteNonSeoulItemsResponse().toResponseEntity();
-	}
-
 	/**
 	 * DB에서 전체 데이터 삭제 (위험!) DELETE /api/admin/db/delete-all
 	 */
@@ -409,4 +419,180 @@ public class AdminRestController {
 		return adminService.deleteBoardResponse(boardNo).toResponseEntity();
 	}
 
+	// =============================================================================
+	// 일괄 수집 작업 (진행 조회 / 취소 / 재개)
+	// =============================================================================
+
+	/**
+	 * 수집 작업 시작 POST /api/admin/ingest-jobs Body: { "feed": "USAGE", "sido": "서울특별시" }
+	 * (같은 종류/시도 작업이 진행 중이면 그 작업, 중단된 작업이 있으면 이어서 실행)
+	 */
+	@PostMapping("/ingest-jobs")
+	public ResponseEntity<?> startIngestJob(@RequestBody Map<String, Object> request) {
+		String sido = (String) request.getOrDefault("sido", "서울특별시");
+		OnbidFeed feed;
+		try {
+			feed = OnbidFeed.valueOf(String.valueOf(request.getOrDefault("feed", "USAGE")).toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(Map.of("success", false, "message", "feed는 NEW, DISCOUNT, USAGE 중 하나여야 합니다."));
+		}
+		return ResponseEntity.accepted().body(ingestionJobService.start(feed, sido));
+	}
+
+	/**
+	 * 최근 수집 작업 목록 GET /api/admin/ingest-jobs
+	 */
+	@GetMapping("/ingest-jobs")
+	public ResponseEntity<List<IngestionJob>> getIngestJobs() {
+		return ResponseEntity.ok(ingestionJobService.getRecentJobs());
+	}
+
+	/**
+	 * 시도별 수집 스케줄 (다음 실행 시각) GET /api/admin/ingest-jobs/schedule
+	 */
+	@GetMapping("/ingest-jobs/schedule")
+	public ResponseEntity<List<Map<String, Object>>> getIngestSchedule() {
+		return ResponseEntity.ok(regionIngestionScheduler.getSchedule());
+	}
+
+	/**
+	 * 전체 카탈로그 재적재 시작 (shadow 테이블 적재 후 교체) POST /api/admin/catalog/reload
+	 * - body: {"feeds": ["NEW", "DISCOUNT", "USAGE"], "sidos": ["서울특별시"]} (생략 시 전체)
+	 */
+	@PostMapping("/catalog/reload")
+	public ResponseEntity<?> startCatalogReload(@RequestBody(required = false) Map<String, List<String>> request) {
+		List<OnbidFeed> feeds = new ArrayList<>();
+		List<String> sidos = RegionIngestionScheduler.ALL_SIDO;
+		if (request != null) {
+			try {
+				for (String feed : request.getOrDefault("feeds", List.of())) {
+					feeds.add(OnbidFeed.valueOf(feed.toUpperCase()));
+				}
+			} catch (IllegalArgumentException e) {
+				return ResponseEntity.badRequest().body(Map.of("success", false, "message", "feed는 NEW, DISCOUNT, USAGE 중 하나여야 합니다."));
+			}
+			if (request.get("sidos") != null && !request.get("sidos").isEmpty()) {
+				sidos = request.get("sidos");
+			}
+		}
+		if (feeds.isEmpty()) {
+			feeds = List.of(OnbidFeed.values());
+		}
+		if (!catalogReloadService.start(feeds, sidos)) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "message", "이미 재적재가 실행 중이거나 수집 작업이 가득 찼습니다."));
+		}
+		return ResponseEntity.accepted().body(Map.of("success", true, "feeds", feeds, "sidos", sidos));
+	}
+
+	/**
+	 * 전체 카탈로그 재적재 상태 GET /api/admin/catalog/reload
+	 */
+	@GetMapping("/catalog/reload")
+	public ResponseEntity<Map<String, Object>> getCatalogReloadStatus() {
+		return ResponseEntity.ok(catalogReloadService.getStatus());
+	}
+
+	/**
+	 * 물건 변경 이벤트 조회 (오프셋 이후) GET /api/admin/item-changes?after=0&type=PRICE&limit=200
+	 * - 다음 호출에는 응답의 nextOffset을 after로 넘김
+	 */
+	@GetMapping("/item-changes")
+	public ResponseEntity<Map<String, Object>> getItemChanges(
+			@RequestParam(defaultValue = "0") long after,
+			@RequestParam(required = false) String type,
+			@RequestParam(defaultValue = "200") int limit) {
+		List<ItemChangeEvent> events = changeLogService.readAfter(after, type, limit);
+		Map<String, Object> response = new HashMap<>();
+		response.put("events", events);
+		response.put("nextOffset", events.isEmpty() ? after : events.get(events.size() - 1).getId());
+		response.put("latestOffset", changeLogService.latestOffset());
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 수집 작업 진행 상황 GET /api/admin/ingest-jobs/{jobId}
+	 */
+	@GetMapping("/ingest-jobs/{jobId}")
+	public ResponseEntity<IngestionJob> getIngestJob(@PathVariable("jobId") Long jobId) {
+		IngestionJob job = ingestionJobService.getJob(jobId);
+		return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+	}
+
+	/**
+	 * 수집 작업 취소 POST /api/admin/ingest-jobs/{jobId}/cancel
+	 */
+	@PostMapping("/ingest-jobs/{jobId}/cancel")
+	public ResponseEntity<IngestionJob> cancelIngestJob(@PathVariable("jobId") Long jobId) {
+		IngestionJob job = ingestionJobService.cancel(jobId);
+		return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+	}
+
+	/**
+	 * 수집 작업 재개 (마지막 저장 페이지 다음부터) POST /api/admin/ingest-jobs/{jobId}/resume
+	 */
+	@PostMapping("/ingest-jobs/{jobId}/resume")
+	public ResponseEntity<IngestionJob> resumeIngestJob(@PathVariable("jobId") Long jobId) {
+		IngestionJob job = ingestionJobService.resume(jobId);
+		return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+	}
+
+	// =============================================================================
+	// 운영 지표
+	// =============================================================================
+
+	/**
+	 * 캐시 통계 조회 GET /api/admin/metrics/cache
+	 */
+	@GetMapping("/metrics/cache")
+	public ResponseEntity<Map<String, Object>> getCacheStats() {
+		return ResponseEntity.ok(adminService.getCacheStats());
+	}
+
+	/**
+	 * HTTP 커넥션 풀 상태 조회 GET /api/admin/metrics/http-pool
+	 */
+	@GetMapping("/metrics/http-pool")
+	public ResponseEntity<Map<String, Object>> getHttpPoolStats() {
+		return ResponseEntity.ok(adminService.getHttpPoolStats());
+	}
+
+	/**
+	 * 온비드 호출 통계 조회 GET /api/admin/metrics/onbid
+	 */
+	@GetMapping("/metrics/onbid")
+	public ResponseEntity<Map<String, Object>> getOnbidStats() {
+		Map<String, Object> response = new HashMap<>();
+		response.put("coalescing", apiService.getCoalescingStats());
+		response.put("circuit", apiService.getCircuitStats());
+		response.put("budget", callBudget.getStats());
+		response.put("serviceKeys", apiService.getServiceKeyStats());
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 물건 변경분 저장(지문 비교) 통계 조회 GET /api/admin/metrics/item-sync
+	 */
+	@GetMapping("/metrics/item-sync")
+	public ResponseEntity<Map<String, Object>> getItemSyncStats() {
+		return ResponseEntity.ok(fingerprintStore.getStats());
+	}
+
+	/**
+	 * 결제 대기 임시 저장소 상태 조회 GET /api/admin/metrics/pending-payments
+	 */
+	@GetMapping("/metrics/pending-payments")
+	public ResponseEntity<Map<String, Object>> getPendingPaymentStats() {
+		return ResponseEntity.ok(pendingPaymentStore.getStats());
+	}
+
+	/**
+	 * 메일 발송 대기열 상태 조회 GET /api/admin/metrics/email-outbox
+	 */
+	@GetMapping("/metrics/email-outbox")
+	public ResponseEntity<Map<String, Object>> getEmailOutboxStats() {
+		Map<String, Object> response = new HashMap<>();
+		response.put("queue", emailOutboxService.getStats());
+		response.put("dispatcher", emailDispatcher.getStats());
+		return ResponseEntity.ok(response);
+	}
 }
@@ -15,6 +15,7 @@ public class BatchSaveResponse {
     private int savedCount;       // 실제 저장된 개수
     private int totalRequested;   // 요청한 전체 개수
     private String errorType;     // 오류 종류 (DB_ERROR, PARSE_ERROR 등)
+    private Long jobId;           // 백그라운드 수집 작업 ID (진행 상황: GET /api/admin/ingest-jobs/{jobId})
 }
 
 
@@ -20,6 +20,7 @@ public class ItemListResponse {
     private int totalCount;
     private int currentPageCount;
     private List<?> items;  // Item 또는 ItemDetail 모두 받을 수 있도록 Object 사용
+    private String nextCursor;  // 다음 페이지 커서 (DB keyset 조회, 마지막 페이지면 null)
     private String message;
     private String errorType;
 }
@@ -2,10 +2,16 @@ package com.api.admin.service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +23,10 @@ import com.api.item.dto.ItemDetail;
 import com.api.item.service.ItemRestService;
 import com.api.member.domain.Member;
 import com.api.member.service.MemberService;
-import com.api.union.service.ItemFetchService;
+import com.api.union.dto.IngestionJob;
+import com.api.union.service.IngestionJobService;
+import com.api.union.service.OnbidFeed;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +39,9 @@ public class AdminService {
 	private final ItemRestService itemService;
 	private final com.api.board.service.boardService boardService;
 	private final MemberService memberService;
-	private final ItemFetchService itemFetchService;
+	private final IngestionJobService ingestionJobService;
+	private final CacheManager cacheManager;
+	private final PoolingHttpClientConnectionManager httpConnectionManager;
 
 	/**
 	 * DB에서 서울특별시 물건 조회 (페이징)
@@ -56,43 +67,24 @@ public class AdminService {
 	}
 	
 	/**
-	 * 용도별통합 물건 일괄 저장 (여러 페이지 순회)
+	 * 용도별통합 물건 일괄 저장 (백그라운드 수집 작업으로 등록, 중단된 작업이 있으면 이어서 실행)
 	 */
 	public BatchSaveResponse saveUsageItemsBatchAll(String sido) {
-		try {
-			log.info("💾 용도별통합 물건 일괄 저장 시작: sido={}", sido);
-			int totalSaved = 0;
-			int maxPages = 50;
-
-			for (int page = 1; page <= maxPages; page++) {
-				int saved = itemFetchService.fetchAndSaveUsageItems(page, sido);
-				if (saved == 0) {
-					log.info("💾 용도별통합 물건 저장 종료: page={}에서 데이터 없음", page);
-					break;
-				}
-				totalSaved += saved;
-				log.info("💾 용도별통합 물건 저장 진행: page={}, saved={}, total={}", page, saved, totalSaved);
-
-				if (saved < 200) {
-					log.info("💾 용도별통합 물건 저장 종료: page={}에서 200건 미만", page);
-					break;
-				}
-
-				try {
-					Thread.sleep(500);
-				} catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					break;
-				}
-			}
+		return startIngestionJob(OnbidFeed.USAGE, "용도별통합 물건", sido);
+	}
 
-			log.info("💾 용도별통합 물건 일괄 저장 완료: 총 {}건", totalSaved);
-			return BatchSaveResponse.builder().success(true).message("용도별통합 물건 일괄 저장 완료: " + totalSaved + "건")
-					.savedCount(totalSaved).totalRequested(totalSaved).build();
+	// 수집 작업 등록 후 바로 응답 (저장 건수는 작업 진행 상황에서 확인)
+	private BatchSaveResponse startIngestionJob(OnbidFeed feed, String label, String sido) {
+		try {
+			IngestionJob job = ingestionJobService.start(feed, sido);
+			log.info("💾 {} 일괄 저장 작업: jobId={}, status={}", label, job.getId(), job.getStatus());
+			return BatchSaveResponse.builder().success(true)
+					.message(label + " 일괄 저장 작업 " + job.getStatus() + " (jobId=" + job.getId() + ", 저장 " + job.getSavedCount() + "건)")
+					.savedCount(job.getSavedCount()).totalRequested(job.getSavedCount()).jobId(job.getId()).build();
 
 		} catch (Exception e) {
-			log.error("❌ 용도별통합 물건 일괄 저장 실패: {}", e.getMessage(), e);
-			return BatchSaveResponse.builder().success(false).message("용도별통합 물건 일괄 저장 중 오류가 발생했습니다: " + e.getMessage())
+			log.error("❌ {} 일괄 저장 작업 등록 실패: {}", label, e.getMessage(), e);
+			return BatchSaveResponse.builder().success(false).message(label + " 일괄 저장 작업 등록 중 오류가 발생했습니다: " + e.getMessage())
 					.errorType(e.getClass().getSimpleName()).build();
 		}
 	}
@@ -117,27 +109,6 @@ public class AdminService {
 		}
 	}
 
-	/**
-	 * 서울특별시가 아닌 데이터 삭제
-	 */
-	@Transactional
-	public ServiceResponse<OperationResponse> deleteNonSeoulItemsResponse() {
-		try {
-			int deleted = itemService.deleteNonSeoulItems();
-
-			log.info("✅ 서울 외 지역 데이터 삭제 완료: {}건", deleted);
-			OperationResponse response = OperationResponse.builder().success(true)
-					.message("서울특별시가 아닌 데이터 삭제 완료: " + deleted + "건").build();
-			return ServiceResponse.ok(response);
-
-		} catch (Exception e) {
-			log.error("❌ 서울 외 지역 삭제 오류: {}", e.getMessage(), e);
-			OperationResponse response = OperationResponse.builder().success(false)
-					.message("삭제 중 오류가 발생했습니다: " + e.getMessage()).build();
-			return ServiceResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, response);
-		}
-	}
-	
 	/**
 	 * 물건 삭제 (cltrMnmtNo로)
 	 */
@@ -183,47 +154,10 @@ public class AdminService {
 	}
 
 	/**
-	 * 신물건 일괄 저장 (여러 페이지 순회)
+	 * 신물건 일괄 저장 (백그라운드 수집 작업으로 등록, 중단된 작업이 있으면 이어서 실행)
 	 */
 	public BatchSaveResponse saveNewItemsBatchAll(String sido) {
-		try {
-			log.info("💾 신물건 일괄 저장 시작: sido={}", sido);
-			int totalSaved = 0;
-			int maxPages = 50;
-
-			for (int page = 1; page <= maxPages; page++) {
-				int saved = itemFetchService.fetchAndSaveNewItems(page, sido);
-				if (saved == 0) {
-					log.info("💾 신물건 저장 종료: page={}에서 데이터 없음", page);
-					break;
-				}
-				totalSaved += saved;
-				log.info("💾 신물건 저장 진행: page={}, saved={}, total={}", page, saved, totalSaved);
-
-				// 200건 미만이면 더 이상 데이터가 없을 가능성이 높음
-				if (saved < 200) {
-					log.info("💾 신물건 저장 종료: page={}에서 200건 미만", page);
-					break;
-				}
-
-				// API 호출 간격 조절
-				try {
-					Thread.sleep(500);
-				} catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					break;
-				}
-			}
-
-			log.info("💾 신물건 일괄 저장 완료: 총 {}건", totalSaved);
-			return BatchSaveResponse.builder().success(true).message("신물건 일괄 저장 완료: " + totalSaved + "건")
-					.savedCount(totalSaved).totalRequested(totalSaved).build();
-
-		} catch (Exception e) {
-			log.error("❌ 신물건 일괄 저장 실패: {}", e.getMessage(), e);
-			return BatchSaveResponse.builder().success(false).message("신물건 일괄 저장 중 오류가 발생했습니다: " + e.getMessage())
-					.errorType(e.getClass().getSimpleName()).build();
-		}
+		return startIngestionJob(OnbidFeed.NEW, "신물건", sido);
 	}
 
 	/**
@@ -250,45 +184,10 @@ public class AdminService {
 	}
 
 	/**
-	 * 감가50% 물건 일괄 저장 (여러 페이지 순회)
+	 * 감가50% 물건 일괄 저장 (백그라운드 수집 작업으로 등록, 중단된 작업이 있으면 이어서 실행)
 	 */
 	public BatchSaveResponse saveDiscountItemsBatchAll(String sido) {
-		try {
-			log.info("💾 감가50% 물건 일괄 저장 시작: sido={}", sido);
-			int totalSaved = 0;
-			int maxPages = 50;
-
-			for (int page = 1; page <= maxPages; page++) {
-				int saved = itemFetchService.fetchAndSaveDiscountItems(page, sido);
-				if (saved == 0) {
-					log.info("💾 감가50% 물건 저장 종료: page={}에서 데이터 없음", page);
-					break;
-				}
-				totalSaved += saved;
-				log.info("💾 감가50% 물건 저장 진행: page={}, saved={}, total={}", page, saved, totalSaved);
-
-				if (saved < 200) {
-					log.info("💾 감가50% 물건 저장 종료: page={}에서 200건 미만", page);
-					break;
-				}
-
-				try {
-					Thread.sleep(500);
-				} catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					break;
-				}
-			}
-
-			log.info("💾 감가50% 물건 일괄 저장 완료: 총 {}건", totalSaved);
-			return BatchSaveResponse.builder().success(true).message("감가50% 물건 일괄 저장 완료: " + totalSaved + "건")
-					.savedCount(totalSaved).totalRequested(totalSaved).build();
-
-		} catch (Exception e) {
-			log.error("❌ 감가50% 물건 일괄 저장 실패: {}", e.getMessage(), e);
-			return BatchSaveResponse.builder().success(false).message("감가50% 물건 일괄 저장 중 오류가 발생했습니다: " + e.getMessage())
-					.errorType(e.getClass().getSimpleName()).build();
-		}
+		return startIngestionJob(OnbidFeed.DISCOUNT, "감가50% 물건", sido);
 	}
 
 	
@@ -480,4 +379,47 @@ public class AdminService {
 			return ServiceResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, response);
 		}
 	}
+
+	// =============================================================================
+	// 운영 지표
+	// =============================================================================
+
+	/**
+	 * 캐시별 통계 (크기, 적중/미스, 제거 수)
+	 */
+	public Map<String, Object> getCacheStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		for (String name : cacheManager.getCacheNames()) {
+			Cache cache = cacheManager.getCache(name);
+			if (!(cache instanceof CaffeineCache caffeineCache)) {
+				continue;
+			}
+			com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+			CacheStats cacheStats = nativeCache.stats();
+
+			Map<String, Object> stat = new LinkedHashMap<>();
+			stat.put("entries", nativeCache.estimatedSize());
+			stat.put("hitCount", cacheStats.hitCount());
+			stat.put("missCount", cacheStats.missCount());
+			stat.put("hitRate", cacheStats.hitRate());
+			stat.put("evictionCount", cacheStats.evictionCount());
+			stat.put("evictionWeight", cacheStats.evictionWeight());
+			stats.put(name, stat);
+		}
+		return stats;
+	}
+
+	/**
+	 * HTTP 커넥션 풀 상태 (사용 중/대기/유휴/최대 연결 수)
+	 */
+	public Map<String, Object> getHttpPoolStats() {
+		PoolStats total = httpConnectionManager.getTotalStats();
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("leased", total.getLeased());
+		stats.put("pending", total.getPending());
+		stats.put("available", total.getAvailable());
+		stats.put("max", total.getMax());
+		stats.put("routes", httpConnectionManager.getRoutes().size());
+		return stats;
+	}
 }
@@ -3,8 +3,10 @@ package com.api.config;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -18,6 +20,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    @Primary  // @Async 기본 실행기 (실행기 Bean이 여러 개이므로 명시)
     @Bean(name = "apiTaskExecutor")
     public Executor apiTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -29,4 +32,52 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 온비드 페이지 병렬 수집용 실행기
+     * 스레드 수 = 동시에 진행되는 페이지 조회 수 상한
+     */
+    @Bean(name = "ingestTaskExecutor")
+    public Executor ingestTaskExecutor(@Value("${onbid.ingest.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(1000);  // 페이지 조회 작업 대기 큐
+        executor.setThreadNamePrefix("ingest-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 온비드 일괄 수집 작업 실행기
+     * 스레드 수 = 동시에 실행되는 수집 작업 수 (작업 안의 페이지 조회는 ingestTaskExecutor에서 병렬 실행)
+     */
+    @Bean(name = "ingestJobExecutor")
+    public Executor ingestJobExecutor(@Value("${onbid.ingest.jobs.concurrency:2}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(100);  // 실행 대기 작업 (초과분은 DB에 QUEUED로 남아 복구 주기에 다시 제출)
+        executor.setThreadNamePrefix("ingest-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 메일 대기열 전송용 실행기
+     * 스레드 수 = 동시에 열리는 SMTP 연결 수 상한 (알림이 몰려도 @Async 기본 실행기를 점유하지 않음)
+     */
+    @Bean(name = "mailTaskExecutor")
+    public Executor mailTaskExecutor(@Value("${mail.outbox.concurrency:2}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);  // 디스패처가 묶음 수 = 스레드 수로 제출
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,30 +1,88 @@
 package com.api.config;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 /**
  * ===================================================================
  * 캐시 설정 클래스
  * ===================================================================
  * API 응답을 캐싱하여 성능 개선
- * - 동일한 요청에 대해 캐시된 결과를 즉시 반환하여 응답 시간 단축
- * - 주의: ConcurrentMapCacheManager는 기본적으로 TTL이 없지만,
- *   동일한 요청에 대해서는 즉시 캐시된 결과를 반환하므로 성능 개선 효과가 있음
+ * - Caffeine 기반: 캐시별 만료 시간(TTL)과 최대 크기(물건 수 기준 weight) 지정
+ * - 적중/미스/제거 통계 수집 (recordStats) → /api/admin/cache/stats 에서 확인
+ * - 캐시별 설정(cache.onbid.{items|new-items|discount-items|usage-items}.*)이 없으면 공통값(cache.onbid.*) 사용
+ * - 온비드 오류 응답은 ItemApiPageService가 빈 목록으로 돌려주고, 빈 목록/장애 대체 응답(stale)은
+ *   ItemApiPageService.UNLESS 조건으로 캐싱하지 않음
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    /** ===== 캐시 이름 ===== */
+    public static final String API_ITEMS = "apiItems";                  // 전체 경매물건
+    public static final String API_NEW_ITEMS = "apiNewItems";           // 신물건
+    public static final String API_DISCOUNT_ITEMS = "apiDiscountItems"; // 감가 50% 이상
+    public static final String API_USAGE_ITEMS = "apiUsageItems";       // 용도별 통합
+
+    /** ===== 캐시별 만료 시간(초) / 최대 보관 물건 수 ===== */
+    @Value("${cache.onbid.items.ttl-seconds:${cache.onbid.ttl-seconds:300}}")
+    private long itemsTtlSeconds;
+
+    @Value("${cache.onbid.items.max-weight:${cache.onbid.max-weight:20000}}")
+    private long itemsMaxWeight;
+
+    @Value("${cache.onbid.new-items.ttl-seconds:${cache.onbid.ttl-seconds:300}}")
+    private long newItemsTtlSeconds;
+
+    @Value("${cache.onbid.new-items.max-weight:${cache.onbid.max-weight:20000}}")
+    private long newItemsMaxWeight;
+
+    @Value("${cache.onbid.discount-items.ttl-seconds:${cache.onbid.ttl-seconds:300}}")
+    private long discountItemsTtlSeconds;
+
+    @Value("${cache.onbid.discount-items.max-weight:${cache.onbid.max-weight:20000}}")
+    private long discountItemsMaxWeight;
+
+    @Value("${cache.onbid.usage-items.ttl-seconds:${cache.onbid.ttl-seconds:300}}")
+    private long usageItemsTtlSeconds;
+
+    @Value("${cache.onbid.usage-items.max-weight:${cache.onbid.max-weight:20000}}")
+    private long usageItemsMaxWeight;
+
     @Bean
     public CacheManager cacheManager() {
-        // 메모리 기반 캐시 매니저 사용
-        // 캐시 이름: "apiItems", "apiNewItems", "apiUsageItems"
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("apiItems", "apiNewItems", "apiUsageItems");
-        cacheManager.setAllowNullValues(false); // null 값은 캐싱하지 않음
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                buildCache(API_ITEMS, itemsTtlSeconds, itemsMaxWeight),
+                buildCache(API_NEW_ITEMS, newItemsTtlSeconds, newItemsMaxWeight),
+                buildCache(API_DISCOUNT_ITEMS, discountItemsTtlSeconds, discountItemsMaxWeight),
+                buildCache(API_USAGE_ITEMS, usageItemsTtlSeconds, usageItemsMaxWeight)
+        ));
         return cacheManager;
     }
+
+    /**
+     * 캐시 생성: 목록 값은 항목 수만큼 weight를 차지하므로 전체 보관 물건 수가 maxWeight로 제한됨
+     */
+    private CaffeineCache buildCache(String name, long ttlSeconds, long maxWeight) {
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumWeight(maxWeight)
+                .weigher((Object key, Object value) ->
+                        value instanceof Collection<?> c ? Math.max(1, c.size()) : 1)
+                .recordStats()
+                .build(),
+                false); // null 값은 캐싱하지 않음
+    }
 }
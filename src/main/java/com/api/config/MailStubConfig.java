@@ -0,0 +1,69 @@
+package com.api.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ===================================================================
+ * 로컬/테스트용 메일 스텁 설정 (spring.profiles.active=mail-stub)
+ * ===================================================================
+ * 실제 SMTP 서버 없이 메일 대기열 전송 흐름(점유 → 묶음 전송 → 결과 기록)을 확인
+ * - 전송된 메일은 로그로 남기고 최근 메일만 메모리에 보관
+ */
+@Slf4j
+@Configuration
+@Profile("mail-stub")
+public class MailStubConfig {
+
+    @Bean
+    public JavaMailSender javaMailSender() {
+        return new StubMailSender();
+    }
+
+    public static class StubMailSender extends JavaMailSenderImpl {
+
+        // 메모리에 보관할 최근 메일 수
+        private static final int MAX_KEPT = 100;
+
+        private final Deque<MimeMessage> sent = new ConcurrentLinkedDeque<>();
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+            for (MimeMessage message : mimeMessages) {
+                try {
+                    Address[] to = message.getAllRecipients();
+                    log.info("📧 [mail-stub] to={}, subject={}", to != null ? Arrays.toString(to) : "[]", message.getSubject());
+                } catch (MessagingException e) {
+                    log.info("📧 [mail-stub] 메일 1건 (헤더 읽기 실패: {})", e.getMessage());
+                }
+                sent.addLast(message);
+                while (sent.size() > MAX_KEPT) {
+                    sent.pollFirst();
+                }
+            }
+        }
+
+        public List<MimeMessage> getSentMessages() {
+            return new ArrayList<>(sent);
+        }
+
+        public void clear() {
+            sent.clear();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.api.favorite.domain;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceWatch {
+
+	private Long itemPlnmNo; // 물건번호
+	private Long minBidPrice; // 직전 모니터링 시점 최저입찰가
+	private Timestamp checkedAt; // 모니터링 시각
+}
@@ -7,6 +7,7 @@ import org.apache.ibatis.annotations.Param;
 
 import com.api.favorite.domain.Favorite;
 import com.api.favorite.domain.PriceAlert;
+import com.api.favorite.domain.PriceWatch;
 
 @Mapper  
 public interface FavoriteMapper {
@@ -42,4 +43,16 @@ public interface FavoriteMapper {
     
     // 최근 알림 조회 (중복 알림 방지용)
     PriceAlert getLastPriceAlertByFavoriteId(@Param("favoriteId") Long favoriteId);
+    
+    // 즐겨찾기별 최근 알림 일괄 조회 (중복 알림 방지용)
+    List<PriceAlert> getLastPriceAlerts();
+    
+    // 가격 알림 히스토리 일괄 추가
+    void insertPriceAlerts(@Param("alerts") List<PriceAlert> alerts);
+    
+    // 관심 물건별 직전 모니터링 가격 조회
+    List<PriceWatch> getPriceWatches();
+    
+    // 관심 물건별 모니터링 가격 일괄 저장
+    int upsertPriceWatches(@Param("watches") List<PriceWatch> watches);
 }
@@ -236,6 +236,9 @@ public class FavoriteService {
         
         DecimalFormat priceFormatter = new DecimalFormat("#,###");
         
+        // 물건 정보 일괄 조회 (즐겨찾기마다 개별 조회하지 않음)
+        Map<Long, ItemDetail> itemDetails = loadItemDetails(favorites);
+        
         for (Favorite favorite : favorites) {
             Map<String, Object> favoriteMap = new HashMap<>();
             
@@ -247,15 +250,7 @@ public class FavoriteService {
             favoriteMap.put("createdAt", favorite.getCreatedAt());
             
             // ItemDetail 조회
-            ItemDetail itemDetail = null;
-            if (favorite.getItemId() != null) {
-                try {
-                    itemDetail = itemService.getItemDetail(favorite.getItemId());
-                } catch (Exception e) {
-                    log.warn("즐겨찾기 항목의 물건 정보 조회 실패: itemId={}, error={}", 
-                        favorite.getItemId(), e.getMessage());
-                }
-            }
+            ItemDetail itemDetail = favorite.getItemId() != null ? itemDetails.get(favorite.getItemId()) : null;
             
             // ItemDetail 정보 추가
             if (itemDetail != null) {
@@ -332,6 +327,24 @@ public class FavoriteService {
         return processedList;
     }
     
+    /**
+     * 즐겨찾기 목록의 물건 정보 일괄 조회 (itemId(plnmNo) → ItemDetail)
+     */
+    private Map<Long, ItemDetail> loadItemDetails(List<Favorite> favorites) {
+        List<Long> itemIds = new ArrayList<>(favorites.size());
+        for (Favorite favorite : favorites) {
+            if (favorite.getItemId() != null) {
+                itemIds.add(favorite.getItemId());
+            }
+        }
+        try {
+            return itemService.getItemDetails(itemIds);
+        } catch (Exception e) {
+            log.warn("즐겨찾기 물건 정보 일괄 조회 실패: count={}, error={}", itemIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+    
     /**
      * 날짜 포맷팅 (LocalDateTime -> YYYY.MM.DD)
      */
@@ -519,14 +532,13 @@ public class FavoriteService {
             log.info("✅ 즐겨찾기 목록 조회 완료: memberId={}, count={}", memberId, favorites != null ? favorites.size() : 0);
             
             if (favorites != null && !favorites.isEmpty()) {
-                log.info("📋 즐겨찾기 상세 정보:");
-                for (int i = 0; i < favorites.size(); i++) {
-                    Favorite fav = favorites.get(i);
-                    // itemId(plnmNo)로 ItemDetail 조회
-                    ItemDetail itemDetail = fav.getItemId() != null ? itemService.getItemDetail(fav.getItemId()) : null;
-                    String itemName = itemDetail != null ? itemDetail.getAddress() : "null";
-                    log.info("  [{}] favoriteId={}, itemId(plnmNo)={}, address={}", 
-                        i + 1, fav.getFavoriteId(), fav.getItemId(), itemName);
+                if (log.isDebugEnabled()) {
+                    log.debug("📋 즐겨찾기 상세 정보:");
+                    for (int i = 0; i < favorites.size(); i++) {
+                        Favorite fav = favorites.get(i);
+                        log.debug("  [{}] favoriteId={}, itemId(plnmNo)={}", 
+                            i + 1, fav.getFavoriteId(), fav.getItemId());
+                    }
                 }
             } else {
                 log.warn("⚠️ 즐겨찾기 목록이 비어있습니다.");
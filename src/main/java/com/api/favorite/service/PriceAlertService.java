@@ -1,25 +1,31 @@
 package com.api.favorite.service;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.api.favorite.domain.Favorite;
 import com.api.favorite.domain.PriceAlert;
+import com.api.favorite.domain.PriceWatch;
 import com.api.favorite.mapper.FavoriteMapper;
-import com.api.item.domain.Item;
+import com.api.favorite.service.PriceDropDigestRenderer.DigestLine;
+import com.api.favorite.service.PriceMonitorEngine.PriceDrop;
 import com.api.item.dto.ItemDetail;
+import com.api.item.service.ItemPriceHistoryService;
 import com.api.item.service.ItemRestService;
+import com.api.mail.service.EmailOutboxService;
 import com.api.member.domain.Member;
 import com.api.member.mapper.MemberMapper;
 
@@ -35,9 +41,14 @@ public class PriceAlertService {
     private final FavoriteMapper favoriteMapper;
     private final ItemRestService itemService;
     private final MemberMapper memberMapper;
+    private final PriceMonitorEngine priceMonitorEngine;
+    private final ItemPriceHistoryService priceHistory;
+    private final EmailOutboxService emailOutboxService;
+    private final PriceDropDigestRenderer digestRenderer;
+    private final TransactionTemplate transactionTemplate;
     
-    @Autowired(required = false)
-    private JavaMailSender mailSender; 
+    // 알림 히스토리/기준 가격 multi-row INSERT 한 번에 넣는 행 수
+    private static final int BATCH_SIZE = 500;
 
     /**
      * 가격 알림 히스토리 응답 생성
@@ -75,7 +86,7 @@ public class PriceAlertService {
     }
 
     /**
-     * 가격 하락 알림 이메일 전송
+     * 가격 하락 알림 이메일 전송 (메일 발송 대기열에 추가)
      * 
      * @param toEmail 받는 사람 이메일
      * @param memberName 회원 이름
@@ -83,102 +94,54 @@ public class PriceAlertService {
      * @param newPrice 새로운 가격
      * @param currentPrice 현재 가격
      */
-    @Async // 비동기 처리
+    @Transactional
     public void sendPriceDropAlert(String toEmail, String memberName, Favorite favorite, Long newPrice, Long currentPrice) {
-        try {
-            // itemId(plnmNo)로 ItemDetail 조회
-            ItemDetail itemDetail = favorite.getItemId() != null ? itemService.getItemDetail(favorite.getItemId()) : null;
-            String itemName = itemDetail != null && itemDetail.getAddress() != null 
-                ? itemDetail.getAddress() : "상품";
-            String cltrNo = itemDetail != null && itemDetail.getCltrMnmtNo() != null 
-                ? itemDetail.getCltrMnmtNo() : "";
-            
-            String subject = "[가격 하락 알림] " + itemName;
-            StringBuilder content = new StringBuilder();
-            content.append("안녕하세요, ").append(memberName).append("님!\n\n");
-            content.append("즐겨찾기하신 상품의 가격이 하락했습니다.\n\n");
-            content.append("===========================================\n");
-            content.append("상품명: ").append(itemName).append("\n");
-            content.append("공고번호: ").append(cltrNo).append("\n");
-            content.append("이전 가격: ").append(formatPrice(currentPrice)).append("원\n");
-            content.append("현재 가격: ").append(formatPrice(newPrice)).append("원\n");
-
-            if (currentPrice != null && currentPrice > 0) {
-                long priceDrop = currentPrice - newPrice;
-                double dropRate = (double) priceDrop / currentPrice * 100;
-                content.append("하락 금액: ").append(formatPrice(priceDrop)).append("원 (")
-                       .append(String.format("%.1f", dropRate)).append("%)\n");
-            }
-
-            content.append("===========================================\n\n");
-            content.append("자세한 내용은 사이트에서 확인해주세요.\n\n");
-            content.append("감사합니다.");
-
-            sendEmailWithRetry(toEmail, subject, content.toString(), 3);
+        // itemId(plnmNo)로 ItemDetail 조회
+        ItemDetail itemDetail = favorite.getItemId() != null ? itemService.getItemDetail(favorite.getItemId()) : null;
+        enqueuePriceDropDigest(toEmail, memberName, List.of(DigestLine.of(itemDetail, currentPrice, newPrice)));
+    }
 
-            log.info("가격 하락 알림 이메일 전송 성공: {} -> {}", toEmail, itemName);
+    /**
+     * 가격 하락 알림 메일 작성 후 대기열에 추가 (회원 1명당 1통, 물건 정보는 호출자가 미리 조회)
+     * - 실제 전송은 EmailDispatcher가 담당하므로 호출자 트랜잭션이 커밋돼야 발송됨
+     */
+    private void enqueuePriceDropDigest(String toEmail, String memberName, List<DigestLine> lines) {
+        emailOutboxService.enqueue(toEmail, digestRenderer.subject(lines), digestRenderer.render(memberName, lines));
 
-        } catch (Exception e) {
-            log.error("가격 하락 알림 이메일 전송 실패: {}", e.getMessage(), e);
-        }
+        log.debug("가격 하락 알림 메일 대기열 추가: {} -> {}건", toEmail, lines.size());
     }
 
     /**
-     * 일반 알림 이메일 전송
+     * 일반 알림 이메일 전송 (메일 발송 대기열에 추가)
      * 
      * @param toEmail 받는 사람 이메일
      * @param subject 제목
      * @param content 내용
      */
+    @Transactional
     public void sendEmail(String toEmail, String subject, String content) {
-        sendEmailWithRetry(toEmail, subject, content, 3);
-    }
-
-    /**
-     * 이메일 재시도 처리
-     */
-    private void sendEmailWithRetry(String toEmail, String subject, String content, int retryCount) {
-        if (mailSender == null) {
-            log.warn("JavaMailSender가 설정되지 않아 이메일을 전송할 수 없습니다. application.properties에 메일 설정을 추가하세요.");
-            return;
-        }
-
-        for (int i = 0; i < retryCount; i++) {
-            try {
-                SimpleMailMessage message = new SimpleMailMessage();
-                message.setTo(toEmail);
-                message.setSubject(subject);
-                message.setText(content);
-
-                mailSender.send(message);
-                log.info("이메일 전송 성공: {}", toEmail);
-                return;
-
-            } catch (Exception e) {
-                log.error("이메일 전송 실패 ({}회차): {} - {}", i + 1, toEmail, e.getMessage());
-            }
-        }
-        throw new RuntimeException("이메일 전송에 실패했습니다. 최대 재시도 횟수 초과.");
-    }
-
-    /**
-     * 가격 포맷팅
-     */
-    private String formatPrice(Long price) {
-        if (price == null) return "0";
-        return String.format("%,d", price);
+        emailOutboxService.enqueue(toEmail, subject, content);
     }
 
     /**
      * 가격 모니터링 스케줄러
      * 매일 오전 9시와 오후 6시에 실행
+     * - 즐겨찾기/현재 가격/직전 회차 가격/최근 알림/회원을 각각 한 번에 적재한 뒤
+     *   PriceMonitorEngine에서 전체를 한 번에 비교 (즐겨찾기별 조회 없음)
+     * - 기준 가격(price_watch)이 없는 물건은 입찰 회차 이력(item_bid_round)의 직전 회차 가격과 비교,
+     *   둘 다 없으면 기준 가격만 저장
+     * - 현재 가격은 수집된 카탈로그(인덱스 → DB IN 조회)에서만 읽고 온비드는 호출하지 않음
+     *   (수집되지 않은 물건은 이번 회차 비교에서 제외)
+     * - 물건 정보 조회는 트랜잭션 밖에서 하고, 비교/알림/기준 가격 저장만 한 트랜잭션으로 실행
+     *   (중간에 실패하면 알림 히스토리/메일 대기열/기준 가격 모두 롤백)
      */
     @Scheduled(cron = "0 0 9,18 * * *")
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void monitorPrices() {
         log.info("======================================");
         log.info("가격 모니터링 시작");
         log.info("======================================");
+        long startNanos = System.nanoTime();
         
         try {
             // 알림이 활성화된 모든 즐겨찾기 조회
@@ -190,129 +153,144 @@ public class PriceAlertService {
                 return;
             }
             
-            // API에서 최신 상품 정보 조회
-            // TODO: onbidApiService 주입 필요
-            // List<Item> items = onbidApiService.getUnifyUsageCltr(null, 1, 100);
-            List<Item> items = List.of(); // 임시로 빈 리스트
-            log.info("API에서 조회한 상품 수: {}", items.size());
-            
-            int alertCount = 0;
-            
-            // 각 즐겨찾기에 대해 가격 확인
+            // 관심 물건 현재 정보 일괄 조회 (카탈로그 인덱스 → DB IN 조회, 온비드 호출 없음)
+            Set<Long> plnmNos = new LinkedHashSet<>();
             for (Favorite favorite : favorites) {
-                try {
-                    // itemId(plnmNo)로 ItemDetail 조회
-                    if (favorite.getItemId() == null) {
-                        log.debug("물건 ID가 없습니다: favoriteId={}", favorite.getFavoriteId());
-                        continue;
-                    }
-                    
-                    ItemDetail itemDetail = itemService.getItemDetail(favorite.getItemId());
-                    if (itemDetail == null) {
-                        log.debug("물건 정보를 찾을 수 없습니다: plnmNo={}", favorite.getItemId());
-                        continue;
-                    }
-                    
-                    // 해당 상품 찾기 (API에서 조회한 items와 비교)
-                    Item matchedItem = findItemByPlnmNo(items, String.valueOf(favorite.getItemId()));
-                    
-                    if (matchedItem == null) {
-                        log.debug("상품을 찾을 수 없습니다: plnmNo={}", favorite.getItemId());
-                        continue;
-                    }
-                    
-                    // 현재 가격 (최저입찰가 사용)
-                    Long newPrice = matchedItem.getMinBidPriceMin();
-                    if (newPrice == null) {
-                        log.debug("가격 정보가 없습니다: plnmNo={}", favorite.getItemId());
-                        continue;
-                    }
-                    
-                    // 기존 가격 (물건의 최저입찰가 사용)
-                    Long currentPrice = itemDetail.getMinBidPriceMin();
-                    
-                    // 가격 변동 확인
-                    if (currentPrice != null && newPrice < currentPrice) {
-                        // 최근 알림 기록 확인
-                        PriceAlert lastAlert = favoriteMapper.getLastPriceAlertByFavoriteId(favorite.getFavoriteId());
-                        if (lastAlert != null && lastAlert.getNewPrice() != null && lastAlert.getNewPrice().equals(newPrice)) {
-                            log.info("이미 같은 가격으로 알림 전송됨: {} -> {}", itemDetail.getAddress(), newPrice);
-                            continue; // 중복 알림 방지
-                        }
-
-                        // 알림 전송
-                        Member member = memberMapper.getMemberInfo(favorite.getUserId());
-
-                        if (member != null && member.getMail() != null && !member.getMail().isEmpty()) {
-                            sendPriceDropAlert(
-                                member.getMail(),
-                                member.getName(),
-                                favorite,
-                                newPrice,
-                                currentPrice
-                            );
-
-                            // 알림 히스토리 저장
-                            PriceAlert alert = new PriceAlert();
-                            alert.setFavoriteId(favorite.getFavoriteId());
-                            alert.setMemberId(favorite.getUserId());
-                            alert.setItemPlnmNo(favorite.getItemId()); // 물건번호 직접 저장 (favorite 삭제되어도 조회 가능)
-                            alert.setPreviousPrice(currentPrice);
-                            alert.setNewPrice(newPrice);
-                            alert.setAlertSent(true);
-                            alert.setSentDate(new Timestamp(System.currentTimeMillis()));
-
-                            favoriteMapper.insertPriceAlert(alert);
-
-                            alertCount++;
-                            log.info("알림 전송 완료: {} -> {}", member.getMail(), itemDetail.getAddress());
-                        }
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("즐겨찾기 처리 중 오류: favoriteId={} - {}", 
-                        favorite.getFavoriteId(), e.getMessage(), e);
+                if (favorite.getItemId() != null) {
+                    plnmNos.add(favorite.getItemId());
                 }
             }
+            Map<Long, ItemDetail> items = itemService.getItemDetails(plnmNos);
+            Map<Long, Long> currentPrices = new HashMap<>(items.size() * 2);
+            items.forEach((plnmNo, item) -> {
+                if (item.getMinBidPriceMin() != null) {
+                    currentPrices.put(plnmNo, item.getMinBidPriceMin());
+                }
+            });
+            log.info("현재 가격 조회: 물건 {}건 중 {}건", plnmNos.size(), currentPrices.size());
+            
+            // 예외는 트랜잭션 밖으로 전달되어 롤백된 뒤 아래 catch에서 기록
+            Integer alertCount = transactionTemplate.execute(status -> recordPriceDrops(favorites, items, currentPrices));
             
             log.info("======================================");
-            log.info("가격 모니터링 완료 - 전송된 알림 수: {}", alertCount);
+            log.info("가격 모니터링 완료 - 전송된 알림 수: {} ({}ms)", alertCount,
+                (System.nanoTime() - startNanos) / 1_000_000);
             log.info("======================================");
             
         } catch (Exception e) {
             log.error("가격 모니터링 중 오류 발생", e);
         }
     }
-    
+
     /**
-     * 수동으로 가격 모니터링 실행 (테스트용)
+     * 직전 회차 가격/최근 알림과 비교 → 알림 저장 → 이번 회차 가격 저장 (호출자 트랜잭션 안에서 실행)
+     * @return 저장된 알림 수
      */
-    public void monitorPricesManually() {
-        log.info("수동 가격 모니터링 실행");
-        monitorPrices();
+    private int recordPriceDrops(List<Favorite> favorites, Map<Long, ItemDetail> items, Map<Long, Long> currentPrices) {
+        // 직전 회차 가격 / 최근 알림 일괄 조회
+        Map<Long, Long> previousPrices = new HashMap<>();
+        for (PriceWatch watch : favoriteMapper.getPriceWatches()) {
+            if (watch.getMinBidPrice() != null) {
+                previousPrices.put(watch.getItemPlnmNo(), watch.getMinBidPrice());
+            }
+        }
+        // 기준 가격이 없는 물건(새 관심 물건 등)은 회차 이력의 직전 회차 가격으로 보완
+        priceHistory.getPreviousRoundPrices(items).forEach(previousPrices::putIfAbsent);
+        Map<Long, PriceAlert> lastAlerts = new HashMap<>();
+        for (PriceAlert alert : favoriteMapper.getLastPriceAlerts()) {
+            lastAlerts.put(alert.getFavoriteId(), alert);
+        }
+        
+        List<PriceDrop> drops = priceMonitorEngine.findDrops(favorites, currentPrices, previousPrices, lastAlerts);
+        log.info("가격 하락 감지: {}건", drops.size());
+        
+        int alertCount = sendPriceDropAlerts(drops, items);
+        
+        // 이번 회차 가격을 다음 회차 비교 기준으로 저장
+        savePriceWatches(currentPrices);
+        return alertCount;
     }
 
     /**
-     * plnmNo로 Item 찾기
-     * @param items Item 리스트
-     * @param plnmNo 물건번호
-     * @return 매칭되는 Item 또는 null
+     * 가격 하락 알림 메일 대기열 추가 + 히스토리 일괄 저장
+     * - 회원별로 묶어 회원 1명당 다이제스트 메일 1통 (메일 수 = 회원 수)
+     * @return 저장된 알림 수 (즐겨찾기 기준)
      */
-    private Item findItemByPlnmNo(List<Item> items, String plnmNo) {
-        if (items == null || plnmNo == null) {
-            return null;
+    private int sendPriceDropAlerts(List<PriceDrop> drops, Map<Long, ItemDetail> items) {
+        if (drops.isEmpty()) {
+            return 0;
         }
         
-        try {
-            Long plnmNoLong = Long.parseLong(plnmNo);
-            return items.stream()
-                .filter(item -> item.getPlnmNo() != null && item.getPlnmNo().equals(plnmNoLong))
-                .findFirst()
-                .orElse(null);
-        } catch (NumberFormatException e) {
-            log.warn("plnmNo 파싱 실패: {}", plnmNo);
-            return null;
+        // 회원별 하락 목록 (엔진 결과 순서 유지)
+        Map<String, List<PriceDrop>> dropsByMember = new LinkedHashMap<>();
+        for (PriceDrop drop : drops) {
+            dropsByMember.computeIfAbsent(drop.getFavorite().getUserId(), id -> new ArrayList<>()).add(drop);
+        }
+        
+        // 알림 대상 회원 일괄 조회
+        Map<String, Member> members = new HashMap<>();
+        for (Member member : memberMapper.getMembersByIds(dropsByMember.keySet())) {
+            members.put(member.getId(), member);
         }
+        
+        Timestamp sentDate = new Timestamp(System.currentTimeMillis());
+        List<PriceAlert> alerts = new ArrayList<>(drops.size());
+        int digestCount = 0;
+        for (Map.Entry<String, List<PriceDrop>> entry : dropsByMember.entrySet()) {
+            Member member = members.get(entry.getKey());
+            if (member == null || member.getMail() == null || member.getMail().isEmpty()) {
+                continue;
+            }
+            List<PriceDrop> memberDrops = entry.getValue();
+            
+            // 알림 히스토리와 같은 트랜잭션에서 메일 대기열에 추가
+            enqueuePriceDropDigest(member.getMail(), member.getName(),
+                PriceDropDigestRenderer.toLines(memberDrops, items));
+            digestCount++;
+            
+            for (PriceDrop drop : memberDrops) {
+                Favorite favorite = drop.getFavorite();
+                PriceAlert alert = new PriceAlert();
+                alert.setFavoriteId(favorite.getFavoriteId());
+                alert.setMemberId(favorite.getUserId());
+                alert.setItemPlnmNo(favorite.getItemId()); // 물건번호 직접 저장 (favorite 삭제되어도 조회 가능)
+                alert.setPreviousPrice(drop.getPreviousPrice());
+                alert.setNewPrice(drop.getNewPrice());
+                alert.setAlertSent(true);
+                alert.setSentDate(sentDate);
+                alerts.add(alert);
+            }
+        }
+        
+        for (int from = 0; from < alerts.size(); from += BATCH_SIZE) {
+            favoriteMapper.insertPriceAlerts(alerts.subList(from, Math.min(from + BATCH_SIZE, alerts.size())));
+        }
+        log.info("가격 하락 다이제스트 메일: 회원 {}명, 알림 {}건", digestCount, alerts.size());
+        return alerts.size();
     }
-}
 
+    /**
+     * 이번 회차 가격 일괄 저장
+     */
+    private void savePriceWatches(Map<Long, Long> currentPrices) {
+        if (currentPrices.isEmpty()) {
+            return;
+        }
+        Timestamp checkedAt = new Timestamp(System.currentTimeMillis());
+        List<PriceWatch> watches = new ArrayList<>(currentPrices.size());
+        currentPrices.forEach((plnmNo, price) -> watches.add(new PriceWatch(plnmNo, price, checkedAt)));
+        for (int from = 0; from < watches.size(); from += BATCH_SIZE) {
+            favoriteMapper.upsertPriceWatches(watches.subList(from, Math.min(from + BATCH_SIZE, watches.size())));
+        }
+    }
+    
+    /**
+     * 수동으로 가격 모니터링 실행 (테스트용)
+     * - monitorPrices는 트랜잭션을 직접 관리하므로 내부 호출이어도 됨 (클래스 기본 읽기 전용 트랜잭션은 사용하지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void monitorPricesManually() {
+        log.info("수동 가격 모니터링 실행");
+        monitorPrices();
+    }
+}
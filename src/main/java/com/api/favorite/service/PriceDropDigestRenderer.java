@@ -0,0 +1,115 @@
+package com.api.favorite.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.api.favorite.service.PriceMonitorEngine.PriceDrop;
+import com.api.item.dto.ItemDetail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가격 하락 알림 메일 본문 작성 (회원 1명당 1통, 하락 물건 여러 건을 한 메일에)
+ * - 템플릿: classpath:mail/price-drop-digest.txt (Thymeleaf TEXT 모드)
+ * - 템플릿은 기동 시 한 번 파싱해 캐시하고 이후에는 값만 채움
+ */
+@Component
+public class PriceDropDigestRenderer {
+
+    private static final String TEMPLATE = "price-drop-digest";
+
+    private final TemplateEngine templateEngine;
+
+    public PriceDropDigestRenderer() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("mail/");
+        resolver.setSuffix(".txt");
+        resolver.setTemplateMode(TemplateMode.TEXT);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        this.templateEngine = new TemplateEngine();
+        this.templateEngine.setTemplateResolver(resolver);
+
+        // 기동 시 템플릿 파싱/캐시 (템플릿 오류도 기동 시점에 발견)
+        render("", List.of());
+    }
+
+    /**
+     * 회원 1명의 가격 하락 다이제스트 제목
+     */
+    public String subject(List<DigestLine> lines) {
+        if (lines.isEmpty()) {
+            return "[가격 하락 알림]";
+        }
+        String first = lines.get(0).getItemName();
+        return lines.size() == 1
+            ? "[가격 하락 알림] " + first
+            : "[가격 하락 알림] " + first + " 외 " + (lines.size() - 1) + "건";
+    }
+
+    /**
+     * 회원 1명의 가격 하락 다이제스트 본문
+     */
+    public String render(String memberName, List<DigestLine> lines) {
+        Context context = new Context();
+        context.setVariable("memberName", memberName);
+        context.setVariable("itemCount", lines.size());
+        context.setVariable("lines", lines);
+        return templateEngine.process(TEMPLATE, context);
+    }
+
+    /**
+     * 하락 물건 목록 → 메일 한 줄 목록 (물건 정보가 없으면 기본값)
+     */
+    public static List<DigestLine> toLines(List<PriceDrop> drops, Map<Long, ItemDetail> items) {
+        List<DigestLine> lines = new ArrayList<>(drops.size());
+        for (PriceDrop drop : drops) {
+            lines.add(DigestLine.of(items.get(drop.getFavorite().getItemId()), drop.getPreviousPrice(), drop.getNewPrice()));
+        }
+        return lines;
+    }
+
+    /**
+     * 메일에 표시할 물건 1건 (가격은 미리 포맷)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class DigestLine {
+        private final String itemName;
+        private final String cltrNo;
+        private final String previousPrice;
+        private final String newPrice;
+        private final String dropAmount; // 이전 가격이 없으면 null
+        private final String dropRate;
+
+        public static DigestLine of(ItemDetail itemDetail, Long previousPrice, Long newPrice) {
+            String itemName = itemDetail != null && itemDetail.getAddress() != null 
+                ? itemDetail.getAddress() : "상품";
+            String cltrNo = itemDetail != null && itemDetail.getCltrMnmtNo() != null 
+                ? itemDetail.getCltrMnmtNo() : "";
+
+            String dropAmount = null;
+            String dropRate = null;
+            if (previousPrice != null && previousPrice > 0 && newPrice != null) {
+                long priceDrop = previousPrice - newPrice;
+                dropAmount = formatPrice(priceDrop);
+                dropRate = String.format("%.1f", (double) priceDrop / previousPrice * 100);
+            }
+            return new DigestLine(itemName, cltrNo, formatPrice(previousPrice), formatPrice(newPrice), dropAmount, dropRate);
+        }
+
+        private static String formatPrice(Long price) {
+            if (price == null) return "0";
+            return String.format("%,d", price);
+        }
+    }
+}
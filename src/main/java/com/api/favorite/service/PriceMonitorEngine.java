@@ -0,0 +1,99 @@
+package com.api.favorite.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.stereotype.Component;
+
+import com.api.favorite.domain.Favorite;
+import com.api.favorite.domain.PriceAlert;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가격 하락 판정 엔진 (DB/API 호출 없음)
+ * - 미리 적재한 현재 가격 / 직전 회차 가격 / 최근 알림으로 즐겨찾기 전체를 한 번에 비교
+ * - 즐겨찾기 목록을 CPU 코어 수만큼 나눠 병렬 처리
+ */
+@Component
+public class PriceMonitorEngine {
+
+    // 이 건수 이하는 나누지 않고 현재 스레드에서 처리
+    private static final int MIN_PARTITION_SIZE = 512;
+
+    /**
+     * 가격 하락 건 계산
+     * @param favorites 알림 활성화된 즐겨찾기
+     * @param currentPrices 물건번호 → 현재 최저입찰가
+     * @param previousPrices 물건번호 → 직전 회차 최저입찰가
+     * @param lastAlerts 즐겨찾기 ID → 최근 알림
+     * @return 가격 하락 목록 (입력 순서 유지)
+     */
+    public List<PriceDrop> findDrops(List<Favorite> favorites,
+                                     Map<Long, Long> currentPrices,
+                                     Map<Long, Long> previousPrices,
+                                     Map<Long, PriceAlert> lastAlerts) {
+        if (favorites == null || favorites.isEmpty()) {
+            return List.of();
+        }
+
+        int partitions = Math.min(ForkJoinPool.commonPool().getParallelism(),
+                Math.max(1, favorites.size() / MIN_PARTITION_SIZE));
+        if (partitions <= 1) {
+            return scan(favorites, currentPrices, previousPrices, lastAlerts);
+        }
+
+        int chunk = (favorites.size() + partitions - 1) / partitions;
+        List<CompletableFuture<List<PriceDrop>>> futures = new ArrayList<>(partitions);
+        for (int from = 0; from < favorites.size(); from += chunk) {
+            List<Favorite> part = favorites.subList(from, Math.min(from + chunk, favorites.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> scan(part, currentPrices, previousPrices, lastAlerts)));
+        }
+
+        List<PriceDrop> drops = new ArrayList<>();
+        for (CompletableFuture<List<PriceDrop>> future : futures) {
+            drops.addAll(future.join());
+        }
+        return drops;
+    }
+
+    private List<PriceDrop> scan(List<Favorite> favorites,
+                                 Map<Long, Long> currentPrices,
+                                 Map<Long, Long> previousPrices,
+                                 Map<Long, PriceAlert> lastAlerts) {
+        List<PriceDrop> drops = new ArrayList<>();
+        for (Favorite favorite : favorites) {
+            Long plnmNo = favorite.getItemId();
+            if (plnmNo == null) {
+                continue;
+            }
+            Long newPrice = currentPrices.get(plnmNo);
+            Long previousPrice = previousPrices.get(plnmNo);
+            if (newPrice == null || previousPrice == null || newPrice >= previousPrice) {
+                continue;
+            }
+            // 같은 가격으로 이미 알림을 보낸 경우 중복 알림 방지
+            PriceAlert lastAlert = lastAlerts.get(favorite.getFavoriteId());
+            if (lastAlert != null && newPrice.equals(lastAlert.getNewPrice())) {
+                continue;
+            }
+            drops.add(new PriceDrop(favorite, previousPrice, newPrice));
+        }
+        return drops;
+    }
+
+    /**
+     * 즐겨찾기 1건의 가격 하락 정보
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PriceDrop {
+        private final Favorite favorite;
+        private final Long previousPrice;
+        private final Long newPrice;
+    }
+}
@@ -3,7 +3,6 @@ package com.api.item.controller;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,12 +14,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import com.api.item.service.ItemService;
 import com.api.item.service.ItemRestService;
 import com.api.item.service.ItemService.ApiDetailData;
-import com.api.item.service.ItemService.DiscountItem;
-import com.api.item.service.ItemService.NoticeItem;
-import com.api.item.service.ItemService.ScheduleItem;
+import com.api.item.service.ItemService.MainPageSnapshot;
+import com.api.item.service.MainPageSnapshotService;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,67 +27,26 @@ public class ItemController {
 
     private final ItemService itemViewService;
     private final ItemRestService itemRestService;
-    
-    @Data
-    @AllArgsConstructor
-    public static class CategoryStat {
-        private String name;
-        private String fullName;
-        private Integer count;
-    }
+    private final MainPageSnapshotService mainPageSnapshotService;
 
     /**
      * 메인 페이지
      * /main 또는 / 경로로 접근 시 main.html을 반환
-     * ItemViewService를 통해 View용 데이터를 조회하여 화면에 표시
+     * MainPageSnapshotService가 주기적으로 만든 화면 데이터를 그대로 표시
      */
     @GetMapping({"/", "/main"})
     public String mainPage(Model model) {
         log.info("🌐 메인 페이지 접근");
         
-        try {
-            // 1. 신규물건 공지
-            List<NoticeItem> notices = itemViewService.getMainPageNotices(5);
-            model.addAttribute("notices", notices);
-            log.info("📊 신규물건 공지: {}개", notices.size());
-            
-            // 2. 용도별 물건정보 통계
-            Map<String, Integer> categoryStatsMap = itemViewService.getMainPageCategoryStats();
-            // 템플릿에서 쉽게 사용할 수 있도록 DTO 리스트로 변환
-            List<CategoryStat> categoryStats = new ArrayList<>();
-            for (Map.Entry<String, Integer> entry : categoryStatsMap.entrySet()) {
-                String fullName = entry.getKey();
-                // DB의 실제 asset_category 형식: "상가용및업무용건물 / 근린생활시설" -> "근린생활시설"
-                String name = fullName;
-                if (fullName.contains(" / ")) {
-                    String[] parts = fullName.split(" / ");
-                    name = parts[parts.length - 1]; // 마지막 부분만 표시 (중분류)
-                }
-                categoryStats.add(new CategoryStat(name, fullName, entry.getValue()));
-            }
-            model.addAttribute("categoryStats", categoryStats);
-            log.info("📊 카테고리 통계: {}개 카테고리", categoryStats.size());
-            
-            // 3. 금주의 경매일정
-            List<ScheduleItem> scheduleList = itemViewService.getMainPageScheduleList(10);
-            model.addAttribute("scheduleList", scheduleList);
-            log.info("📊 오늘 마감하는 경매일정: {}개", scheduleList.size());
-            
-            // 4. 50% 체감 물건 목록
-            List<DiscountItem> discountList = itemViewService.getMainPageDiscountList(4);
-            model.addAttribute("discountList", discountList);
-            log.info("📊 50% 체감 물건: {}개", discountList.size());
-            
-            log.info("✅ 메인 페이지 데이터 로드 완료: notices={}, categoryStats={}, scheduleList={}, discountList={}", 
-                notices.size(), categoryStats.size(), scheduleList.size(), discountList.size());
-            
-        } catch (Exception e) {
-            log.error("❌ 메인 페이지 데이터 로드 실패", e);
-            // 에러 발생 시 빈 리스트로 설정
-            model.addAttribute("notices", new ArrayList<>());
-            model.addAttribute("categoryStats", new ArrayList<>());
-            model.addAttribute("scheduleList", new ArrayList<>());
-            model.addAttribute("discountList", new ArrayList<>());
+        // 스케줄러가 미리 만든 스냅샷만 읽음 (요청 시 외부 호출 없음)
+        MainPageSnapshot snapshot = mainPageSnapshotService.getSnapshot();
+        model.addAttribute("notices", snapshot.getNotices());
+        model.addAttribute("categoryStats", snapshot.getCategoryStats());
+        model.addAttribute("scheduleList", snapshot.getScheduleList());
+        model.addAttribute("discountList", snapshot.getDiscountList());
+        
+        if (snapshot.isEmpty()) {
+            log.warn("⚠️ 메인 페이지 스냅샷이 아직 생성되지 않음");
         }
         
         return "main";
@@ -19,7 +19,12 @@ import com.api.admin.domain.OperationResponse;
 import com.api.item.domain.Item;
 import com.api.item.dto.ItemBasic;
 import com.api.item.dto.ItemDetail;
+import com.api.item.dto.ItemPriceHistory;
+import com.api.item.service.ItemPriceHistoryService;
 import com.api.item.service.ItemRestService;
+import com.api.union.dto.IngestionJob;
+import com.api.union.service.IngestionJobService;
+import com.api.union.service.OnbidFeed;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +36,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ItemRestController {
 
     private final ItemRestService service;
+    private final IngestionJobService ingestionJobService;
+    private final ItemPriceHistoryService priceHistoryService;
     
     /** 목록 조회 (기본정보만) */
     @GetMapping
@@ -44,6 +51,12 @@ public class ItemRestController {
         return service.getItemDetail(plnmNo);
     }
 
+    /** 입찰 회차별 가격 이력 (최저입찰가/감정가 시계열) */
+    @GetMapping("/{plnmNo}/price-history")
+    public ItemPriceHistory getPriceHistory(@PathVariable Long plnmNo) {
+        return priceHistoryService.getHistory(plnmNo);
+    }
+
     /** 신규 물건 목록 */
     @GetMapping("/new")
     public List<ItemBasic> getNewItems() {
@@ -63,16 +76,18 @@ public class ItemRestController {
     /**
      * DB에서 신물건 조회 (페이징) - 14일 이내
      * GET /items/db/new-items?page=1&size=200
+     * GET /items/db/new-items?cursor={nextCursor}&size=200 (keyset, 깊은 페이지도 같은 비용)
      */
     @GetMapping("/db/new-items")
     public ResponseEntity<ItemListResponse> getNewItemsFromDb(
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "200") int size) {
+            @RequestParam(name = "size", defaultValue = "200") int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         
         log.info("📊 DB 신물건 조회: page={}, size={}", page, size);
         
         try {
-            List<ItemDetail> itemDetails = service.getNewItemsDetail(page, size);
+            List<ItemDetail> itemDetails = service.getNewItemsDetail(page, size, cursor);
             int totalCount = service.countNewItems();
             List<Item> items = ItemDetail.toItems(itemDetails);
             
@@ -84,6 +99,7 @@ public class ItemRestController {
                     .totalCount(totalCount)
                     .currentPageCount(items != null ? items.size() : 0)
                     .items(items != null ? items : List.of())
+                    .nextCursor(itemDetails.size() < size ? null : service.nextCursor(ItemRestService.LIST_NEW, itemDetails))
                     .message("신물건 DB 조회 성공")
                     .build());
         } catch (Exception e) {
@@ -99,17 +115,18 @@ public class ItemRestController {
 
     /**
      * DB에서 감가 50% 이상 물건 조회 (페이징)
-     * GET /items/db/discount-items?page=1&size=200
+     * GET /items/db/discount-items?page=1&size=200 (감정가 대비 비율 순 정렬이라 OFFSET 페이지, nextCursor 없음)
      */
     @GetMapping("/db/discount-items")
     public ResponseEntity<ItemListResponse> getDiscountItemsFromDb(
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "200") int size) {
+            @RequestParam(name = "size", defaultValue = "200") int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         
         log.info("📊 DB 감가 50% 이상 물건 조회: page={}, size={}", page, size);
         
         try {
-            List<ItemDetail> itemDetails = service.getDiscountItemsDetail(page, size);
+            List<ItemDetail> itemDetails = service.getDiscountItemsDetail(page, size, cursor);
             int totalCount = service.countDiscountItems();
             List<Item> items = ItemDetail.toItems(itemDetails);
             
@@ -121,6 +138,7 @@ public class ItemRestController {
                     .totalCount(totalCount)
                     .currentPageCount(items != null ? items.size() : 0)
                     .items(items != null ? items : List.of())
+                    .nextCursor(itemDetails.size() < size ? null : service.nextCursor(ItemRestService.LIST_DISCOUNT, itemDetails))
                     .message("감가 50% 이상 물건 DB 조회 성공")
                     .build());
         } catch (Exception e) {
@@ -137,16 +155,18 @@ public class ItemRestController {
     /**
      * DB에서 용도별 통합 물건 조회 (페이징) - 서울특별시
      * GET /items/db/usage-items?page=1&size=200
+     * GET /items/db/usage-items?cursor={nextCursor}&size=200 (keyset, 깊은 페이지도 같은 비용)
      */
     @GetMapping("/db/usage-items")
     public ResponseEntity<ItemListResponse> getUsageItemsFromDb(
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "200") int size) {
+            @RequestParam(name = "size", defaultValue = "200") int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
         
         log.info("📊 DB 용도별 통합 물건 조회: page={}, size={}", page, size);
         
         try {
-            List<ItemDetail> itemDetails = service.getItemsSeoul(page, size);
+            List<ItemDetail> itemDetails = service.getItemsSeoul(page, size, cursor);
             int totalCount = service.countItemsSeoul();
             List<Item> items = ItemDetail.toItems(itemDetails);
             
@@ -158,6 +178,7 @@ public class ItemRestController {
                     .totalCount(totalCount)
                     .currentPageCount(items != null ? items.size() : 0)
                     .items(items != null ? items : List.of())
+                    .nextCursor(itemDetails.size() < size ? null : service.nextCursor(ItemRestService.LIST_SEOUL, itemDetails))
                     .message("용도별 통합 물건 DB 조회 성공")
                     .build());
         } catch (Exception e) {
@@ -258,7 +279,7 @@ public class ItemRestController {
     // =============================================================================
 
     /**
-     * ApiService를 통한 신물건 일괄 저장 (여러 페이지 순회)
+     * ApiService를 통한 신물건 일괄 저장 (백그라운드 수집 작업으로 등록)
      * POST /items/api/batch-save-new-items
      * Body: { "sido": "서울특별시" }
      */
@@ -266,53 +287,11 @@ public class ItemRestController {
     public ResponseEntity<Map<String, Object>> batchSaveNewItems(@RequestBody Map<String, Object> request) {
         String sido = (String) request.getOrDefault("sido", "서울특별시");
         log.info("💾 ApiService 신물건 일괄 저장 요청: sido={}", sido);
-        
-        try {
-            int totalSaved = 0;
-            int maxPages = 50;
-            
-            for (int page = 1; page <= maxPages; page++) {
-                int saved = service.fetchAndSaveNewItemsFromApi(page, sido);
-                if (saved == 0) {
-                    log.info("💾 ApiService 신물건 저장 종료: page={}에서 데이터 없음", page);
-                    break;
-                }
-                totalSaved += saved;
-                log.info("💾 ApiService 신물건 저장 진행: page={}, saved={}, total={}", page, saved, totalSaved);
-                
-                if (saved < 200) {
-                    log.info("💾 ApiService 신물건 저장 종료: page={}에서 200건 미만", page);
-                    break;
-                }
-                
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-            
-            log.info("💾 ApiService 신물건 일괄 저장 완료: 총 {}건", totalSaved);
-            return ResponseEntity.ok(Map.of(
-                    "success", true,
-                    "message", "ApiService 신물건 일괄 저장 완료: " + totalSaved + "건",
-                    "savedCount", totalSaved,
-                    "totalRequested", totalSaved
-            ));
-        } catch (Exception e) {
-            log.error("❌ ApiService 신물건 일괄 저장 실패: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of(
-                            "success", false,
-                            "message", "ApiService 신물건 일괄 저장 실패: " + e.getMessage(),
-                            "errorType", e.getClass().getSimpleName()
-                    ));
-        }
+        return startIngestionJob(OnbidFeed.NEW, sido);
     }
 
     /**
-     * ApiService를 통한 감가 50% 이상 물건 일괄 저장 (여러 페이지 순회)
+     * ApiService를 통한 감가 50% 이상 물건 일괄 저장 (백그라운드 수집 작업으로 등록)
      * POST /items/api/batch-save-discount-items
      * Body: { "sido": "서울특별시" }
      */
@@ -320,53 +299,11 @@ public class ItemRestController {
     public ResponseEntity<Map<String, Object>> batchSaveDiscountItems(@RequestBody Map<String, Object> request) {
         String sido = (String) request.getOrDefault("sido", "서울특별시");
         log.info("💾 ApiService 감가 50% 이상 물건 일괄 저장 요청: sido={}", sido);
-        
-        try {
-            int totalSaved = 0;
-            int maxPages = 50;
-            
-            for (int page = 1; page <= maxPages; page++) {
-                int saved = service.fetchAndSaveDiscountItemsFromApi(page, sido);
-                if (saved == 0) {
-                    log.info("💾 ApiService 감가 50% 이상 물건 저장 종료: page={}에서 데이터 없음", page);
-                    break;
-                }
-                totalSaved += saved;
-                log.info("💾 ApiService 감가 50% 이상 물건 저장 진행: page={}, saved={}, total={}", page, saved, totalSaved);
-                
-                if (saved < 200) {
-                    log.info("💾 ApiService 감가 50% 이상 물건 저장 종료: page={}에서 200건 미만", page);
-                    break;
-                }
-                
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-            
-            log.info("💾 ApiService 감가 50% 이상 물건 일괄 저장 완료: 총 {}건", totalSaved);
-            return ResponseEntity.ok(Map.of(
-                    "success", true,
-                    "message", "ApiService 감가 50% 이상 물건 일괄 저장 완료: " + totalSaved + "건",
-                    "savedCount", totalSaved,
-                    "totalRequested", totalSaved
-            ));
-        } catch (Exception e) {
-            log.error("❌ ApiService 감가 50% 이상 물건 일괄 저장 실패: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of(
-                            "success", false,
-                            "message", "ApiService 감가 50% 이상 물건 일괄 저장 실패: " + e.getMessage(),
-                            "errorType", e.getClass().getSimpleName()
-                    ));
-        }
+        return startIngestionJob(OnbidFeed.DISCOUNT, sido);
     }
 
     /**
-     * ApiService를 통한 용도별 통합 물건 일괄 저장 (여러 페이지 순회)
+     * ApiService를 통한 용도별 통합 물건 일괄 저장 (백그라운드 수집 작업으로 등록)
      * POST /items/api/batch-save-usage-items
      * Body: { "sido": "서울특별시" }
      */
@@ -374,46 +311,26 @@ public class ItemRestController {
     public ResponseEntity<Map<String, Object>> batchSaveUsageItems(@RequestBody Map<String, Object> request) {
         String sido = (String) request.getOrDefault("sido", "서울특별시");
         log.info("💾 ApiService 용도별 통합 물건 일괄 저장 요청: sido={}", sido);
-        
+        return startIngestionJob(OnbidFeed.USAGE, sido);
+    }
+
+    // 수집 작업 등록 후 바로 응답 (진행 상황: GET /api/admin/ingest-jobs/{jobId})
+    private ResponseEntity<Map<String, Object>> startIngestionJob(OnbidFeed feed, String sido) {
         try {
-            int totalSaved = 0;
-            int maxPages = 50;
-            
-            for (int page = 1; page <= maxPages; page++) {
-                int saved = service.fetchAndSaveUsageItemsFromApi(page, sido);
-                if (saved == 0) {
-                    log.info("💾 ApiService 용도별 통합 물건 저장 종료: page={}에서 데이터 없음", page);
-                    break;
-                }
-                totalSaved += saved;
-                log.info("💾 ApiService 용도별 통합 물건 저장 진행: page={}, saved={}, total={}", page, saved, totalSaved);
-                
-                if (saved < 200) {
-                    log.info("💾 ApiService 용도별 통합 물건 저장 종료: page={}에서 200건 미만", page);
-                    break;
-                }
-                
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-            
-            log.info("💾 ApiService 용도별 통합 물건 일괄 저장 완료: 총 {}건", totalSaved);
-            return ResponseEntity.ok(Map.of(
+            IngestionJob job = ingestionJobService.start(feed, sido);
+            return ResponseEntity.accepted().body(Map.of(
                     "success", true,
-                    "message", "ApiService 용도별 통합 물건 일괄 저장 완료: " + totalSaved + "건",
-                    "savedCount", totalSaved,
-                    "totalRequested", totalSaved
+                    "message", "ApiService " + feed.getLabel() + " 일괄 저장 작업 " + job.getStatus() + " (jobId=" + job.getId() + ")",
+                    "jobId", job.getId(),
+                    "status", job.getStatus(),
+                    "savedCount", job.getSavedCount()
             ));
         } catch (Exception e) {
-            log.error("❌ ApiService 용도별 통합 물건 일괄 저장 실패: {}", e.getMessage(), e);
+            log.error("❌ ApiService {} 일괄 저장 작업 등록 실패: {}", feed.getLabel(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of(
                             "success", false,
-                            "message", "ApiService 용도별 통합 물건 일괄 저장 실패: " + e.getMessage(),
+                            "message", "ApiService " + feed.getLabel() + " 일괄 저장 작업 등록 실패: " + e.getMessage(),
                             "errorType", e.getClass().getSimpleName()
                     ));
         }
@@ -29,5 +29,6 @@ public class ItemBasic{
 	private LocalDateTime bidEnd; // 매각기일 종료
 	private String disposalMethod; // 처분방식
 	private String bidMethod; // 입찰방식
-	private Integer bidCount; // 입찰 횟수 (중복 입찰 시 증가)
+	private Integer bidCount; // 입찰 횟수 (중복 회차 수, 수집 시 계산)
+	private Long contentHash; // 내용 지문 (변경 없는 행은 upsert 생략)
 	}
@@ -0,0 +1,25 @@
+package com.api.item.dto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBidRound {
+
+    private Long plnmNo;              // 물건번호
+    private LocalDateTime bidStart;   // 회차 입찰 시작 (물건별 회차 구분 키)
+    private LocalDateTime bidEnd;     // 회차 입찰 종료
+    private Long pbctNo;              // 입찰번호
+    private String bidRoundNo;        // 입찰회차
+    private Long minBidPrice;         // 회차 최저입찰가
+    private Long appraisalAmount;     // 감정가
+    private Timestamp recordedAt;     // 마지막으로 기록된 시각
+}
@@ -0,0 +1,28 @@
+package com.api.item.dto;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemChangeEvent {
+
+    public static final String TYPE_NEW = "NEW";
+    public static final String TYPE_PRICE = "PRICE";
+    public static final String TYPE_STATUS = "STATUS";
+    public static final String TYPE_ROUND = "ROUND";
+    public static final String TYPE_REMOVED = "REMOVED";
+
+    private Long id;              // 로그 오프셋 (증가하는 순번)
+    private Long plnmNo;          // 물건번호
+    private String eventType;     // NEW / PRICE / STATUS / ROUND / REMOVED
+    private String oldValue;      // 변경 전 값 (PRICE: 최저입찰가, STATUS: 입찰상태, ROUND: 입찰회차)
+    private String newValue;      // 변경 후 값 (NEW: 최저입찰가)
+    private Timestamp createdAt;
+}
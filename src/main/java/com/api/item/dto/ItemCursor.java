@@ -0,0 +1,54 @@
+package com.api.item.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 목록 keyset 페이지 커서 (마지막 행의 정렬 시각, plnm_no)
+ * - 정렬 시각은 목록 종류에 따라 bid_end(전체/서울, plnm_no 오름차순) 또는 bid_start(신물건, plnm_no 내림차순)
+ * - 문자열 형식: "2025-01-31T10:00_754512"
+ */
+@Getter
+@AllArgsConstructor
+public class ItemCursor {
+
+	private final LocalDateTime sortTime;
+	private final Long plnmNo;
+
+	// 페이지의 마지막 행으로 다음 페이지 커서 생성 (빈 페이지이거나 정렬 시각이 없으면 null)
+	public static ItemCursor last(List<ItemDetail> items, Function<ItemDetail, LocalDateTime> sortTime) {
+		if (items == null || items.isEmpty()) {
+			return null;
+		}
+		ItemDetail last = items.get(items.size() - 1);
+		if (last == null || sortTime.apply(last) == null || last.getPlnmNo() == null) {
+			return null;
+		}
+		return new ItemCursor(sortTime.apply(last), last.getPlnmNo());
+	}
+
+	// 문자열 커서 해석 (형식이 잘못되면 null)
+	public static ItemCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		int sep = cursor.lastIndexOf('_');
+		if (sep <= 0) {
+			return null;
+		}
+		try {
+			return new ItemCursor(LocalDateTime.parse(cursor.substring(0, sep)),
+					Long.parseLong(cursor.substring(sep + 1)));
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	public String encode() {
+		return sortTime + "_" + plnmNo;
+	}
+}
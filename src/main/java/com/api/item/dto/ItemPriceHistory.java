@@ -0,0 +1,29 @@
+package com.api.item.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 물건별 회차 가격 이력 응답
+ * - rounds: 입찰 시작일 오름차순 회차 목록
+ * - 가격 시계열은 첫 값(base) + 직전 회차 대비 차이(deltas)로 전달 (차트/하락 여부 판단용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemPriceHistory {
+
+    private Long plnmNo;
+    private List<ItemBidRound> rounds;
+
+    private Long minBidPriceBase;          // 첫 회차 최저입찰가
+    private List<Long> minBidPriceDeltas;  // 2회차부터 직전 회차 대비 차이 (음수 = 하락, 값 없으면 null)
+
+    private Long appraisalAmountBase;
+    private List<Long> appraisalAmountDeltas;
+}
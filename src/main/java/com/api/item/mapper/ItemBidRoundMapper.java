@@ -0,0 +1,22 @@
+package com.api.item.mapper;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.api.item.dto.ItemBidRound;
+
+@Mapper
+public interface ItemBidRoundMapper {
+
+    // 회차 일괄 기록 (같은 물건/입찰 시작일이면 갱신)
+    int upsertRounds(@Param("rounds") List<ItemBidRound> rounds);
+
+    // 물건별 회차 이력 (입찰 시작일 오름차순)
+    List<ItemBidRound> findByPlnmNo(@Param("plnmNo") Long plnmNo);
+
+    // 물건별 최근 회차 최대 2건 (물건번호, 입찰 시작일 내림차순)
+    List<ItemBidRound> findRecentRounds(@Param("plnmNos") Collection<Long> plnmNos);
+}
@@ -0,0 +1,30 @@
+package com.api.item.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.api.item.dto.ItemChangeEvent;
+
+@Mapper
+public interface ItemChangeEventMapper {
+
+    // 이벤트 일괄 추가 (multi-row INSERT)
+    int insertEvents(@Param("events") List<ItemChangeEvent> events);
+
+    // 삭제 직전 대상 물건의 REMOVED 이벤트 추가 (scope: ALL / NEW / DISCOUNT / USAGE / CLTR_NO)
+    int insertRemovedEvents(@Param("scope") String scope, @Param("cltrNo") String cltrNo);
+
+    // 오프셋 이후 이벤트 중 기록된 지 lagSeconds가 지난 것만 (id 오름차순)
+    List<ItemChangeEvent> findAfter(@Param("afterId") long afterId,
+                                    @Param("eventType") String eventType,
+                                    @Param("limit") int limit,
+                                    @Param("lagSeconds") int lagSeconds);
+
+    // 기록된 지 lagSeconds가 지난 가장 최근 오프셋 (비어 있으면 0)
+    long findLatestId(@Param("lagSeconds") int lagSeconds);
+
+    // 보관 기간이 지난 이벤트 삭제
+    int deleteOlderThan(@Param("retentionDays") int retentionDays, @Param("limit") int limit);
+}
@@ -1,5 +1,7 @@
 package com.api.item.mapper;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.annotations.Mapper;
@@ -23,6 +25,9 @@ public interface ItemMapper {
     // 상세: 기본 + 상세 조인
     ItemDetail findDetail(Long plnmNo);
     
+    // 상세: 여러 물건번호 일괄 조회 (IN)
+    List<ItemDetail> findDetails(@Param("plnmNos") Collection<Long> plnmNos);
+    
     // 상세: cltrMnmtNo로 조회
     ItemDetail findDetailByCltrMnmtNo(String cltrMnmtNo);
 
@@ -31,6 +36,15 @@ public interface ItemMapper {
 
     // API 저장: 상세 정보 upsert
     int upsertItemDetail(ItemDetail item);
+
+    // API 저장: 기본 정보 다건 upsert (multi-row INSERT)
+    int upsertItemBasicBatch(@Param("items") List<ItemBasic> items);
+
+    // plnmNo별 저장된 내용 지문 (plnmNo, contentHash만 채움)
+    List<ItemBasic> findContentHashes(@Param("plnmNos") Collection<Long> plnmNos);
+
+    // API 저장: 상세 정보 다건 upsert (multi-row INSERT)
+    int upsertItemDetailBatch(@Param("items") List<ItemDetail> items);
     
     // 삭제: plnmNo로 item_detail 삭제
     int deleteItemByPlnmNo(Long plnmNo);
@@ -38,41 +52,26 @@ public interface ItemMapper {
     // 삭제: plnmNo로 item_basic 삭제
     int deleteItemBasicByPlnmNo(Long plnmNo);
     
-    // 삭제: 서울특별시가 아닌 데이터 삭제
-    int deleteNonSeoulItems();
-    
     // 삭제: 전체 삭제
     int deleteAllItems();
     
-    // 조회: 서울특별시 물건 조회 (페이징) - ItemDetail 반환
-    List<ItemDetail> findItemsSeoul(@Param("offset") int offset, @Param("limit") int limit);
-    
-    // 조회: 서울특별시 물건 총 개수
-    int countItemsSeoul();
-    
-    // 조회: 전체 물건 조회 (페이징) - ItemDetail 반환
-    List<ItemDetail> findAllItems(@Param("offset") int offset, @Param("limit") int limit, @Param("category") String category);
-    
-    // 조회: 전체 물건 총 개수
-    int countAllItems(@Param("category") String category);
-    
     // 삭제: ID(plnmNo)로 삭제
     int deleteItemById(Long id);
     
     // 삭제: 물건번호(cltrMnmtNo)로 삭제
     int deleteItemByCltrNo(String cltrNo);
     
-    // 조회: 신규 물건 조회 (페이징) - ItemDetail 반환 (14일 이내)
-    List<ItemDetail> findNewItemsDetail(@Param("offset") int offset, @Param("limit") int limit);
-    
-    // 조회: 신규 물건 총 개수 (14일 이내)
-    int countNewItems();
-    
-    // 조회: 감가 50% 이상 물건 조회 (페이징) - ItemDetail 반환
-    List<ItemDetail> findDiscountItemsDetail(@Param("offset") int offset, @Param("limit") int limit);
-    
-    // 조회: 감가 50% 이상 물건 총 개수
-    int countDiscountItems();
+    // 조회: 목록 페이지 (keyset) - listType: ALL / SEOUL / NEW / DISCOUNT
+    // afterTime(ALL/SEOUL은 bid_end, NEW는 bid_start), afterPlnmNo가 있으면 그 다음 행부터, 없으면 offset부터 조회
+    List<ItemDetail> findItemPage(@Param("listType") String listType,
+                                  @Param("category") String category,
+                                  @Param("afterTime") LocalDateTime afterTime,
+                                  @Param("afterPlnmNo") Long afterPlnmNo,
+                                  @Param("offset") int offset,
+                                  @Param("limit") int limit);
+    
+    // 조회: 목록 총 개수
+    int countItemPage(@Param("listType") String listType, @Param("category") String category);
     
     // 조회: 오늘 마감하는 물건 조회 (경매일정용)
     List<ItemDetail> findTodayClosingItems(@Param("limit") int limit);
@@ -0,0 +1,62 @@
+package com.api.item.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.api.item.dto.ItemBasic;
+import com.api.item.dto.ItemDetail;
+
+/**
+ * 전체 재적재용 shadow 테이블 (item_basic_shadow / item_detail_shadow)
+ * - DDL은 암묵적으로 커밋되므로 트랜잭션 밖에서 호출
+ */
+@Mapper
+public interface ItemReloadMapper {
+
+    // 이전 재적재에서 남은 shadow / old 테이블 정리
+    void dropShadowTables();
+
+    void dropOldTables();
+
+    // 운영 테이블과 같은 구조로 shadow 생성
+    void createBasicShadow();
+
+    void createDetailShadow();
+
+    // 적재 중에는 보조 인덱스 없이 PK만 유지
+    void dropShadowSecondaryIndexes();
+
+    void dropDetailShadowSecondaryIndexes();
+
+    // 교체 직전 item_detail_shadow 보조 인덱스를 한 번에 생성
+    void createDetailShadowSecondaryIndexes();
+
+    // shadow 다건 적재 (multi-row INSERT)
+    int insertBasicShadow(@Param("items") List<ItemBasic> items);
+
+    int insertDetailShadow(@Param("items") List<ItemDetail> items);
+
+    long countBasicShadow();
+
+    // 운영 테이블과 shadow 비교로 변경 이벤트 기록 (NEW / PRICE / STATUS / ROUND, REMOVED는 sidos 범위의 삭제 대상만)
+    int insertReloadEvents(@Param("sidos") List<String> sidos);
+
+    // after 다음부터 limit건째 plnm_no (구간 끝, 남은 행이 없으면 null)
+    Long findShadowChunkEnd(@Param("after") long after, @Param("limit") int limit);
+
+    Long findLiveChunkEnd(@Param("after") long after, @Param("limit") int limit);
+
+    // item_basic 구간 병합 (지문이 다른 행만)
+    int mergeBasicChunk(@Param("after") long after, @Param("upTo") long upTo);
+
+    // 재적재 결과에 없지만 삭제하지 않을 행의 상세 정보를 교체 전 shadow로 복사
+    int copyKeptDetailChunk(@Param("after") long after, @Param("upTo") long upTo, @Param("sidos") List<String> sidos);
+
+    // 재적재 결과에 없는 행 중 sidos 범위이고 참조가 없는 행만 삭제 (sidos는 비어 있으면 안 됨)
+    int deleteMissingBasicChunk(@Param("after") long after, @Param("upTo") long upTo, @Param("sidos") List<String> sidos);
+
+    // item_detail ↔ shadow 원자적 교체 (운영 테이블은 item_detail_old로)
+    void swapDetailTables();
+}
@@ -0,0 +1,238 @@
+package com.api.item.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.api.item.dto.ItemBasic;
+import com.api.item.dto.ItemDetail;
+import com.api.item.mapper.ItemReloadMapper;
+import com.api.union.dto.IngestionResult;
+import com.api.union.service.ItemFetchService;
+import com.api.union.service.OnbidFeed;
+import com.api.union.service.PageIngestionEngine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 카탈로그 재적재 (shadow 테이블 적재 후 교체)
+ * - 운영 테이블은 그대로 두고 item_basic_shadow / item_detail_shadow에 보조 인덱스 없이 적재
+ * - item_detail은 RENAME TABLE 한 문장으로 통째로 교체 (보조 인덱스는 적재가 끝난 뒤 교체 직전에 한 번에 생성)
+ * - item_basic_shadow는 병합 원본으로만 쓰고 버리므로 보조 인덱스를 다시 만들지 않음
+ * - item_basic은 favorite / PriceAlert / payment_base 등이 FK로 참조하고 있어 RENAME하면 FK가 이전 테이블로 따라가므로,
+ *   PK 구간별 짧은 트랜잭션으로 지문이 다른 행만 병합하고 없어진 행을 삭제
+ * - 없어진 행의 삭제는 모든 목록(feed)을 마지막 페이지까지 받은 시도 안에서, 관심/결제/알림이 참조하지 않는 물건만
+ *   (일부 목록/시도만 재적재했거나 최대 페이지에서 멈춘 경우, 참조 중인 물건은 상세 정보를 shadow로 복사해 그대로 유지)
+ * - 목록/상세는 item_basic과 item_detail을 INNER JOIN하므로 병합 중 새 행은 detail 교체 전까지 보이지 않고,
+ *   삭제 대상 행은 detail 교체 시점에 함께 사라짐 (빈 목록/긴 잠금 없음)
+ * - 중간에 실패하면 shadow만 버리고 운영 테이블은 바뀌지 않음 (item_detail 교체 전까지)
+ * - 재적재 중 일반 수집으로 운영 테이블에 저장된 변경은 교체 시 덮어써지며, 다음 수집에서 다시 반영됨
+ */
+@Slf4j
+@Service
+public class CatalogReloadService {
+
+    private static final int INSERT_CHUNK_SIZE = 500; // multi-row INSERT 1회당 최대 행 수
+    private static final int MERGE_CHUNK_SIZE = 2000; // item_basic 병합/정리 1회(트랜잭션)당 PK 구간 크기
+
+    private final ItemReloadMapper reloadMapper;
+    private final ItemFetchService itemFetchService;
+    private final PageIngestionEngine ingestionEngine;
+    private final ItemFingerprintStore fingerprintStore;
+    private final ItemCatalogIndex catalogIndex;
+    private final DuplicateItemGrouper duplicateGrouper;
+    private final Executor jobExecutor;
+    private final int maxPages;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Map<String, Object> lastResult = Map.of();
+
+    public CatalogReloadService(ItemReloadMapper reloadMapper,
+                                ItemFetchService itemFetchService,
+                                PageIngestionEngine ingestionEngine,
+                                ItemFingerprintStore fingerprintStore,
+                                ItemCatalogIndex catalogIndex,
+                                DuplicateItemGrouper duplicateGrouper,
+                                @Qualifier("ingestJobExecutor") Executor jobExecutor,
+                                @Value("${onbid.ingest.max-pages:50}") int maxPages) {
+        this.reloadMapper = reloadMapper;
+        this.itemFetchService = itemFetchService;
+        this.ingestionEngine = ingestionEngine;
+        this.fingerprintStore = fingerprintStore;
+        this.catalogIndex = catalogIndex;
+        this.duplicateGrouper = duplicateGrouper;
+        this.jobExecutor = jobExecutor;
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * 백그라운드 재적재 시작 (이미 실행 중이거나 실행기가 가득 차면 false)
+     */
+    public boolean start(List<OnbidFeed> feeds, List<String> sidos) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    reload(feeds, sidos);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.warn("⚠️ 수집 작업 실행기가 가득 차 카탈로그 재적재를 시작하지 못함");
+            return false;
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("running", running.get());
+        result.put("last", lastResult);
+        return result;
+    }
+
+    private void reload(List<OnbidFeed> feeds, List<String> sidos) {
+        long startNanos = System.nanoTime();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startedAt", LocalDateTime.now().toString());
+        result.put("feeds", feeds);
+        result.put("sidos", sidos);
+        try {
+            reloadMapper.dropShadowTables();
+            reloadMapper.dropOldTables();
+            reloadMapper.createBasicShadow();
+            reloadMapper.createDetailShadow();
+            reloadMapper.dropShadowSecondaryIndexes();
+            reloadMapper.dropDetailShadowSecondaryIndexes();
+
+            int pagesFetched = 0;
+            Map<String, Set<OnbidFeed>> completedFeeds = new HashMap<>();
+            for (OnbidFeed feed : feeds) {
+                for (String sido : sidos) {
+                    IngestionResult loaded = ingestionEngine.run("재적재 " + feed.getLabel() + "(" + sido + ")", 1, maxPages,
+                            page -> itemFetchService.fetchPageOrThrow(feed, page, sido),
+                            this::insertShadow);
+                    pagesFetched += loaded.getPagesFetched();
+                    if (loaded.isCompleted()) {
+                        completedFeeds.computeIfAbsent(sido, k -> EnumSet.noneOf(OnbidFeed.class)).add(feed);
+                    }
+                }
+            }
+            // 없어진 물건을 삭제해도 되는 시도: 모든 목록을 마지막 페이지까지 받은 곳만
+            List<String> removableSidos = new ArrayList<>();
+            for (String sido : sidos) {
+                Set<OnbidFeed> completed = completedFeeds.get(sido);
+                if (completed != null && completed.size() == OnbidFeed.values().length) {
+                    removableSidos.add(sido);
+                }
+            }
+            if (removableSidos.size() < sidos.size()) {
+                log.warn("⚠️ 카탈로그 재적재: 일부 목록/시도가 끝까지 적재되지 않아 해당 범위의 없어진 물건은 삭제하지 않음 (삭제 가능 시도 {}/{})",
+                    removableSidos.size(), sidos.size());
+            }
+            long loadMs = (System.nanoTime() - startNanos) / 1_000_000;
+
+            long rows = reloadMapper.countBasicShadow();
+            if (rows == 0) {
+                // 온비드 장애 등으로 아무것도 받지 못했을 때 카탈로그를 비우지 않도록
+                throw new IllegalStateException("적재된 물건이 없어 교체하지 않음");
+            }
+
+            int events = reloadMapper.insertReloadEvents(removableSidos);
+
+            // 1) 새/바뀐 기본 정보 병합 (새 물건은 detail 교체 전까지 JOIN 결과에 나오지 않음)
+            int merged = 0;
+            long after = 0;
+            for (Long upTo; (upTo = reloadMapper.findShadowChunkEnd(after, MERGE_CHUNK_SIZE)) != null; after = upTo) {
+                merged += reloadMapper.mergeBasicChunk(after, upTo);
+            }
+
+            // 2) 삭제하지 않을 기존 행의 상세 정보를 shadow로 복사한 뒤 원자적 교체
+            int kept = 0;
+            after = 0;
+            for (Long upTo; (upTo = reloadMapper.findLiveChunkEnd(after, MERGE_CHUNK_SIZE)) != null; after = upTo) {
+                kept += reloadMapper.copyKeptDetailChunk(after, upTo, removableSidos);
+            }
+            reloadMapper.createDetailShadowSecondaryIndexes();
+            reloadMapper.swapDetailTables();
+            reloadMapper.dropOldTables();
+
+            // 3) 재적재 결과에 없는 기본 정보 중 삭제 가능한 행만 삭제
+            int removed = 0;
+            if (!removableSidos.isEmpty()) {
+                after = 0;
+                for (Long upTo; (upTo = reloadMapper.findLiveChunkEnd(after, MERGE_CHUNK_SIZE)) != null; after = upTo) {
+                    removed += reloadMapper.deleteMissingBasicChunk(after, upTo, removableSidos);
+                }
+            }
+            reloadMapper.dropShadowTables();
+
+            fingerprintStore.clear();
+            catalogIndex.clear();
+
+            long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            result.put("status", "COMPLETED");
+            result.put("rows", rows);
+            result.put("pagesFetched", pagesFetched);
+            result.put("basicMerged", merged);
+            result.put("basicRemoved", removed);
+            result.put("basicKept", kept);
+            result.put("removableSidos", removableSidos);
+            result.put("changeEvents", events);
+            result.put("loadMs", loadMs);
+            result.put("elapsedMs", elapsedMs);
+            log.info("✅ 카탈로그 재적재 완료: {}건, {}페이지, 병합 {}건, 삭제 {}건, 유지 {}건, 변경 이벤트 {}건, 적재 {}ms, 전체 {}ms ({} rows/sec)",
+                rows, pagesFetched, merged, removed, kept, events, loadMs, elapsedMs, rows * 1000L / Math.max(1, loadMs));
+        } catch (Exception e) {
+            result.put("status", "FAILED");
+            result.put("error", e.getMessage());
+            log.error("❌ 카탈로그 재적재 실패 - shadow 테이블 정리", e);
+            try {
+                reloadMapper.dropShadowTables();
+            } catch (Exception cleanup) {
+                log.warn("⚠️ shadow 테이블 정리 실패: {}", cleanup.getMessage());
+            }
+        }
+        result.put("finishedAt", LocalDateTime.now().toString());
+        lastResult = result;
+    }
+
+    // 일반 수집(upsertItems)과 같이 회차 행을 최신 회차 하나로 묶은 뒤 지문 계산
+    private int insertShadow(List<ItemDetail> items) {
+        List<ItemDetail> rows = new ArrayList<>(items.size());
+        for (ItemDetail item : items) {
+            if (item != null && item.getPlnmNo() != null) {
+                rows.add(item);
+            }
+        }
+        List<ItemDetail> valid = duplicateGrouper.group(rows);
+        for (int from = 0; from < valid.size(); from += INSERT_CHUNK_SIZE) {
+            List<ItemDetail> chunk = valid.subList(from, Math.min(from + INSERT_CHUNK_SIZE, valid.size()));
+            List<ItemBasic> basics = new ArrayList<>(chunk.size());
+            for (ItemDetail detail : chunk) {
+                ItemBasic basic = ItemRestService.convertToBasic(detail);
+                basic.setContentHash(ItemFingerprintStore.fingerprint(detail));
+                basics.add(basic);
+            }
+            reloadMapper.insertBasicShadow(basics);
+            reloadMapper.insertDetailShadow(chunk);
+        }
+        return valid.size();
+    }
+}
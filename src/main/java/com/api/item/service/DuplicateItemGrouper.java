@@ -0,0 +1,139 @@
+package com.api.item.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.api.item.dto.ItemDetail;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 온비드 페이지 중복 물건 그룹화
+ * - 같은 물건(plnmNo, 없으면 cltrMnmtNo)이 여러 번 나오면 입찰 시작일이 가장 최근인 행만 남기고 나머지 개수를 유찰 횟수(bidCount)로 더함
+ * - cltrMnmtNo 키는 앞뒤 공백을 제거해 비교 (기존 문자열 키 방식은 공백이 다르면 다른 물건으로 취급했음)
+ * - plnmNo는 long 키 그대로 open addressing 배열에 넣고, cltrMnmtNo 키(plnmNo가 없는 행)만 HashMap 사용
+ * - 입력을 한 번만 훑으며 행마다 객체를 만들지 않음 (호출당 배열 몇 개만 할당)
+ * - 결과는 각 물건이 처음 나온 순서
+ * - 통계 로그는 DEBUG, INFO는 LOG_SAMPLE_INTERVAL 호출마다 한 번
+ */
+@Slf4j
+@Component
+public class DuplicateItemGrouper {
+
+    private static final int LOG_SAMPLE_INTERVAL = 100;
+
+    private final AtomicLong calls = new AtomicLong();
+
+    public List<ItemDetail> group(List<ItemDetail> items) {
+        int n = items.size();
+
+        // plnmNo → 그룹 번호 + 1 (0 = 빈 칸), 적재율 50% 이하
+        int capacity = Integer.highestOneBit(Math.max(2, n) * 2 - 1) << 1;
+        long[] keys = new long[capacity];
+        int[] slots = new int[capacity];
+        int mask = capacity - 1;
+
+        Map<String, Integer> cltrGroups = null;
+        ItemDetail[] latest = new ItemDetail[n];
+        int[] counts = new int[n];
+        int groups = 0;
+        int plnmKeyCount = 0;
+        int cltrKeyCount = 0;
+        int nullKeyCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            ItemDetail item = items.get(i);
+            if (item == null) {
+                continue;
+            }
+
+            int group;
+            Long plnmNo = item.getPlnmNo();
+            if (plnmNo != null) {
+                plnmKeyCount++;
+                long key = plnmNo;
+                int pos = mix(key) & mask;
+                while (slots[pos] != 0 && keys[pos] != key) {
+                    pos = (pos + 1) & mask;
+                }
+                if (slots[pos] == 0) {
+                    keys[pos] = key;
+                    slots[pos] = groups + 1;
+                    group = groups++;
+                } else {
+                    group = slots[pos] - 1;
+                }
+            } else {
+                String cltrMnmtNo = item.getCltrMnmtNo();
+                if (cltrMnmtNo != null && !cltrMnmtNo.isBlank()) {
+                    cltrKeyCount++;
+                    if (cltrGroups == null) {
+                        cltrGroups = new HashMap<>();
+                    }
+                    Integer found = cltrGroups.putIfAbsent(cltrMnmtNo.trim(), groups);
+                    group = found != null ? found : groups++;
+                } else {
+                    // 키가 없으면 그대로 추가 (중복 처리 불가)
+                    nullKeyCount++;
+                    group = groups++;
+                }
+            }
+
+            counts[group]++;
+            if (latest[group] == null || isNewer(item, latest[group])) {
+                latest[group] = item;
+            }
+        }
+
+        List<ItemDetail> result = new ArrayList<>(groups);
+        int duplicateGroups = 0;
+        int withBidCount = 0;
+        for (int g = 0; g < groups; g++) {
+            ItemDetail item = latest[g];
+            Integer existing = item.getBidCount();
+            if (counts[g] > 1) {
+                // 최신 것 제외한 나머지 개수 + 기존 유찰 횟수
+                item.setBidCount(counts[g] - 1 + (existing != null && existing > 0 ? existing : 0));
+                duplicateGroups++;
+            } else if (existing == null) {
+                item.setBidCount(0);
+            }
+            if (item.getBidCount() > 0) {
+                withBidCount++;
+            }
+            result.add(item);
+        }
+
+        long call = calls.incrementAndGet();
+        if (call % LOG_SAMPLE_INTERVAL == 1) {
+            log.info("🔄 중복 물건 그룹화 (샘플 1/{}): 입력={}건, 결과={}건, 중복 그룹={}개, 유찰 횟수 > 0={}건",
+                LOG_SAMPLE_INTERVAL, n, groups, duplicateGroups, withBidCount);
+        } else if (log.isDebugEnabled()) {
+            log.debug("🔄 중복 물건 그룹화: 입력={}건, 결과={}건, 중복 그룹={}개, 유찰 횟수 > 0={}건, plnmNo 키={}, cltrMnmtNo 키={}, 키 없음={}",
+                n, groups, duplicateGroups, withBidCount, plnmKeyCount, cltrKeyCount, nullKeyCount);
+        }
+        return result;
+    }
+
+    // 입찰 시작일이 더 최근이면 교체 (같으면 먼저 나온 행 유지, 입찰 시작일 없는 행은 다른 행이 없을 때만 선택)
+    private static boolean isNewer(ItemDetail candidate, ItemDetail current) {
+        LocalDateTime candidateStart = candidate.getBidStart();
+        if (candidateStart == null) {
+            return false;
+        }
+        LocalDateTime currentStart = current.getBidStart();
+        return currentStart == null || candidateStart.isAfter(currentStart);
+    }
+
+    // plnmNo는 연속된 값이 많으므로 하위 비트가 고르게 퍼지도록 섞음
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,308 @@
+package com.api.item.service;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import com.api.config.CacheConfig;
+import com.api.item.dto.ItemDetail;
+import com.api.union.service.ApiService;
+import com.api.util.OnbidPage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 온비드 목록 페이지 캐시 (page, sido 단위)
+ * - @Cacheable은 프록시를 거쳐야 적용되므로 ItemRestService와 분리된 빈으로 둠
+ * - 캐시 값은 수정할 수 없는 목록이며, 카탈로그 인덱스는 넣을 때 사본을 만들어 서로 공유하지 않음
+ * - 호출하는 쪽은 ItemRestService.fetch*FromApi를 사용 (매번 수정 가능한 사본을 받음)
+ * - 온비드 장애로 이전 정상 응답(stale)을 받은 경우 화면 표시용으로만 돌려주고 캐시/카탈로그 인덱스에는 넣지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemApiPageService {
+
+    private final ApiService apiService;
+    private final ItemCatalogIndex catalogIndex;
+    private final ItemPriceHistoryService priceHistory;
+    private final DuplicateItemGrouper duplicateGrouper;
+
+    private static final int PAGE_SIZE = 200; // 페이지당 200건
+
+    // 빈 결과(온비드 오류 응답 포함)와 장애 대체 응답(stale)은 캐싱하지 않음
+    static final String UNLESS = "#result == null or #result.isEmpty()"
+            + " or #result instanceof T(com.api.item.service.ItemApiPageService$StaleItems)";
+
+    /**
+     * 신물건 조회 (페이지네이션) - 200건씩
+     * 캐싱: 동일한 page, sido 조합에 대해 캐시 사용 (만료/크기는 CacheConfig 캐시별 설정, 기본 5분)
+     */
+    @Cacheable(value = CacheConfig.API_NEW_ITEMS, key = "#page + '_' + #sido", unless = UNLESS)
+    public List<ItemDetail> fetchNewItemsFromApi(int page, String sido) {
+        try {
+            log.info("🟢 [신물건] API 호출 시작: page={}, sido={}, PAGE_SIZE={}", page, sido, PAGE_SIZE);
+            OnbidPage apiPage = apiService.fetchNewCltrPage(page, PAGE_SIZE, sido);
+            if (apiPage.isError()) {
+                log.warn("⚠️ 온비드 오류 응답 - 빈 목록 반환(캐싱 안 함): page={}, sido={}, resultCode={}, resultMsg={}",
+                    page, sido, apiPage.getResultCode(), apiPage.getResultMsg());
+                return List.of();
+            }
+            List<ItemDetail> details = apiPage.getItems();
+            log.info("🟢 [신물건] ItemService 신물건 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
+            
+            if (details == null || details.isEmpty()) {
+                return List.of();
+            }
+            
+            // 같은 물건 ID(plnmNo 또는 cltrMnmtNo)가 여러 번 나오면 최신 것만 표시하고 나머지는 유찰 횟수로 카운트
+            try {
+                List<ItemDetail> processedDetails = processDuplicateItems(details);
+                indexItems(apiPage, processedDetails);
+                log.info("🟢 중복 제거 후 신물건: {}개 (원본: {}개)", processedDetails.size(), details.size());
+                
+                // 유찰 횟수가 있는 아이템 개수 확인
+                long itemsWithBidCount = processedDetails.stream()
+                    .filter(item -> item != null && item.getBidCount() != null && item.getBidCount() > 0)
+                    .count();
+                log.info("🟢 신물건 유찰 횟수 > 0인 아이템: {}개", itemsWithBidCount);
+                
+                return cacheValue(apiPage, processedDetails);
+            } catch (Exception e) {
+                log.error("❌ 중복 제거 처리 중 오류 발생, 원본 데이터 반환: {}", e.getMessage(), e);
+                // 오류 발생 시에도 bidCount 초기화
+                for (ItemDetail item : details) {
+                    if (item != null && item.getBidCount() == null) {
+                        item.setBidCount(0);
+                    }
+                }
+                return cacheValue(apiPage, details); // 오류 발생 시 원본 데이터 반환
+            }
+        } catch (Exception e) {
+            log.error("❌ ItemService 신물건 조회 실패: page={}, sido={}, error={}", page, sido, e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 감가 50% 이상 조회 (페이지네이션) - 200건씩
+     * 캐싱: 동일한 page, sido 조합에 대해 캐시 사용 (만료/크기는 CacheConfig 캐시별 설정, 기본 5분)
+     */
+    @Cacheable(value = CacheConfig.API_DISCOUNT_ITEMS, key = "#page + '_' + #sido", unless = UNLESS)
+    public List<ItemDetail> fetchDiscountItemsFromApi(int page, String sido) {
+        try {
+            log.info("🟡 [50% 체감물건] API 호출 시작: page={}, sido={}, PAGE_SIZE={}", page, sido, PAGE_SIZE);
+            
+            OnbidPage apiPage = apiService.fetchDegression50PerCltrPage(page, PAGE_SIZE, sido);
+            if (apiPage.isError()) {
+                log.warn("⚠️ 온비드 오류 응답 - 빈 목록 반환(캐싱 안 함): page={}, sido={}, resultCode={}, resultMsg={}",
+                    page, sido, apiPage.getResultCode(), apiPage.getResultMsg());
+                return List.of();
+            }
+            List<ItemDetail> details = apiPage.getItems();
+            log.info("🟡 [50% 체감물건] ItemService 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
+            
+            if (details == null || details.isEmpty()) {
+                log.warn("⚠️ 50% 체감물건 파싱 결과가 비어있음: page={}, sido={}, resultCode={}, resultMsg={}",
+                    page, sido, apiPage.getResultCode(), apiPage.getResultMsg());
+                return List.of();
+            }
+            
+            // 같은 물건 ID(plnmNo 또는 cltrMnmtNo)가 여러 번 나오면 최신 것만 표시하고 나머지는 유찰 횟수로 카운트
+            try {
+                List<ItemDetail> processedDetails = processDuplicateItems(details);
+                indexItems(apiPage, processedDetails);
+                log.info("🟡 중복 제거 후 50% 체감물건: {}개 (원본: {}개)", processedDetails.size(), details.size());
+                
+                // 유찰 횟수가 있는 아이템 개수 확인
+                long itemsWithBidCount = processedDetails.stream()
+                    .filter(item -> item != null && item.getBidCount() != null && item.getBidCount() > 0)
+                    .count();
+                log.info("🟡 50% 체감물건 유찰 횟수 > 0인 아이템: {}개", itemsWithBidCount);
+                
+                return cacheValue(apiPage, processedDetails);
+            } catch (Exception e) {
+                log.error("❌ 중복 제거 처리 중 오류 발생, 원본 데이터 반환: {}", e.getMessage(), e);
+                // 오류 발생 시에도 bidCount 초기화
+                for (ItemDetail item : details) {
+                    if (item != null && item.getBidCount() == null) {
+                        item.setBidCount(0);
+                    }
+                }
+                return cacheValue(apiPage, details); // 오류 발생 시 원본 데이터 반환
+            }
+        } catch (Exception e) {
+            log.error("❌ ItemService 50% 체감물건 조회 실패: page={}, sido={}, error={}", page, sido, e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 전체 경매물건 조회 (페이지네이션) - 200건씩
+     * 용도별 통합 조회 API 사용
+     * 캐싱: 동일한 page, sido 조합에 대해 캐시 사용 (만료/크기는 CacheConfig 캐시별 설정, 기본 5분)
+     */
+    @Cacheable(value = CacheConfig.API_ITEMS, key = "#page + '_' + #sido", unless = UNLESS)
+    public List<ItemDetail> fetchAllItemsFromApi(int page, String sido) {
+        try {
+            log.info("🔵 [전체 경매물건] API 호출 시작: page={}, sido={}, PAGE_SIZE={}", page, sido, PAGE_SIZE);
+            
+            OnbidPage apiPage = apiService.fetchUsageCltrPage(page, PAGE_SIZE, sido);
+            if (apiPage.isError()) {
+                log.warn("⚠️ 온비드 오류 응답 - 빈 목록 반환(캐싱 안 함): page={}, sido={}, resultCode={}, resultMsg={}",
+                    page, sido, apiPage.getResultCode(), apiPage.getResultMsg());
+                return List.of();
+            }
+            List<ItemDetail> details = apiPage.getItems();
+            log.info("📡 ItemService 전체 경매물건 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
+            
+            if (details == null || details.isEmpty()) {
+                log.warn("⚠️ 전체 경매물건 파싱 결과가 비어있음: page={}, sido={}, resultCode={}, resultMsg={}, itemTags={}",
+                    page, sido, apiPage.getResultCode(), apiPage.getResultMsg(), apiPage.getRawItemCount());
+                return List.of();
+            }
+            
+            // 파싱된 아이템 개수가 예상보다 적은 경우 경고
+            if (details.size() < 50) {
+                log.warn("⚠️ 전체 경매물건 파싱 결과가 예상보다 적음: page={}, sido={}, count={}, itemTags={}", 
+                    page, sido, details.size(), apiPage.getRawItemCount());
+            }
+            
+            // 같은 물건 ID(plnmNo 또는 cltrMnmtNo)가 여러 번 나오면 최신 것만 표시하고 나머지는 유찰 횟수로 카운트
+            try {
+                List<ItemDetail> processedDetails = processDuplicateItems(details);
+                indexItems(apiPage, processedDetails);
+                log.info("📡 중복 제거 후 전체 경매물건: {}개 (원본: {}개)", processedDetails.size(), details.size());
+                
+                // 유찰 횟수가 있는 아이템 개수 확인
+                long itemsWithBidCount = processedDetails.stream()
+                    .filter(item -> item != null && item.getBidCount() != null && item.getBidCount() > 0)
+                    .count();
+                log.info("📡 유찰 횟수 > 0인 아이템: {}개", itemsWithBidCount);
+                
+                return cacheValue(apiPage, processedDetails);
+            } catch (Exception e) {
+                log.error("❌ 중복 제거 처리 중 오류 발생, 원본 데이터 반환: {}", e.getMessage(), e);
+                // 오류 발생 시에도 bidCount 초기화
+                for (ItemDetail item : details) {
+                    if (item != null && item.getBidCount() == null) {
+                        item.setBidCount(0);
+                    }
+                }
+                return cacheValue(apiPage, details); // 오류 발생 시 원본 데이터 반환
+            }
+        } catch (Exception e) {
+            log.error("❌ ItemService 전체 경매물건 조회 실패: page={}, sido={}, error={}", page, sido, e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 용도별 통합 조회 (페이지네이션) - 200건씩
+     * 캐싱: 동일한 page, sido 조합에 대해 캐시 사용 (만료/크기는 CacheConfig 캐시별 설정, 기본 5분)
+     */
+    @Cacheable(value = CacheConfig.API_USAGE_ITEMS, key = "#page + '_' + #sido", unless = UNLESS)
+    public List<ItemDetail> fetchUsageItemsFromApi(int page, String sido) {
+        try {
+            OnbidPage apiPage = apiService.fetchUsageCltrPage(page, PAGE_SIZE, sido);
+            if (apiPage.isError()) {
+                log.warn("⚠️ 온비드 오류 응답 - 빈 목록 반환(캐싱 안 함): page={}, sido={}, resultCode={}, resultMsg={}",
+                    page, sido, apiPage.getResultCode(), apiPage.getResultMsg());
+                return List.of();
+            }
+            List<ItemDetail> details = apiPage.getItems();
+            log.info("📡 ItemService 용도별 통합 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
+            if (details == null || details.isEmpty()) {
+                return List.of();
+            }
+            indexItems(apiPage, details);
+            return cacheValue(apiPage, details);
+        } catch (Exception e) {
+            log.error("❌ ItemService 용도별 통합 조회 실패: page={}, sido={}, error={}", page, sido, e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 같은 물건 ID가 여러 번 나오면 최신 것만 표시하고 나머지는 유찰 횟수로 카운트
+     * 같은 plnmNo 또는 cltrMnmtNo를 가진 물건들을 그룹화하여 처리
+     */
+    private List<ItemDetail> processDuplicateItems(List<ItemDetail> items) {
+        if (items == null || items.isEmpty()) {
+            log.warn("⚠️ processDuplicateItems: items가 null이거나 비어있음");
+            return List.of();
+        }
+
+        // 최신 회차만 남기기 전에 모든 회차를 이력으로 기록
+        priceHistory.record(items);
+
+        try {
+            return duplicateGrouper.group(items);
+        } catch (Exception e) {
+            log.error("❌ processDuplicateItems 처리 중 예외 발생: {}", e.getMessage(), e);
+            // 예외 발생 시 원본 데이터 반환
+            return items;
+        }
+    }
+
+
+    /**
+     * 물건 목록 사본 (각 물건도 새 객체 - 캐시/인덱스에 들어간 객체를 호출자가 수정하지 않도록)
+     */
+    public static List<ItemDetail> copyItems(List<ItemDetail> items) {
+        if (items == null || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<ItemDetail> copied = new ArrayList<>(items.size());
+        for (ItemDetail item : items) {
+            copied.add(item != null ? item.toBuilder().build() : null);
+        }
+        return copied;
+    }
+
+    /**
+     * 장애 대체 응답(stale)으로 만든 목록인지 (캐시되지 않으며 DB에 저장하면 안 됨)
+     */
+    public static boolean isStale(List<ItemDetail> items) {
+        return items instanceof StaleItems;
+    }
+
+    private void indexItems(OnbidPage apiPage, List<ItemDetail> items) {
+        if (!apiPage.isStale()) {
+            catalogIndex.putAll(items);
+        }
+    }
+
+    // 캐시에 넣을 수정 불가 목록 (stale이면 UNLESS 조건으로 캐싱되지 않는 표시 목록)
+    private static List<ItemDetail> cacheValue(OnbidPage apiPage, List<ItemDetail> items) {
+        List<ItemDetail> frozen = Collections.unmodifiableList(new ArrayList<>(items));
+        return apiPage.isStale() ? new StaleItems(frozen) : frozen;
+    }
+
+    /**
+     * 장애 대체 응답 표시용 수정 불가 목록
+     */
+    public static final class StaleItems extends AbstractList<ItemDetail> {
+
+        private final List<ItemDetail> items;
+
+        private StaleItems(List<ItemDetail> items) {
+            this.items = items;
+        }
+
+        @Override
+        public ItemDetail get(int index) {
+            return items.get(index);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.api.item.service;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.api.item.dto.ItemDetail;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건 카탈로그 인메모리 인덱스
+ * - 수집(API 조회/DB 저장) 경로에서 갱신되며 plnmNo, cltrMnmtNo 두 키로 O(1) 조회
+ * - 상세 조회 시 온비드 API를 여러 페이지 순회하지 않도록 하기 위한 용도
+ * - 최대 건수(item.catalog.max-size)를 넘으면 오래 안 쓴 물건부터 제거되며, 없는 물건은 호출하는 쪽이 DB에서 다시 읽음
+ * - 넣을 때와 꺼낼 때 모두 사본을 사용하므로 호출자가 반환값을 수정해도 인덱스에는 영향 없음
+ */
+@Slf4j
+@Component
+public class ItemCatalogIndex {
+
+    // plnmNo → 물건 상세
+    private final Cache<Long, ItemDetail> byPlnmNo;
+
+    // cltrMnmtNo → plnmNo (대상 물건이 제거됐거나 다른 관리번호로 바뀐 항목은 조회 시 무시)
+    private final Cache<String, Long> plnmNoByCltrMnmtNo;
+
+    public ItemCatalogIndex(@Value("${item.catalog.max-size:100000}") long maxSize) {
+        this.byPlnmNo = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        this.plnmNoByCltrMnmtNo = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 단건 등록/갱신
+     * 같은 plnmNo가 이미 있으면 입찰 시작일이 더 최근(또는 같은) 것만 반영
+     */
+    public void put(ItemDetail item) {
+        if (item == null || item.getPlnmNo() == null) {
+            return;
+        }
+
+        ItemDetail merged = byPlnmNo.asMap().merge(item.getPlnmNo(), copy(item), ItemCatalogIndex::newer);
+
+        String cltrMnmtNo = merged.getCltrMnmtNo();
+        if (cltrMnmtNo != null && !cltrMnmtNo.isBlank()) {
+            plnmNoByCltrMnmtNo.put(cltrMnmtNo.trim(), merged.getPlnmNo());
+        }
+    }
+
+    /**
+     * 여러 건 등록/갱신 (API 페이지 조회 결과 또는 저장 대상)
+     */
+    public void putAll(Collection<ItemDetail> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        for (ItemDetail item : items) {
+            put(item);
+        }
+        log.debug("📇 카탈로그 인덱스 갱신: 입력={}건, 현재 크기={}건", items.size(), size());
+    }
+
+    public ItemDetail get(Long plnmNo) {
+        return plnmNo != null ? copy(byPlnmNo.getIfPresent(plnmNo)) : null;
+    }
+
+    public ItemDetail getByCltrMnmtNo(String cltrMnmtNo) {
+        if (cltrMnmtNo == null || cltrMnmtNo.isBlank()) {
+            return null;
+        }
+        String key = cltrMnmtNo.trim();
+        Long plnmNo = plnmNoByCltrMnmtNo.getIfPresent(key);
+        if (plnmNo == null) {
+            return null;
+        }
+        ItemDetail item = byPlnmNo.getIfPresent(plnmNo);
+        if (item == null || item.getCltrMnmtNo() == null || !key.equals(item.getCltrMnmtNo().trim())) {
+            return null;
+        }
+        return copy(item);
+    }
+
+    public void remove(Long plnmNo) {
+        if (plnmNo == null) {
+            return;
+        }
+        ItemDetail removed = byPlnmNo.asMap().remove(plnmNo);
+        if (removed != null && removed.getCltrMnmtNo() != null) {
+            plnmNoByCltrMnmtNo.asMap().remove(removed.getCltrMnmtNo().trim(), plnmNo);
+        }
+    }
+
+    public void removeByCltrMnmtNo(String cltrMnmtNo) {
+        if (cltrMnmtNo == null || cltrMnmtNo.isBlank()) {
+            return;
+        }
+        Long plnmNo = plnmNoByCltrMnmtNo.asMap().remove(cltrMnmtNo.trim());
+        if (plnmNo != null) {
+            byPlnmNo.invalidate(plnmNo);
+        }
+    }
+
+    public void clear() {
+        byPlnmNo.invalidateAll();
+        plnmNoByCltrMnmtNo.invalidateAll();
+        log.info("🗑️ 카탈로그 인덱스 초기화");
+    }
+
+    public int size() {
+        return (int) byPlnmNo.estimatedSize();
+    }
+
+    private static ItemDetail copy(ItemDetail item) {
+        return item != null ? item.toBuilder().build() : null;
+    }
+
+    // 입찰 시작일 기준으로 더 최근 데이터 선택 (같으면 새로 들어온 값 우선)
+    private static ItemDetail newer(ItemDetail existing, ItemDetail incoming) {
+        if (existing.getBidStart() == null || incoming.getBidStart() == null) {
+            return incoming;
+        }
+        return incoming.getBidStart().isBefore(existing.getBidStart()) ? existing : incoming;
+    }
+}
@@ -0,0 +1,153 @@
+package com.api.item.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.api.item.dto.ItemChangeEvent;
+import com.api.item.dto.ItemDetail;
+import com.api.item.mapper.ItemChangeEventMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건 변경 이벤트 로그
+ * - 수집(upsert) 시 이전 행과 비교해 NEW / PRICE / STATUS / ROUND 이벤트를, 삭제 시 REMOVED 이벤트를 기록
+ * - 이벤트는 item_change_event.id 순으로 쌓이며, 소비자는 마지막으로 처리한 id(오프셋) 이후만 읽음
+ * - id는 INSERT 시점에 정해지고 커밋 순서는 트랜잭션마다 달라, 기록된 지 read-lag-seconds가 지난 이벤트만 읽음
+ *   (그보다 오래 걸리는 트랜잭션이 없으면 더 작은 id가 나중에 나타나 건너뛰는 일이 없음)
+ * - 기록은 upsert/삭제와 같은 트랜잭션에서 실행 (호출하는 쪽에서 트랜잭션 관리)
+ */
+@Slf4j
+@Service
+public class ItemChangeLogService {
+
+    private static final int INSERT_CHUNK_SIZE = 500; // multi-row INSERT 1회당 최대 행 수
+    private static final int MAX_READ_SIZE = 1000; // 오프셋 조회 1회당 최대 건수
+    private static final int PURGE_BATCH_SIZE = 5000; // 보관 기간 정리 1회당 최대 삭제 건수
+
+    public static final String SCOPE_ALL = "ALL";
+    public static final String SCOPE_NEW = "NEW";
+    public static final String SCOPE_DISCOUNT = "DISCOUNT";
+    public static final String SCOPE_USAGE = "USAGE";
+    public static final String SCOPE_CLTR_NO = "CLTR_NO";
+
+    private final ItemChangeEventMapper eventMapper;
+    private final int retentionDays;
+    private final int readLagSeconds;
+
+    public ItemChangeLogService(ItemChangeEventMapper eventMapper,
+                                @Value("${item.change-log.retention-days:30}") int retentionDays,
+                                @Value("${item.change-log.read-lag-seconds:10}") int readLagSeconds) {
+        this.eventMapper = eventMapper;
+        this.retentionDays = retentionDays;
+        this.readLagSeconds = Math.max(0, readLagSeconds);
+    }
+
+    /**
+     * 이전 행(previous, DB에 없으면 포함되지 않음)과 새 행 비교로 이벤트 생성
+     */
+    public static List<ItemChangeEvent> diff(Map<Long, ItemDetail> previous, List<ItemDetail> changed) {
+        List<ItemChangeEvent> events = new ArrayList<>();
+        for (ItemDetail current : changed) {
+            Long plnmNo = current.getPlnmNo();
+            ItemDetail before = previous.get(plnmNo);
+            Long newPrice = minBidPrice(current);
+            if (before == null) {
+                events.add(event(plnmNo, ItemChangeEvent.TYPE_NEW, null, newPrice));
+                continue;
+            }
+            Long oldPrice = minBidPrice(before);
+            if (!Objects.equals(oldPrice, newPrice)) {
+                events.add(event(plnmNo, ItemChangeEvent.TYPE_PRICE, oldPrice, newPrice));
+            }
+            if (!Objects.equals(before.getBidStatus(), current.getBidStatus())) {
+                events.add(event(plnmNo, ItemChangeEvent.TYPE_STATUS, before.getBidStatus(), current.getBidStatus()));
+            }
+            if (!Objects.equals(before.getBidRoundNo(), current.getBidRoundNo())) {
+                events.add(event(plnmNo, ItemChangeEvent.TYPE_ROUND, before.getBidRoundNo(), current.getBidRoundNo()));
+            }
+        }
+        return events;
+    }
+
+    public void append(List<ItemChangeEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < events.size(); from += INSERT_CHUNK_SIZE) {
+            eventMapper.insertEvents(events.subList(from, Math.min(from + INSERT_CHUNK_SIZE, events.size())));
+        }
+        log.debug("📝 물건 변경 이벤트 {}건 기록", events.size());
+    }
+
+    // 단건 삭제 직전 호출
+    public void recordRemoved(Long plnmNo) {
+        if (plnmNo != null) {
+            append(List.of(event(plnmNo, ItemChangeEvent.TYPE_REMOVED, null, null)));
+        }
+    }
+
+    // 조건 삭제 직전 호출 (삭제 쿼리와 같은 조건으로 대상 물건을 기록)
+    public int recordRemoved(String scope, String cltrNo) {
+        int recorded = eventMapper.insertRemovedEvents(scope, cltrNo);
+        log.debug("📝 물건 삭제 이벤트 {}건 기록: scope={}", recorded, scope);
+        return recorded;
+    }
+
+    /**
+     * 오프셋(afterId) 이후 이벤트 조회 - 다음 호출에는 마지막 이벤트의 id를 넘기면 됨
+     */
+    public List<ItemChangeEvent> readAfter(long afterId, String eventType, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_READ_SIZE));
+        return eventMapper.findAfter(Math.max(0, afterId), eventType, size, readLagSeconds);
+    }
+
+    // 현재 마지막 오프셋 (새 소비자가 과거 이벤트 없이 지금부터 읽을 때 사용)
+    public long latestOffset() {
+        return eventMapper.findLatestId(readLagSeconds);
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트 정리 (하루 1회)
+     */
+    @Scheduled(cron = "${item.change-log.purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        try {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = eventMapper.deleteOlderThan(retentionDays, PURGE_BATCH_SIZE);
+                total += deleted;
+            } while (deleted == PURGE_BATCH_SIZE);
+            if (total > 0) {
+                log.info("🗑️ 보관 기간({}일)이 지난 물건 변경 이벤트 {}건 삭제", retentionDays, total);
+            }
+        } catch (Exception e) {
+            log.error("❌ 물건 변경 이벤트 정리 실패", e);
+        }
+    }
+
+    private static ItemChangeEvent event(Long plnmNo, String type, Object oldValue, Object newValue) {
+        return ItemChangeEvent.builder()
+            .plnmNo(plnmNo)
+            .eventType(type)
+            .oldValue(oldValue != null ? truncate(oldValue.toString()) : null)
+            .newValue(newValue != null ? truncate(newValue.toString()) : null)
+            .build();
+    }
+
+    private static String truncate(String value) {
+        return value.length() > 100 ? value.substring(0, 100) : value;
+    }
+
+    private static Long minBidPrice(ItemDetail item) {
+        return item.getMinBidPriceMax() != null ? item.getMinBidPriceMax() : item.getMinBidPriceMin();
+    }
+}
@@ -0,0 +1,187 @@
+package com.api.item.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.api.item.dto.ItemBasic;
+import com.api.item.dto.ItemDetail;
+import com.api.item.mapper.ItemMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건 내용 지문(content hash) 저장소
+ * - 가격/일정/상태 등 저장 대상 필드로 64비트 지문을 만들어 item_basic.content_hash와 비교
+ * - 지문이 같은 행은 upsert 대상에서 빼서, 변경 없는 재수집 시 DB 쓰기가 거의 없도록 함
+ * - plnmNo → 지문은 Caffeine 캐시에 두고, 캐시에 없는 것만 IN 조회로 한 번에 읽음
+ */
+@Slf4j
+@Component
+public class ItemFingerprintStore {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000; // 지문 IN 조회 1회당 최대 개수
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ItemMapper mapper;
+    private final Cache<Long, Long> hashByPlnmNo;
+
+    private final AtomicLong insertedCount = new AtomicLong();
+    private final AtomicLong changedCount = new AtomicLong();
+    private final AtomicLong unchangedCount = new AtomicLong();
+
+    public ItemFingerprintStore(ItemMapper mapper,
+                                @Value("${item.fingerprint.cache-size:200000}") long cacheSize) {
+        this.mapper = mapper;
+        this.hashByPlnmNo = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 새로 들어왔거나 내용이 바뀐 물건의 plnmNo → 새 지문 (입력 순서 유지)
+     * - 결과에 없는 plnmNo는 저장된 내용과 같으므로 upsert 생략 가능
+     */
+    public Map<Long, Long> filterChanged(List<ItemDetail> items) {
+        // 같은 페이지에 같은 plnmNo가 여러 번 있으면 마지막 값 기준 (upsert도 마지막 행이 남음)
+        Map<Long, Long> incoming = new LinkedHashMap<>(items.size() * 2);
+        for (ItemDetail item : items) {
+            incoming.put(item.getPlnmNo(), fingerprint(item));
+        }
+
+        Map<Long, Long> stored = new HashMap<>(hashByPlnmNo.getAllPresent(incoming.keySet()));
+        List<Long> misses = new ArrayList<>();
+        for (Long plnmNo : incoming.keySet()) {
+            if (!stored.containsKey(plnmNo)) {
+                misses.add(plnmNo);
+            }
+        }
+        if (!misses.isEmpty()) {
+            stored.putAll(loadHashes(misses));
+        }
+
+        Map<Long, Long> changed = new LinkedHashMap<>();
+        int inserted = 0;
+        for (Map.Entry<Long, Long> entry : incoming.entrySet()) {
+            Long previous = stored.get(entry.getKey());
+            if (previous == null) {
+                inserted++;
+            } else if (previous.longValue() == entry.getValue().longValue()) {
+                continue;
+            }
+            changed.put(entry.getKey(), entry.getValue());
+        }
+
+        int unchanged = incoming.size() - changed.size();
+        insertedCount.addAndGet(inserted);
+        changedCount.addAndGet(changed.size() - inserted);
+        unchangedCount.addAndGet(unchanged);
+        log.debug("🔎 지문 비교: 입력={}건, 신규={}건, 변경={}건, 동일={}건, DB 조회={}건",
+            incoming.size(), inserted, changed.size() - inserted, unchanged, misses.size());
+        return changed;
+    }
+
+    /**
+     * upsert 커밋 후 저장된 지문을 캐시에 반영
+     */
+    public void remember(Map<Long, Long> written) {
+        hashByPlnmNo.putAll(written);
+    }
+
+    public void forget(Long plnmNo) {
+        if (plnmNo != null) {
+            hashByPlnmNo.invalidate(plnmNo);
+        }
+    }
+
+    // 여러 건이 한꺼번에 삭제된 경우 (어떤 plnmNo인지 모르므로 전체 비움)
+    public void clear() {
+        hashByPlnmNo.invalidateAll();
+    }
+
+    /**
+     * 신규/변경/동일(건너뜀) 건수와 캐시 상태
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("inserted", insertedCount.get());
+        result.put("changed", changedCount.get());
+        result.put("unchanged", unchangedCount.get());
+        result.put("cacheSize", hashByPlnmNo.estimatedSize());
+        result.put("cacheHitCount", hashByPlnmNo.stats().hitCount());
+        result.put("cacheMissCount", hashByPlnmNo.stats().missCount());
+        return result;
+    }
+
+    /**
+     * 저장 대상 필드의 64비트 FNV-1a 지문
+     * - rnum(페이지 내 순번), viewCount(조회수)는 매 수집마다 달라지므로 제외
+     */
+    public static long fingerprint(ItemDetail item) {
+        long h = FNV_OFFSET;
+        h = mix(h, item.getAddress());
+        h = mix(h, item.getAppraisalAmountMin());
+        h = mix(h, item.getAppraisalAmountMax());
+        h = mix(h, item.getMinBidPriceMin());
+        h = mix(h, item.getMinBidPriceMax());
+        h = mix(h, item.getOrgName());
+        h = mix(h, item.getBidStart());
+        h = mix(h, item.getBidEnd());
+        h = mix(h, item.getDisposalMethod());
+        h = mix(h, item.getBidMethod());
+        h = mix(h, item.getBidCount());
+        h = mix(h, item.getPbctNo());
+        h = mix(h, item.getOrgBaseNo());
+        h = mix(h, item.getCltrMnmtNo());
+        h = mix(h, item.getNmrAddress());
+        h = mix(h, item.getRoadName());
+        h = mix(h, item.getBldNo());
+        h = mix(h, item.getBidStatus());
+        h = mix(h, item.getGoodsDetail());
+        h = mix(h, item.getAssetCategory());
+        h = mix(h, item.getBidRoundNo());
+        h = mix(h, item.getFeeRate());
+        return h;
+    }
+
+    private Map<Long, Long> loadHashes(List<Long> plnmNos) {
+        Map<Long, Long> loaded = new HashMap<>(plnmNos.size() * 2);
+        for (int from = 0; from < plnmNos.size(); from += LOOKUP_CHUNK_SIZE) {
+            Collection<Long> chunk = plnmNos.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, plnmNos.size()));
+            for (ItemBasic row : mapper.findContentHashes(chunk)) {
+                // content_hash가 없는 기존 행은 다시 쓰도록 0으로 둠 (지문이 0일 확률은 무시)
+                long hash = row.getContentHash() != null ? row.getContentHash() : 0L;
+                loaded.put(row.getPlnmNo(), hash);
+                if (row.getContentHash() != null) {
+                    hashByPlnmNo.put(row.getPlnmNo(), hash);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static long mix(long h, Object value) {
+        if (value == null) {
+            // null과 빈 문자열을 구분하기 위한 표식
+            return (h ^ 0xff) * FNV_PRIME;
+        }
+        String s = value.toString();
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * FNV_PRIME;
+        }
+        // 필드 구분자
+        return (h ^ 0x1f) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,168 @@
+package com.api.item.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.api.item.dto.ItemBidRound;
+import com.api.item.dto.ItemDetail;
+import com.api.item.dto.ItemPriceHistory;
+import com.api.item.mapper.ItemBidRoundMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 물건별 입찰 회차 가격 이력
+ * - 온비드 목록에는 같은 물건이 회차마다 한 행씩 나오므로, 중복 제거(최신 회차만 남김) 전에 모든 회차를 item_bid_round에 기록
+ * - (물건번호, 입찰 시작일) 하나가 한 회차이며, 이미 같은 값으로 기록한 회차는 캐시로 걸러 DB에 다시 쓰지 않음
+ * - 기록 실패는 조회/수집 흐름을 막지 않음 (로그만 남김)
+ * - 가격 모니터링은 기준 가격이 없는 관심 물건의 직전 회차 가격을 여기서 가져옴
+ */
+@Slf4j
+@Service
+public class ItemPriceHistoryService {
+
+    private static final int INSERT_CHUNK_SIZE = 500; // multi-row INSERT 1회당 최대 행 수
+    private static final int IN_CHUNK_SIZE = 1000; // IN 조회 1회당 최대 물건 수
+
+    private final ItemBidRoundMapper roundMapper;
+
+    // 회차 키(물건번호 + 입찰 시작일) → 마지막으로 기록한 회차 값의 지문
+    private final Cache<Long, Long> recorded;
+
+    public ItemPriceHistoryService(ItemBidRoundMapper roundMapper,
+                                   @Value("${item.price-history.cache-size:200000}") long cacheSize) {
+        this.roundMapper = roundMapper;
+        this.recorded = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * 온비드 원본 행(중복 제거 전)에서 회차 기록 - 처음 보거나 값이 바뀐 회차만 저장
+     */
+    public int record(List<ItemDetail> rawItems) {
+        if (rawItems == null || rawItems.isEmpty()) {
+            return 0;
+        }
+        try {
+            Map<Long, ItemBidRound> pending = new LinkedHashMap<>();
+            Map<Long, Long> pendingValues = new LinkedHashMap<>();
+            for (ItemDetail item : rawItems) {
+                if (item == null || item.getPlnmNo() == null || item.getBidStart() == null) {
+                    continue;
+                }
+                ItemBidRound round = toRound(item);
+                long key = roundKey(round);
+                long value = roundValue(round);
+                Long previous = recorded.getIfPresent(key);
+                if (previous != null && previous == value) {
+                    continue;
+                }
+                pending.put(key, round);
+                pendingValues.put(key, value);
+            }
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            List<ItemBidRound> rounds = new ArrayList<>(pending.values());
+            for (int from = 0; from < rounds.size(); from += INSERT_CHUNK_SIZE) {
+                roundMapper.upsertRounds(rounds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rounds.size())));
+            }
+            recorded.putAll(pendingValues);
+            log.debug("📈 입찰 회차 이력 기록: 입력={}건, 저장={}건", rawItems.size(), rounds.size());
+            return rounds.size();
+        } catch (Exception e) {
+            log.warn("⚠️ 입찰 회차 이력 기록 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 물건별 회차 이력 + 가격 시계열(첫 값 + 직전 회차 대비 차이)
+     */
+    public ItemPriceHistory getHistory(Long plnmNo) {
+        List<ItemBidRound> rounds = roundMapper.findByPlnmNo(plnmNo);
+        return ItemPriceHistory.builder()
+            .plnmNo(plnmNo)
+            .rounds(rounds)
+            .minBidPriceBase(rounds.isEmpty() ? null : rounds.get(0).getMinBidPrice())
+            .minBidPriceDeltas(deltas(rounds, ItemBidRound::getMinBidPrice))
+            .appraisalAmountBase(rounds.isEmpty() ? null : rounds.get(0).getAppraisalAmount())
+            .appraisalAmountDeltas(deltas(rounds, ItemBidRound::getAppraisalAmount))
+            .build();
+    }
+
+    /**
+     * 물건별 직전 회차 최저입찰가 - 현재 물건 정보의 입찰 시작일보다 앞선 가장 최근 회차 (없거나 조회 실패면 포함하지 않음)
+     */
+    public Map<Long, Long> getPreviousRoundPrices(Map<Long, ItemDetail> items) {
+        Map<Long, Long> result = new HashMap<>();
+        if (items == null || items.isEmpty()) {
+            return result;
+        }
+        try {
+            List<Long> plnmNos = new ArrayList<>(items.keySet());
+            for (int from = 0; from < plnmNos.size(); from += IN_CHUNK_SIZE) {
+                // 물건별 입찰 시작일 내림차순이므로 현재 회차보다 앞선 첫 회차가 직전 회차
+                for (ItemBidRound round : roundMapper.findRecentRounds(plnmNos.subList(from, Math.min(from + IN_CHUNK_SIZE, plnmNos.size())))) {
+                    ItemDetail item = items.get(round.getPlnmNo());
+                    LocalDateTime currentStart = item != null ? item.getBidStart() : null;
+                    if (currentStart == null || round.getMinBidPrice() == null || !round.getBidStart().isBefore(currentStart)) {
+                        continue;
+                    }
+                    result.putIfAbsent(round.getPlnmNo(), round.getMinBidPrice());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 직전 회차 가격 조회 실패: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    // 2번째 회차부터 직전 회차 대비 차이 (어느 한쪽 값이 없으면 null)
+    private static List<Long> deltas(List<ItemBidRound> rounds, Function<ItemBidRound, Long> value) {
+        List<Long> result = new ArrayList<>(Math.max(0, rounds.size() - 1));
+        for (int i = 1; i < rounds.size(); i++) {
+            Long prev = value.apply(rounds.get(i - 1));
+            Long curr = value.apply(rounds.get(i));
+            result.add(prev != null && curr != null ? curr - prev : null);
+        }
+        return result;
+    }
+
+    private static ItemBidRound toRound(ItemDetail item) {
+        return ItemBidRound.builder()
+            .plnmNo(item.getPlnmNo())
+            .bidStart(item.getBidStart())
+            .bidEnd(item.getBidEnd())
+            .pbctNo(item.getPbctNo())
+            .bidRoundNo(item.getBidRoundNo())
+            .minBidPrice(item.getMinBidPriceMax() != null ? item.getMinBidPriceMax() : item.getMinBidPriceMin())
+            .appraisalAmount(item.getAppraisalAmountMax() != null ? item.getAppraisalAmountMax() : item.getAppraisalAmountMin())
+            .build();
+    }
+
+    // 물건번호와 입찰 시작일(분)을 섞은 64비트 회차 키 (충돌 확률은 무시)
+    private static long roundKey(ItemBidRound round) {
+        long minutes = round.getBidStart().toEpochSecond(ZoneOffset.UTC) / 60;
+        return round.getPlnmNo() * 0x9E3779B97F4A7C15L ^ minutes;
+    }
+
+    private static long roundValue(ItemBidRound round) {
+        return Objects.hash(round.getBidEnd(), round.getPbctNo(), round.getBidRoundNo(),
+            round.getMinBidPrice(), round.getAppraisalAmount());
+    }
+}
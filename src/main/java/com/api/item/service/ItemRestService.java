@@ -1,17 +1,26 @@
 package com.api.item.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.api.item.dto.ItemBasic;
+import com.api.item.dto.ItemCursor;
 import com.api.item.dto.ItemDetail;
 import com.api.item.mapper.ItemMapper;
-import com.api.union.service.ApiService;
-import com.api.util.ApiXmlParser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +31,40 @@ import lombok.extern.slf4j.Slf4j;
 public class ItemRestService {
 
 	private final ItemMapper mapper;
-	private final ApiService apiService;
+	private final ItemApiPageService apiPageService;
+	private final ItemCatalogIndex catalogIndex;
+	private final ItemFingerprintStore fingerprintStore;
+	private final ItemChangeLogService changeLog;
+	private final ItemPriceHistoryService priceHistory;
+	private final DuplicateItemGrouper duplicateGrouper;
+	private final TransactionTemplate transactionTemplate;
 	
-	private static final int PAGE_SIZE = 200; // 페이지당 200건
+	private static final int UPSERT_CHUNK_SIZE = 500; // multi-row INSERT 1회당 최대 행 수
+	private static final int MAX_LIST_SIZE = 200; // DB 목록 1페이지 최대 행 수
+	private static final int DETAIL_IN_CHUNK_SIZE = 1000; // 일괄 상세 조회 IN 절 최대 개수
+
+	// DB 목록 종류 (apiMapper.xml itemListCondition)
+	public static final String LIST_ALL = "ALL";
+	public static final String LIST_SEOUL = "SEOUL";
+	public static final String LIST_NEW = "NEW";
+	public static final String LIST_DISCOUNT = "DISCOUNT";
+
+	// 목록 조회 방식: db(수집된 item_basic/item_detail에서 keyset 조회) 또는 api(온비드 페이지를 잘라서 사용)
+	@Value("${item.list.source:db}")
+	private String listSource;
+
+	// 페이지 번호로만 요청해도 keyset을 쓸 수 있도록 직전 페이지의 마지막 행을 기억
+	private final Cache<String, ItemCursor> pageBoundaries = Caffeine.newBuilder()
+			.maximumSize(10_000)
+			.expireAfterWrite(Duration.ofMinutes(5))
+			.build();
+
+	// 목록 총 개수 (짧게 보관하여 페이지 이동마다 COUNT 하지 않도록)
+	private final Cache<String, Integer> listCounts = Caffeine.newBuilder()
+			.maximumSize(1_000)
+			.expireAfterWrite(Duration.ofSeconds(30))
+			.build();
+
 	// 전체 목록 조회 (API에서 조회)
     public List<ItemBasic> getItemList() {
         try {
@@ -89,153 +129,172 @@ public class ItemRestService {
             .build();
     }
 
-    // 상세 조회 (API에서 조회)
+    // 상세 조회 (인덱스 → DB 순서로 조회, 온비드 API는 호출하지 않음)
     public ItemDetail getItemDetail(Long plnmNo) {
-        // plnmNo로는 API에서 직접 조회할 수 없으므로, 여러 API를 조회하여 찾기
-        // 주의: 이 방법은 느릴 수 있으므로, 가능하면 cltrNo를 사용하는 것을 권장
-        log.warn("⚠️ getItemDetail(plnmNo)는 API에서 직접 조회할 수 없습니다. cltrNo를 사용하는 것을 권장합니다. plnmNo={}", plnmNo);
-        
-        // API에서 여러 페이지를 조회하여 찾기
+        if (plnmNo == null) {
+            return null;
+        }
+
+        // 1. 카탈로그 인덱스에서 조회 (외부 호출 없음)
+        ItemDetail indexed = catalogIndex.get(plnmNo);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        // 2. DB에서 조회 후 인덱스에 반영
         try {
-            // 용도별 통합 조회에서 찾기
-            for (int page = 1; page <= 10; page++) {
-                List<ItemDetail> items = fetchUsageItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                
-                ItemDetail found = items.stream()
-                    .filter(item -> plnmNo.equals(item.getPlnmNo()))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (found != null) {
-                    log.info("✅ API에서 물건 조회 성공: plnmNo={}, page={}", plnmNo, page);
-                    return found;
-                }
+            ItemDetail stored = mapper.findDetail(plnmNo);
+            if (stored != null) {
+                catalogIndex.put(stored);
+                return stored;
             }
-            
-            // 신물건에서도 찾기
-            for (int page = 1; page <= 10; page++) {
-                List<ItemDetail> items = fetchNewItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                
-                ItemDetail found = items.stream()
-                    .filter(item -> plnmNo.equals(item.getPlnmNo()))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (found != null) {
-                    log.info("✅ API에서 물건 조회 성공 (신물건): plnmNo={}, page={}", plnmNo, page);
-                    return found;
-                }
-            }
-            
-            // 감가 50% 이상에서도 찾기
-            for (int page = 1; page <= 10; page++) {
-                List<ItemDetail> items = fetchDiscountItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                
-                ItemDetail found = items.stream()
-                    .filter(item -> plnmNo.equals(item.getPlnmNo()))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (found != null) {
-                    log.info("✅ API에서 물건 조회 성공 (감가50%): plnmNo={}, page={}", plnmNo, page);
-                    return found;
-                }
-            }
-            
-            log.warn("⚠️ API에서 물건을 찾을 수 없음: plnmNo={}", plnmNo);
         } catch (Exception e) {
-            log.error("❌ API에서 물건 조회 실패: plnmNo={}", plnmNo, e);
+            log.error("❌ DB에서 물건 조회 실패: plnmNo={}", plnmNo, e);
         }
-        
+
+        // 온비드 목록을 훑어 찾지 않음 (상세 조회가 페이지 호출 수십 건으로 번지지 않도록) - 수집되지 않은 물건은 없음 처리
+        log.info("ℹ️ 인덱스/DB에 없는 물건: plnmNo={}", plnmNo);
         return null;
     }
     
-    // 상세 조회 (cltrMnmtNo로 - API에서 조회)
+    /**
+     * 여러 물건 일괄 상세 조회 (plnmNo → ItemDetail, 입력 순서 유지)
+     * 1. 카탈로그 인덱스에서 한 번에 조회
+     * 2. 인덱스에 없는 물건만 DB에서 IN 쿼리로 조회
+     * 온비드 API는 호출하지 않으며, 찾지 못한 물건은 결과에 포함하지 않음
+     */
+    public Map<Long, ItemDetail> getItemDetails(Collection<Long> plnmNos) {
+        Map<Long, ItemDetail> result = new LinkedHashMap<>();
+        if (plnmNos == null || plnmNos.isEmpty()) {
+            return result;
+        }
+
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long plnmNo : plnmNos) {
+            if (plnmNo == null || result.containsKey(plnmNo)) {
+                continue;
+            }
+            ItemDetail indexed = catalogIndex.get(plnmNo);
+            if (indexed != null) {
+                result.put(plnmNo, indexed);
+            } else {
+                missing.add(plnmNo);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try {
+                List<Long> ids = new ArrayList<>(missing);
+                for (int from = 0; from < ids.size(); from += DETAIL_IN_CHUNK_SIZE) {
+                    List<ItemDetail> stored = mapper.findDetails(ids.subList(from, Math.min(from + DETAIL_IN_CHUNK_SIZE, ids.size())));
+                    for (ItemDetail detail : stored) {
+                        result.put(detail.getPlnmNo(), detail);
+                        missing.remove(detail.getPlnmNo());
+                    }
+                    catalogIndex.putAll(stored);
+                }
+            } catch (Exception e) {
+                log.error("❌ DB에서 물건 일괄 조회 실패: count={}", missing.size(), e);
+            }
+        }
+
+        log.info("📦 물건 일괄 조회: 요청 {}건, 조회 {}건, 미발견 {}건", plnmNos.size(), result.size(), missing.size());
+        return result;
+    }
+
+    // 상세 조회 (cltrMnmtNo로 - 인덱스 → DB 순서로 조회, 온비드 API는 호출하지 않음)
     public ItemDetail getItemDetailByCltrMnmtNo(String cltrMnmtNo) {
         if (cltrMnmtNo == null || cltrMnmtNo.trim().isEmpty()) {
             return null;
         }
-        
-        // API에서 여러 페이지를 조회하여 cltrNo로 매칭
+
+        // 카탈로그 인덱스에서 조회 (외부 호출 없음)
+        ItemDetail indexed = catalogIndex.getByCltrMnmtNo(cltrMnmtNo);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        // DB에서 조회 후 인덱스에 반영
         try {
-            // 용도별 통합 조회에서 찾기
-            for (int page = 1; page <= 10; page++) {
-                List<ItemDetail> items = fetchUsageItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                
-                ItemDetail found = items.stream()
-                    .filter(item -> cltrMnmtNo.equals(item.getCltrMnmtNo()))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (found != null) {
-                    log.info("✅ API에서 물건 조회 성공: cltrNo={}, page={}", cltrMnmtNo, page);
-                    return found;
-                }
+            ItemDetail stored = mapper.findDetailByCltrMnmtNo(cltrMnmtNo);
+            if (stored != null) {
+                catalogIndex.put(stored);
+                return stored;
             }
-            
-            // 신물건에서도 찾기
-            for (int page = 1; page <= 10; page++) {
-                List<ItemDetail> items = fetchNewItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                
-                ItemDetail found = items.stream()
-                    .filter(item -> cltrMnmtNo.equals(item.getCltrMnmtNo()))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (found != null) {
-                    log.info("✅ API에서 물건 조회 성공 (신물건): cltrNo={}, page={}", cltrMnmtNo, page);
-                    return found;
-                }
-            }
-            
-            // 감가 50% 이상에서도 찾기
-            for (int page = 1; page <= 10; page++) {
-                List<ItemDetail> items = fetchDiscountItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                
-                ItemDetail found = items.stream()
-                    .filter(item -> cltrMnmtNo.equals(item.getCltrMnmtNo()))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (found != null) {
-                    log.info("✅ API에서 물건 조회 성공 (감가50%): cltrNo={}, page={}", cltrMnmtNo, page);
-                    return found;
-                }
-            }
-            
-            log.warn("⚠️ API에서 물건을 찾을 수 없음: cltrNo={}", cltrMnmtNo);
         } catch (Exception e) {
-            log.error("❌ API에서 물건 조회 실패: cltrNo={}", cltrMnmtNo, e);
+            log.error("❌ DB에서 물건 조회 실패: cltrNo={}", cltrMnmtNo, e);
         }
         
+        log.info("ℹ️ 인덱스/DB에 없는 물건: cltrNo={}", cltrMnmtNo);
         return null;
     }
 
     // 온비드 API에서 가져온 물건을 저장/갱신
+    // 같은 물건의 여러 회차 행은 먼저 최신 회차 하나로 묶고(유찰 횟수 포함), 내용 지문이 저장된 값과 같은 행은 건너뛰고, 신규/변경 행만
+    // 페이지 단위로 한 트랜잭션에서 테이블별 multi-row INSERT ... ON DUPLICATE KEY UPDATE 실행
     public int upsertItems(List<ItemDetail> details) {
-        int saved = 0;
-        if (details == null) {
-            return saved;
+        if (details == null || details.isEmpty()) {
+            return 0;
         }
 
+        List<ItemDetail> rows = new java.util.ArrayList<>(details.size());
         for (ItemDetail detail : details) {
-            if (detail == null || detail.getPlnmNo() == null) {
-                continue;
+            if (detail != null && detail.getPlnmNo() != null) {
+                rows.add(detail);
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        long startNanos = System.nanoTime();
+        // 같은 물건의 이전 회차 행도 있으므로 그룹화 전에 회차 이력 기록
+        priceHistory.record(rows);
+        // 지문(bidCount 포함)과 upsert 모두 그룹화된 최신 회차 행 기준 (이미 그룹화된 입력은 그대로)
+        List<ItemDetail> valid = duplicateGrouper.group(rows);
+        Map<Long, Long> changedHashes = fingerprintStore.filterChanged(valid);
+        List<ItemDetail> changed = new java.util.ArrayList<>(changedHashes.size());
+        for (ItemDetail detail : valid) {
+            if (changedHashes.containsKey(detail.getPlnmNo())) {
+                changed.add(detail);
             }
-            mapper.upsertItemBasic(convertToBasic(detail));
-            mapper.upsertItemDetail(detail);
-            saved++;
         }
-        return saved;
+
+        if (!changed.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 변경 이벤트: 바뀐 행만 이전 값을 읽어 비교 (DB에 없으면 NEW)
+                List<Long> changedIds = new java.util.ArrayList<>(changedHashes.keySet());
+                Map<Long, ItemDetail> previous = new java.util.HashMap<>(changedIds.size() * 2);
+                for (int from = 0; from < changedIds.size(); from += DETAIL_IN_CHUNK_SIZE) {
+                    for (ItemDetail stored : mapper.findDetails(changedIds.subList(from, Math.min(from + DETAIL_IN_CHUNK_SIZE, changedIds.size())))) {
+                        previous.put(stored.getPlnmNo(), stored);
+                    }
+                }
+                changeLog.append(ItemChangeLogService.diff(previous, changed));
+
+                for (int from = 0; from < changed.size(); from += UPSERT_CHUNK_SIZE) {
+                    List<ItemDetail> chunk = changed.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, changed.size()));
+                    List<ItemBasic> basics = new java.util.ArrayList<>(chunk.size());
+                    for (ItemDetail detail : chunk) {
+                        ItemBasic basic = convertToBasic(detail);
+                        basic.setContentHash(changedHashes.get(detail.getPlnmNo()));
+                        basics.add(basic);
+                    }
+                    mapper.upsertItemBasicBatch(basics);
+                    mapper.upsertItemDetailBatch(chunk);
+                }
+            });
+            fingerprintStore.remember(changedHashes);
+        }
+        catalogIndex.putAll(valid);
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("💾 물건 일괄 upsert 완료: 입력={}건, 저장={}건, 변경 없음={}건, {}ms ({} rows/sec)",
+            valid.size(), changed.size(), valid.size() - changed.size(), elapsedMs, changed.size() * 1000L / elapsedMs);
+        return changed.size();
     }
 
-    private ItemBasic convertToBasic(ItemDetail detail) {
+    static ItemBasic convertToBasic(ItemDetail detail) {
         return ItemBasic.builder()
             .rnum(detail.getRnum())
             .plnmNo(detail.getPlnmNo())
@@ -255,25 +314,43 @@ public class ItemRestService {
 
     // 삭제: plnmNo로 삭제 (item_detail과 item_basic 모두 삭제)
     public int deleteItemByPlnmNo(Long plnmNo) {
-        // item_detail 먼저 삭제 (외래 키 제약 조건 때문에)
-        int deletedDetail = mapper.deleteItemByPlnmNo(plnmNo);
-        // item_basic 삭제
-        int deletedBasic = mapper.deleteItemBasicByPlnmNo(plnmNo);
-        return deletedDetail + deletedBasic;
-    }
-
-    // 삭제: 서울특별시가 아닌 데이터 삭제
-    public int deleteNonSeoulItems() {
-        return mapper.deleteNonSeoulItems();
+        int deleted = transactionTemplate.execute(status -> {
+            // item_detail 먼저 삭제 (외래 키 제약 조건 때문에)
+            int deletedDetail = mapper.deleteItemByPlnmNo(plnmNo);
+            // item_basic 삭제
+            int deletedBasic = mapper.deleteItemBasicByPlnmNo(plnmNo);
+            if (deletedDetail + deletedBasic > 0) {
+                changeLog.recordRemoved(plnmNo);
+            }
+            return deletedDetail + deletedBasic;
+        });
+        catalogIndex.remove(plnmNo);
+        fingerprintStore.forget(plnmNo);
+        return deleted;
     }
 
     // 삭제: 전체 삭제
     public int deleteAllItems() {
-        return mapper.deleteAllItems();
+        int deleted = transactionTemplate.execute(status -> {
+            changeLog.recordRemoved(ItemChangeLogService.SCOPE_ALL, null);
+            return mapper.deleteAllItems();
+        });
+        // 커밋 후 비움 (커밋 전에 비우면 그 사이 수집이 삭제될 행을 다시 캐시/지문에 넣을 수 있음)
+        catalogIndex.clear();
+        fingerprintStore.clear();
+        return deleted;
     }
     
-    // 조회: 서울특별시 물건 조회 (페이징) - API에서 조회
+    // 조회: 서울특별시 물건 조회 (페이징) - item.list.source에 따라 DB 또는 API에서 조회
     public List<ItemDetail> getItemsSeoul(int page, int size) {
+        return getItemsSeoul(page, size, null);
+    }
+
+    // 조회: 서울특별시 물건 조회 (페이징) - cursor가 있으면 그 다음 행부터 (DB 모드)
+    public List<ItemDetail> getItemsSeoul(int page, int size, String cursor) {
+        if (isDbListSource()) {
+            return findItemPage(LIST_SEOUL, null, page, size, cursor);
+        }
         try {
             // API는 200건씩 반환하므로, page에 맞는 API 페이지 계산
             int apiPage = (int) Math.ceil((double) (page - 1) * size / 200.0) + 1;
@@ -297,14 +374,25 @@ public class ItemRestService {
         }
     }
     
-    // 조회: 서울특별시 물건 총 개수 (API는 정확한 총 개수를 반환하지 않음)
+    // 조회: 서울특별시 물건 총 개수 (API 모드는 정확한 총 개수를 알 수 없어 추정값)
     public int countItemsSeoul() {
+        if (isDbListSource()) {
+            return countItemPage(LIST_SEOUL, null);
+        }
         // API는 정확한 총 개수를 반환하지 않으므로 추정값 반환
         return 10000; // 추정값
     }
     
-    // 조회: 전체 물건 조회 (페이징) - API에서 조회
+    // 조회: 전체 물건 조회 (페이징) - item.list.source에 따라 DB 또는 API에서 조회
     public List<ItemDetail> getAllItems(int page, int size, String category) {
+        return getAllItems(page, size, category, null);
+    }
+
+    // 조회: 전체 물건 조회 (페이징) - cursor가 있으면 그 다음 행부터 (DB 모드)
+    public List<ItemDetail> getAllItems(int page, int size, String category, String cursor) {
+        if (isDbListSource()) {
+            return findItemPage(LIST_ALL, category, page, size, cursor);
+        }
         try {
             // API는 200건씩 반환하므로, page에 맞는 API 페이지 계산
             int apiPage = (int) Math.ceil((double) (page - 1) * size / 200.0) + 1;
@@ -339,24 +427,50 @@ public class ItemRestService {
         }
     }
     
-    // 조회: 전체 물건 총 개수 (API는 정확한 총 개수를 반환하지 않음)
+    // 조회: 전체 물건 총 개수 (API 모드는 정확한 총 개수를 알 수 없어 추정값)
     public int countAllItems(String category) {
+        if (isDbListSource()) {
+            return countItemPage(LIST_ALL, category);
+        }
         // API는 정확한 총 개수를 반환하지 않으므로 추정값 반환
         return 10000; // 추정값
     }
     
     // 삭제: ID(plnmNo)로 삭제
     public int deleteItemById(Long id) {
-        return mapper.deleteItemById(id);
+        int deleted = transactionTemplate.execute(status -> {
+            int removed = mapper.deleteItemById(id);
+            if (removed > 0) {
+                changeLog.recordRemoved(id);
+            }
+            return removed;
+        });
+        catalogIndex.remove(id);
+        fingerprintStore.forget(id);
+        return deleted;
     }
     
     // 삭제: 물건번호(cltrMnmtNo)로 삭제
     public int deleteItemByCltrNo(String cltrNo) {
-        return mapper.deleteItemByCltrNo(cltrNo);
+        int deleted = transactionTemplate.execute(status -> {
+            changeLog.recordRemoved(ItemChangeLogService.SCOPE_CLTR_NO, cltrNo);
+            return mapper.deleteItemByCltrNo(cltrNo);
+        });
+        catalogIndex.removeByCltrMnmtNo(cltrNo);
+        fingerprintStore.clear();
+        return deleted;
     }
     
-    // 조회: 신규 물건 조회 (페이징) - API에서 조회
+    // 조회: 신규 물건 조회 (페이징) - item.list.source에 따라 DB 또는 API에서 조회
     public List<ItemDetail> getNewItemsDetail(int page, int size) {
+        return getNewItemsDetail(page, size, null);
+    }
+
+    // 조회: 신규 물건 조회 (페이징) - cursor가 있으면 그 다음 행부터 (DB 모드)
+    public List<ItemDetail> getNewItemsDetail(int page, int size, String cursor) {
+        if (isDbListSource()) {
+            return findItemPage(LIST_NEW, null, page, size, cursor);
+        }
         try {
             // API는 200건씩 반환하므로, page에 맞는 API 페이지 계산
             int apiPage = (int) Math.ceil((double) (page - 1) * size / 200.0) + 1;
@@ -380,14 +494,25 @@ public class ItemRestService {
         }
     }
     
-    // 조회: 신규 물건 총 개수 (API는 정확한 총 개수를 반환하지 않음)
+    // 조회: 신규 물건 총 개수 (API 모드는 정확한 총 개수를 알 수 없어 추정값)
     public int countNewItems() {
+        if (isDbListSource()) {
+            return countItemPage(LIST_NEW, null);
+        }
         // API는 정확한 총 개수를 반환하지 않으므로 추정값 반환
         return 5000; // 추정값
     }
     
-    // 조회: 감가 50% 이상 물건 조회 (페이징) - API에서 조회
+    // 조회: 감가 50% 이상 물건 조회 (페이징) - item.list.source에 따라 DB 또는 API에서 조회
     public List<ItemDetail> getDiscountItemsDetail(int page, int size) {
+        return getDiscountItemsDetail(page, size, null);
+    }
+
+    // 조회: 감가 50% 이상 물건 조회 (페이징) - cursor가 있으면 그 다음 행부터 (DB 모드)
+    public List<ItemDetail> getDiscountItemsDetail(int page, int size, String cursor) {
+        if (isDbListSource()) {
+            return findItemPage(LIST_DISCOUNT, null, page, size, cursor);
+        }
         try {
             // API는 200건씩 반환하므로, page에 맞는 API 페이지 계산
             int apiPage = (int) Math.ceil((double) (page - 1) * size / 200.0) + 1;
@@ -411,12 +536,91 @@ public class ItemRestService {
         }
     }
     
-    // 조회: 감가 50% 이상 물건 총 개수 (API는 정확한 총 개수를 반환하지 않음)
+    // 조회: 감가 50% 이상 물건 총 개수 (API 모드는 정확한 총 개수를 알 수 없어 추정값)
     public int countDiscountItems() {
+        if (isDbListSource()) {
+            return countItemPage(LIST_DISCOUNT, null);
+        }
         // API는 정확한 총 개수를 반환하지 않으므로 추정값 반환
         return 3000; // 추정값
     }
     
+    private boolean isDbListSource() {
+        return !"api".equalsIgnoreCase(listSource);
+    }
+
+    /**
+     * DB 목록 페이지 조회 ((정렬 시각, plnm_no) 순 keyset - 전체/서울은 bid_end, 신물건은 bid_start)
+     * - cursor가 있으면 그 다음 행부터 조회
+     * - 없으면 직전 페이지 경계를 기억하고 있는 경우 그 다음 행부터 조회 (순차 이동 시 깊은 페이지도 첫 페이지와 같은 비용)
+     * - 경계를 모르는 페이지로 바로 이동한 경우와 감가 목록(비율 정렬)은 OFFSET 사용
+     */
+    private List<ItemDetail> findItemPage(String listType, String category, int page, int size, String cursor) {
+        int safePage = Math.max(1, page);
+        int safeSize = Math.max(1, Math.min(size, MAX_LIST_SIZE));
+        String normalizedCategory = normalizeCategory(category);
+        String boundaryKey = listType + "|" + normalizedCategory + "|" + safeSize + "|";
+        boolean keyset = !LIST_DISCOUNT.equals(listType);
+
+        ItemCursor after = keyset ? ItemCursor.decode(cursor) : null;
+        if (keyset && after == null && safePage > 1) {
+            after = pageBoundaries.getIfPresent(boundaryKey + (safePage - 1));
+        }
+
+        try {
+            List<ItemDetail> items = mapper.findItemPage(listType, normalizedCategory,
+                after != null ? after.getSortTime() : null,
+                after != null ? after.getPlnmNo() : null,
+                after != null ? 0 : (safePage - 1) * safeSize,
+                safeSize);
+
+            // 페이지 번호 기준 요청일 때만 경계 기억 (cursor 요청은 페이지 번호와 무관할 수 있음)
+            ItemCursor next = keyset ? ItemCursor.last(items, sortTimeOf(listType)) : null;
+            if (next != null && (cursor == null || cursor.isBlank())) {
+                pageBoundaries.put(boundaryKey + safePage, next);
+            }
+            return items;
+        } catch (Exception e) {
+            log.error("❌ DB 목록 조회 실패: listType={}, page={}, size={}", listType, safePage, safeSize, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 다음 페이지 커서 문자열 (keyset을 쓰지 않는 감가 목록이거나 마지막 행의 정렬 시각이 없으면 null)
+     */
+    public String nextCursor(String listType, List<ItemDetail> items) {
+        if (LIST_DISCOUNT.equals(listType)) {
+            return null;
+        }
+        ItemCursor next = ItemCursor.last(items, sortTimeOf(listType));
+        return next != null ? next.encode() : null;
+    }
+
+    // 목록 종류별 keyset 정렬 시각 (apiMapper.xml itemListOrder와 같은 기준)
+    private static Function<ItemDetail, LocalDateTime> sortTimeOf(String listType) {
+        return LIST_NEW.equals(listType) ? ItemDetail::getBidStart : ItemDetail::getBidEnd;
+    }
+
+    private int countItemPage(String listType, String category) {
+        String normalizedCategory = normalizeCategory(category);
+        try {
+            Integer count = listCounts.get(listType + "|" + normalizedCategory,
+                key -> mapper.countItemPage(listType, normalizedCategory));
+            return count != null ? count : 0;
+        } catch (Exception e) {
+            log.error("❌ DB 목록 개수 조회 실패: listType={}", listType, e);
+            return 0;
+        }
+    }
+
+    private String normalizeCategory(String category) {
+        if (category == null || category.trim().isEmpty() || category.equals("all")) {
+            return null;
+        }
+        return category.trim();
+    }
+
     // 조회: 오늘 마감하는 물건 조회 (경매일정용) - API에서 조회
     public List<ItemDetail> getTodayClosingItems(int limit) {
         try {
@@ -488,240 +692,47 @@ public class ItemRestService {
     
     // =============================================================================
     // API 호출 페이지네이션 기능 (200건씩) - Union 패키지와 동일
+    // - 캐시는 ItemApiPageService에서 적용되며, 여기서는 호출자가 수정해도 되는 사본을 반환
     // =============================================================================
-    
+
     /**
      * 신물건 조회 (페이지네이션) - 200건씩
-     * 캐싱: 5분 (300초) - 동일한 page, sido 조합에 대해 캐시 사용
      */
-    // 캐시 비활성화 (디버깅용) - 문제 해결 후 다시 활성화
-    // @Cacheable(value = "apiNewItems", key = "#page + '_' + #sido", unless = "#result == null or #result.isEmpty()")
     public List<ItemDetail> fetchNewItemsFromApi(int page, String sido) {
-        try {
-            log.info("🟢 [신물건] API 호출 시작: page={}, sido={}, PAGE_SIZE={}", page, sido, PAGE_SIZE);
-            System.out.println("🟢 [신물건] fetchNewItemsFromApi 호출됨 - getUnifyNewCltrList 사용");
-            String xml = apiService.getUnifyNewCltrList(page, PAGE_SIZE, sido);
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
-            log.info("🟢 [신물건] ItemService 신물건 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
-            
-            if (details == null || details.isEmpty()) {
-                return List.of();
-            }
-            
-            // 같은 물건 ID(plnmNo 또는 cltrMnmtNo)가 여러 번 나오면 최신 것만 표시하고 나머지는 유찰 횟수로 카운트
-            try {
-                List<ItemDetail> processedDetails = processDuplicateItems(details);
-                log.info("🟢 중복 제거 후 신물건: {}개 (원본: {}개)", processedDetails.size(), details.size());
-                
-                // 유찰 횟수가 있는 아이템 개수 확인
-                long itemsWithBidCount = processedDetails.stream()
-                    .filter(item -> item != null && item.getBidCount() != null && item.getBidCount() > 0)
-                    .count();
-                log.info("🟢 신물건 유찰 횟수 > 0인 아이템: {}개", itemsWithBidCount);
-                
-                return processedDetails;
-            } catch (Exception e) {
-                log.error("❌ 중복 제거 처리 중 오류 발생, 원본 데이터 반환: {}", e.getMessage(), e);
-                // 오류 발생 시에도 bidCount 초기화
-                for (ItemDetail item : details) {
-                    if (item != null && item.getBidCount() == null) {
-                        item.setBidCount(0);
-                    }
-                }
-                return details; // 오류 발생 시 원본 데이터 반환
-            }
-        } catch (Exception e) {
-            log.error("❌ ItemService 신물건 조회 실패: page={}, sido={}, error={}", page, sido, e.getMessage(), e);
-            return List.of();
-        }
+        return ItemApiPageService.copyItems(apiPageService.fetchNewItemsFromApi(page, sido));
     }
 
     /**
      * 감가 50% 이상 조회 (페이지네이션) - 200건씩
      */
     public List<ItemDetail> fetchDiscountItemsFromApi(int page, String sido) {
-        try {
-            log.info("🟡 [50% 체감물건] API 호출 시작: page={}, sido={}, PAGE_SIZE={}", page, sido, PAGE_SIZE);
-            System.out.println("🟡 [50% 체감물건] fetchDiscountItemsFromApi 호출됨 - getUnifyDegression50PerCltrList 사용");
-            
-            String xml = apiService.getUnifyDegression50PerCltrList(page, PAGE_SIZE, sido);
-            log.info("🟡 [50% 체감물건] API 호출 완료: xml != null = {}", xml != null);
-            
-            if (xml == null || xml.trim().isEmpty()) {
-                log.warn("⚠️ 50% 체감물건 API 응답이 비어있음: page={}, sido={}", page, sido);
-                return List.of();
-            }
-            
-            log.info("📄 50% 체감물건 API XML 응답 길이: {} bytes", xml.length());
-            if (xml.length() < 500) {
-                log.warn("⚠️ 50% 체감물건 API XML 응답이 너무 짧음: {}", xml);
-            }
-            
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
-            log.info("🟡 [50% 체감물건] ItemService 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
-            
-            if (details == null || details.isEmpty()) {
-                log.warn("⚠️ 50% 체감물건 파싱 결과가 비어있음: page={}, sido={}, xmlLength={}", page, sido, xml.length());
-                return List.of();
-            }
-            
-            // 같은 물건 ID(plnmNo 또는 cltrMnmtNo)가 여러 번 나오면 최신 것만 표시하고 나머지는 유찰 횟수로 카운트
-            try {
-                List<ItemDetail> processedDetails = processDuplicateItems(details);
-                log.info("🟡 중복 제거 후 50% 체감물건: {}개 (원본: {}개)", processedDetails.size(), details.size());
-                
-                // 유찰 횟수가 있는 아이템 개수 확인
-                long itemsWithBidCount = processedDetails.stream()
-                    .filter(item -> item != null && item.getBidCount() != null && item.getBidCount() > 0)
-                    .count();
-                log.info("🟡 50% 체감물건 유찰 횟수 > 0인 아이템: {}개", itemsWithBidCount);
-                
-                return processedDetails;
-            } catch (Exception e) {
-                log.error("❌ 중복 제거 처리 중 오류 발생, 원본 데이터 반환: {}", e.getMessage(), e);
-                // 오류 발생 시에도 bidCount 초기화
-                for (ItemDetail item : details) {
-                    if (item != null && item.getBidCount() == null) {
-                        item.setBidCount(0);
-                    }
-                }
-                return details; // 오류 발생 시 원본 데이터 반환
-            }
-        } catch (Exception e) {
-            log.error("❌ ItemService 50% 체감물건 조회 실패: page={}, sido={}, error={}", page, sido, e.getMessage(), e);
-            e.printStackTrace();
-            return List.of();
-        }
+        return ItemApiPageService.copyItems(apiPageService.fetchDiscountItemsFromApi(page, sido));
     }
 
     /**
-     * 전체 경매물건 조회 (페이지네이션) - 200건씩
-     * 용도별 통합 조회 API 사용
-     * 캐싱: 5분 (300초) - 동일한 page, sido 조합에 대해 캐시 사용
+     * 전체 경매물건 조회 (페이지네이션) - 200건씩, 용도별 통합 조회 API 사용
      */
-    // 캐시 비활성화 (디버깅용) - 문제 해결 후 다시 활성화
-    // @Cacheable(value = "apiItems", key = "#page + '_' + #sido", unless = "#result == null or #result.isEmpty()")
     public List<ItemDetail> fetchAllItemsFromApi(int page, String sido) {
-        try {
-            log.info("🔵 [전체 경매물건] API 호출 시작: page={}, sido={}, PAGE_SIZE={}", page, sido, PAGE_SIZE);
-            System.out.println("🔵 [전체 경매물건] fetchAllItemsFromApi 호출됨 - getUnifyUsageCltrList 사용");
-            
-            String xml = apiService.getUnifyUsageCltrList(page, PAGE_SIZE, sido);
-            log.info("🔵 [전체 경매물건] API 호출 완료: xml != null = {}", xml != null);
-            
-            if (xml == null || xml.trim().isEmpty()) {
-                log.warn("⚠️ 전체 경매물건 API 응답이 비어있음: page={}, sido={}", page, sido);
-                return List.of();
-            }
-            
-            log.info("📄 전체 경매물건 API XML 응답 길이: {} bytes", xml.length());
-            if (xml.length() < 500) {
-                log.warn("⚠️ 전체 경매물건 API XML 응답이 너무 짧음: {}", xml);
-            }
-            
-            // XML 응답의 처음 200자 로깅
-            if (xml.length() > 200) {
-                log.info("📄 XML 응답 시작 부분: {}", xml.substring(0, 200));
-            } else {
-                log.info("📄 XML 응답 전체: {}", xml);
-            }
-            
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
-            log.info("📡 ItemService 전체 경매물건 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
-            
-            if (details == null || details.isEmpty()) {
-                log.warn("⚠️ 전체 경매물건 파싱 결과가 비어있음: page={}, sido={}, xmlLength={}", page, sido, xml.length());
-                // XML 내용 확인을 위해 더 많은 정보 로깅
-                if (xml.contains("<resultCode>")) {
-                    log.error("❌ API 에러 응답: resultCode 태그 발견");
-                    // resultCode와 resultMsg 추출
-                    try {
-                        int resultCodeStart = xml.indexOf("<resultCode>");
-                        int resultCodeEnd = xml.indexOf("</resultCode>");
-                        if (resultCodeStart >= 0 && resultCodeEnd > resultCodeStart) {
-                            String resultCode = xml.substring(resultCodeStart + 13, resultCodeEnd);
-                            log.error("❌ resultCode: {}", resultCode);
-                        }
-                        int resultMsgStart = xml.indexOf("<resultMsg>");
-                        int resultMsgEnd = xml.indexOf("</resultMsg>");
-                        if (resultMsgStart >= 0 && resultMsgEnd > resultMsgStart) {
-                            String resultMsg = xml.substring(resultMsgStart + 11, resultMsgEnd);
-                            log.error("❌ resultMsg: {}", resultMsg);
-                        }
-                    } catch (Exception e) {
-                        log.error("❌ XML 파싱 중 오류: {}", e.getMessage());
-                    }
-                }
-                if (xml.contains("error")) {
-                    log.error("❌ API 에러 응답: error 태그 발견");
-                }
-                // XML의 item 개수 확인
-                int itemCount = xml.split("<item>").length - 1;
-                log.warn("⚠️ XML에서 <item> 태그 개수: {}개", itemCount);
-                return List.of();
-            }
-            
-            // 파싱된 아이템 개수가 예상보다 적은 경우 경고
-            if (details.size() < 50) {
-                log.warn("⚠️ 전체 경매물건 파싱 결과가 예상보다 적음: page={}, sido={}, count={}, xmlLength={}", 
-                    page, sido, details.size(), xml.length());
-                // XML의 item 개수 확인
-                int itemCount = xml.split("<item>").length - 1;
-                log.warn("⚠️ XML에서 <item> 태그 개수: {}개", itemCount);
-            }
-            
-            // 같은 물건 ID(plnmNo 또는 cltrMnmtNo)가 여러 번 나오면 최신 것만 표시하고 나머지는 유찰 횟수로 카운트
-            try {
-                List<ItemDetail> processedDetails = processDuplicateItems(details);
-                log.info("📡 중복 제거 후 전체 경매물건: {}개 (원본: {}개)", processedDetails.size(), details.size());
-                
-                // 유찰 횟수가 있는 아이템 개수 확인
-                long itemsWithBidCount = processedDetails.stream()
-                    .filter(item -> item != null && item.getBidCount() != null && item.getBidCount() > 0)
-                    .count();
-                log.info("📡 유찰 횟수 > 0인 아이템: {}개", itemsWithBidCount);
-                
-                return processedDetails;
-            } catch (Exception e) {
-                log.error("❌ 중복 제거 처리 중 오류 발생, 원본 데이터 반환: {}", e.getMessage(), e);
-                // 오류 발생 시에도 bidCount 초기화
-                for (ItemDetail item : details) {
-                    if (item != null && item.getBidCount() == null) {
-                        item.setBidCount(0);
-                    }
-                }
-                return details; // 오류 발생 시 원본 데이터 반환
-            }
-        } catch (Exception e) {
-            log.error("❌ ItemService 전체 경매물건 조회 실패: page={}, sido={}, error={}", page, sido, e.getMessage(), e);
-            e.printStackTrace();
-            return List.of();
-        }
+        return ItemApiPageService.copyItems(apiPageService.fetchAllItemsFromApi(page, sido));
     }
 
     /**
      * 용도별 통합 조회 (페이지네이션) - 200건씩
-     * 캐싱: 5분 (300초) - 동일한 page, sido 조합에 대해 캐시 사용
      */
-    @Cacheable(value = "apiUsageItems", key = "#page + '_' + #sido", unless = "#result == null or #result.isEmpty()")
     public List<ItemDetail> fetchUsageItemsFromApi(int page, String sido) {
-        try {
-            String xml = apiService.getUnifyUsageCltrList(page, PAGE_SIZE, sido);
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
-            log.info("📡 ItemService 용도별 통합 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
-            return details != null ? details : List.of();
-        } catch (Exception e) {
-            log.error("❌ ItemService 용도별 통합 조회 실패: page={}, sido={}, error={}", page, sido, e.getMessage(), e);
-            return List.of();
-        }
+        return ItemApiPageService.copyItems(apiPageService.fetchUsageItemsFromApi(page, sido));
     }
-
     /**
      * 신물건 조회 후 DB 저장 (페이지네이션) - 200건씩
      */
     public int fetchAndSaveNewItemsFromApi(int page, String sido) {
         try {
-            List<ItemDetail> details = fetchNewItemsFromApi(page, sido);
+            List<ItemDetail> cached = apiPageService.fetchNewItemsFromApi(page, sido);
+            if (ItemApiPageService.isStale(cached)) {
+                log.warn("⚠️ ItemService 신물건 저장 생략: 온비드 장애 대체 응답(stale) page={}, sido={}", page, sido);
+                return 0;
+            }
+            List<ItemDetail> details = ItemApiPageService.copyItems(cached);
             if (details.isEmpty()) {
                 return 0;
             }
@@ -739,7 +750,12 @@ public class ItemRestService {
      */
     public int fetchAndSaveDiscountItemsFromApi(int page, String sido) {
         try {
-            List<ItemDetail> details = fetchDiscountItemsFromApi(page, sido);
+            List<ItemDetail> cached = apiPageService.fetchDiscountItemsFromApi(page, sido);
+            if (ItemApiPageService.isStale(cached)) {
+                log.warn("⚠️ ItemService 감가 50% 이상 저장 생략: 온비드 장애 대체 응답(stale) page={}, sido={}", page, sido);
+                return 0;
+            }
+            List<ItemDetail> details = ItemApiPageService.copyItems(cached);
             if (details.isEmpty()) {
                 return 0;
             }
@@ -757,7 +773,12 @@ public class ItemRestService {
      */
     public int fetchAndSaveUsageItemsFromApi(int page, String sido) {
         try {
-            List<ItemDetail> details = fetchUsageItemsFromApi(page, sido);
+            List<ItemDetail> cached = apiPageService.fetchUsageItemsFromApi(page, sido);
+            if (ItemApiPageService.isStale(cached)) {
+                log.warn("⚠️ ItemService 용도별 통합 저장 생략: 온비드 장애 대체 응답(stale) page={}, sido={}", page, sido);
+                return 0;
+            }
+            List<ItemDetail> details = ItemApiPageService.copyItems(cached);
             if (details.isEmpty()) {
                 return 0;
             }
@@ -779,7 +800,12 @@ public class ItemRestService {
      */
     public int deleteNewItems() {
         try {
-            int deleted = mapper.deleteNewItems();
+            int deleted = transactionTemplate.execute(status -> {
+                changeLog.recordRemoved(ItemChangeLogService.SCOPE_NEW, null);
+                return mapper.deleteNewItems();
+            });
+            catalogIndex.clear();
+            fingerprintStore.clear();
             log.info("🗑️ ItemService 신물건 삭제 완료: {}건", deleted);
             return deleted;
         } catch (Exception e) {
@@ -793,7 +819,12 @@ public class ItemRestService {
      */
     public int deleteDiscountItems() {
         try {
-            int deleted = mapper.deleteDiscountItems();
+            int deleted = transactionTemplate.execute(status -> {
+                changeLog.recordRemoved(ItemChangeLogService.SCOPE_DISCOUNT, null);
+                return mapper.deleteDiscountItems();
+            });
+            catalogIndex.clear();
+            fingerprintStore.clear();
             log.info("🗑️ ItemService 감가 50% 이상 물건 삭제 완료: {}건", deleted);
             return deleted;
         } catch (Exception e) {
@@ -807,7 +838,12 @@ public class ItemRestService {
      */
     public int deleteUsageItems() {
         try {
-            int deleted = mapper.deleteUsageItems();
+            int deleted = transactionTemplate.execute(status -> {
+                changeLog.recordRemoved(ItemChangeLogService.SCOPE_USAGE, null);
+                return mapper.deleteUsageItems();
+            });
+            catalogIndex.clear();
+            fingerprintStore.clear();
             log.info("🗑️ ItemService 용도별 통합 물건 삭제 완료: {}건", deleted);
             return deleted;
         } catch (Exception e) {
@@ -875,139 +911,4 @@ public class ItemRestService {
         
         return atList;
     }
-    
-    /**
-     * 같은 물건 ID가 여러 번 나오면 최신 것만 표시하고 나머지는 유찰 횟수로 카운트
-     * 같은 plnmNo 또는 cltrMnmtNo를 가진 물건들을 그룹화하여 처리
-     */
-    private List<ItemDetail> processDuplicateItems(List<ItemDetail> items) {
-        if (items == null || items.isEmpty()) {
-            log.warn("⚠️ processDuplicateItems: items가 null이거나 비어있음");
-            return List.of();
-        }
-        
-        log.info("🔄 processDuplicateItems 시작: 원본 아이템 {}개", items.size());
-        
-        try {
-            // plnmNo 또는 cltrMnmtNo를 기준으로 그룹화
-            Map<String, List<ItemDetail>> groupedByKey = new java.util.HashMap<>();
-            int nullKeyCount = 0;
-            int plnmKeyCount = 0;
-            int cltrKeyCount = 0;
-            
-            for (ItemDetail item : items) {
-                if (item == null) {
-                    log.warn("⚠️ processDuplicateItems: null 아이템 발견, 건너뜀");
-                    continue;
-                }
-                
-                // 그룹 키 생성: plnmNo 우선, 없으면 cltrMnmtNo 사용
-                String key = null;
-                if (item.getPlnmNo() != null && !item.getPlnmNo().toString().trim().isEmpty()) {
-                    key = "plnm_" + item.getPlnmNo();
-                    plnmKeyCount++;
-                } else if (item.getCltrMnmtNo() != null && !item.getCltrMnmtNo().trim().isEmpty()) {
-                    key = "cltr_" + item.getCltrMnmtNo();
-                    cltrKeyCount++;
-                } else {
-                    // 키가 없으면 그대로 추가 (중복 처리 불가)
-                    key = "unique_" + System.identityHashCode(item);
-                    nullKeyCount++;
-                }
-                
-                groupedByKey.computeIfAbsent(key, k -> new java.util.ArrayList<>()).add(item);
-            }
-            
-            log.info("🔄 그룹화 완료: plnmNo 키={}개, cltrMnmtNo 키={}개, 키 없음={}개, 총 그룹={}개", 
-                plnmKeyCount, cltrKeyCount, nullKeyCount, groupedByKey.size());
-            
-            List<ItemDetail> result = new java.util.ArrayList<>();
-            
-            // 각 그룹에서 최신 것만 선택하고 유찰 횟수 계산
-            for (List<ItemDetail> group : groupedByKey.values()) {
-                if (group == null || group.isEmpty()) {
-                    continue;
-                }
-                
-                if (group.size() == 1) {
-                    // 중복이 없으면 그대로 추가 (유찰 횟수는 0 또는 기존 값)
-                    ItemDetail item = group.get(0);
-                    if (item != null) {
-                        if (item.getBidCount() == null) {
-                            item.setBidCount(0);
-                        }
-                        log.debug("🔄 단일 물건: plnmNo={}, cltrMnmtNo={}, 유찰 횟수={}", 
-                            item.getPlnmNo(), item.getCltrMnmtNo(), item.getBidCount());
-                        result.add(item);
-                    }
-                } else {
-                    // 같은 물건이 여러 개면 bidStart가 가장 최근인 것을 찾기
-                    ItemDetail latest = group.stream()
-                        .filter(item -> item != null && item.getBidStart() != null)
-                        .max((a, b) -> a.getBidStart().compareTo(b.getBidStart()))
-                        .orElse(group.stream()
-                            .filter(item -> item != null)
-                            .findFirst()
-                            .orElse(null));
-                    
-                    if (latest == null) {
-                        log.warn("⚠️ processDuplicateItems: 그룹에서 유효한 아이템을 찾을 수 없음");
-                        continue;
-                    }
-                    
-                    // 나머지 것들은 유찰 횟수로 카운트
-                    int bidCount = group.size() - 1;  // 최신 것 제외한 나머지 개수
-                    
-                    // 기존 bidCount가 있으면 더하기
-                    if (latest.getBidCount() != null && latest.getBidCount() > 0) {
-                        bidCount += latest.getBidCount();
-                    }
-                    
-                    latest.setBidCount(bidCount);
-                    result.add(latest);
-                    
-                    log.info("🔄 중복 물건 처리: plnmNo={}, cltrMnmtNo={}, 총 {}개 중 최신 것 선택, 유찰 횟수={}", 
-                        latest.getPlnmNo(), latest.getCltrMnmtNo(), group.size(), bidCount);
-                }
-            }
-            
-            // 유찰 횟수가 0보다 큰 아이템 개수 확인
-            long itemsWithBidCount = result.stream()
-                .filter(item -> item != null && item.getBidCount() != null && item.getBidCount() > 0)
-                .count();
-            
-            // 그룹 크기 통계
-            Map<Integer, Long> groupSizeStats = groupedByKey.values().stream()
-                .collect(java.util.stream.Collectors.groupingBy(List::size, java.util.stream.Collectors.counting()));
-            
-            log.info("✅ processDuplicateItems 완료: {}개 그룹 처리, {}개 결과 반환, 유찰 횟수 > 0인 아이템: {}개", 
-                groupedByKey.size(), result.size(), itemsWithBidCount);
-            log.info("📊 그룹 크기 통계: {}", groupSizeStats);
-            
-            // 큰 그룹(중복이 많은 경우) 샘플 로그
-            groupedByKey.entrySet().stream()
-                .filter(entry -> entry.getValue().size() > 5)
-                .limit(5)
-                .forEach(entry -> {
-                    ItemDetail sample = entry.getValue().get(0);
-                    log.info("📊 큰 그룹 샘플: key={}, 그룹 크기={}, plnmNo={}, cltrMnmtNo={}", 
-                        entry.getKey(), entry.getValue().size(), 
-                        sample != null ? sample.getPlnmNo() : null,
-                        sample != null ? sample.getCltrMnmtNo() : null);
-                });
-            
-            // 유찰 횟수가 있는 아이템 샘플 로그
-            result.stream()
-                .filter(item -> item != null && item.getBidCount() != null && item.getBidCount() > 0)
-                .limit(5)
-                .forEach(item -> log.info("📊 유찰 횟수 샘플: plnmNo={}, cltrMnmtNo={}, bidCount={}", 
-                    item.getPlnmNo(), item.getCltrMnmtNo(), item.getBidCount()));
-            
-            return result;
-        } catch (Exception e) {
-            log.error("❌ processDuplicateItems 처리 중 예외 발생: {}", e.getMessage(), e);
-            // 예외 발생 시 원본 데이터 반환
-            return items;
-        }
-    }
 }
@@ -32,7 +32,10 @@ public class ItemService {
      */
     public List<NoticeItem> getMainPageNotices(int limit) {
         // API에서 직접 신규물건 조회
-        List<ItemDetail> newItems = itemService.fetchNewItemsFromApi(1, "서울특별시");
+        return toNotices(itemService.fetchNewItemsFromApi(1, "서울특별시"), limit);
+    }
+
+    private List<NoticeItem> toNotices(List<ItemDetail> newItems, int limit) {
         if (newItems.size() > limit) {
             newItems = newItems.subList(0, limit);
         }
@@ -54,19 +57,35 @@ public class ItemService {
      * @return 카테고리별 통계 Map (카테고리명 -> 개수)
      */
     public Map<String, Integer> getMainPageCategoryStats() {
-        // API에서 용도별 통합 조회 (최대 3페이지 = 600건)
+        return toCategoryStats(fetchMainPageUsageItems());
+    }
+
+    // 용도별 통합 조회 (최대 3페이지 = 600건) - 카테고리 통계/경매일정이 함께 사용
+    private List<ItemDetail> fetchMainPageUsageItems() {
+        try {
+            return loadMainPageUsageItems();
+        } catch (Exception e) {
+            log.error("❌ 용도별 통합 물건 조회 실패", e);
+            return new java.util.ArrayList<>();
+        }
+    }
+
+    // 중간 페이지 조회가 실패하면 예외 그대로 전달 (스냅샷이 일부 페이지만으로 통계를 만들지 않도록)
+    private List<ItemDetail> loadMainPageUsageItems() {
+        List<ItemDetail> allItems = new java.util.ArrayList<>();
+        for (int page = 1; page <= 3; page++) {
+            List<ItemDetail> items = itemService.fetchUsageItemsFromApi(page, "서울특별시");
+            if (items.isEmpty()) break;
+            allItems.addAll(items);
+        }
+        log.info("📊 API에서 조회된 물건 수: {}개", allItems.size());
+        return allItems;
+    }
+
+    private Map<String, Integer> toCategoryStats(List<ItemDetail> allItems) {
         Map<String, Integer> categoryStats = new LinkedHashMap<>();
         
         try {
-            List<ItemDetail> allItems = new java.util.ArrayList<>();
-            for (int page = 1; page <= 3; page++) {
-                List<ItemDetail> items = itemService.fetchUsageItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                allItems.addAll(items);
-            }
-            
-            log.info("📊 API에서 조회된 물건 수: {}개", allItems.size());
-            
             // 카테고리별로 그룹화
             Map<String, Long> categoryCounts = allItems.stream()
                 .filter(item -> item.getAssetCategory() != null && !item.getAssetCategory().trim().isEmpty())
@@ -100,30 +119,23 @@ public class ItemService {
      * @return 경매일정 리스트
      */
     public List<ScheduleItem> getMainPageScheduleList(int limit) {
-        // API에서 용도별 통합 조회 후 오늘 마감하는 물건 필터링
+        return toScheduleList(fetchMainPageUsageItems(), limit);
+    }
+
+    // 용도별 통합 물건 중 오늘 마감하는 물건 필터링
+    private List<ScheduleItem> toScheduleList(List<ItemDetail> items, int limit) {
         List<ItemDetail> todayItems = new java.util.ArrayList<>();
         LocalDateTime today = LocalDateTime.now();
         LocalDateTime todayStart = today.withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime todayEnd = today.withHour(23).withMinute(59).withSecond(59).withNano(999999999);
         
-        try {
-            // 최대 3페이지 조회하여 오늘 마감하는 물건 찾기
-            for (int page = 1; page <= 3; page++) {
-                List<ItemDetail> items = itemService.fetchUsageItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                
-                for (ItemDetail item : items) {
-                    if (item.getBidEnd() != null && 
-                        !item.getBidEnd().isBefore(todayStart) && 
-                        !item.getBidEnd().isAfter(todayEnd)) {
-                        todayItems.add(item);
-                        if (todayItems.size() >= limit) break;
-                    }
-                }
+        for (ItemDetail item : items) {
+            if (item.getBidEnd() != null && 
+                !item.getBidEnd().isBefore(todayStart) && 
+                !item.getBidEnd().isAfter(todayEnd)) {
+                todayItems.add(item);
                 if (todayItems.size() >= limit) break;
             }
-        } catch (Exception e) {
-            log.error("❌ 오늘 마감하는 물건 조회 실패", e);
         }
         
         return todayItems.stream()
@@ -149,7 +161,10 @@ public class ItemService {
      */
     public List<DiscountItem> getMainPageDiscountList(int limit) {
         // API에서 직접 50% 체감 물건 조회
-        List<ItemDetail> discountItems = itemService.fetchDiscountItemsFromApi(1, "서울특별시");
+        return toDiscountList(itemService.fetchDiscountItemsFromApi(1, "서울특별시"), limit);
+    }
+
+    private List<DiscountItem> toDiscountList(List<ItemDetail> discountItems, int limit) {
         if (discountItems.size() > limit) {
             discountItems = discountItems.subList(0, limit);
         }
@@ -167,6 +182,59 @@ public class ItemService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 메인 페이지 화면 데이터 일괄 생성 (MainPageSnapshotService에서 주기적으로 호출)
+     * 용도별 통합 조회는 한 번만 하고 카테고리 통계/경매일정에 함께 사용
+     * 원본 조회가 실패하거나 비어 있는 구역은 이전 스냅샷 값을 유지 (온비드 장애 시 화면이 빈 구역으로 바뀌지 않도록)
+     * @param previous 현재 스냅샷
+     * @return 메인 페이지 스냅샷
+     */
+    public MainPageSnapshot buildMainPageSnapshot(int noticeLimit, int scheduleLimit, int discountLimit,
+                                                  MainPageSnapshot previous) {
+        List<ItemDetail> newItems = loadSection("신규물건 공지",
+            () -> itemService.fetchNewItemsFromApi(1, "서울특별시"));
+        List<ItemDetail> discountItems = loadSection("50% 체감 물건",
+            () -> itemService.fetchDiscountItemsFromApi(1, "서울특별시"));
+        List<ItemDetail> usageItems = loadSection("용도별 통합 물건", this::loadMainPageUsageItems);
+
+        List<NoticeItem> notices = newItems != null ? toNotices(newItems, noticeLimit) : previous.getNotices();
+        List<DiscountItem> discountList = discountItems != null
+            ? toDiscountList(discountItems, discountLimit) : previous.getDiscountList();
+        if (usageItems == null) {
+            return new MainPageSnapshot(notices, previous.getCategoryStats(), previous.getScheduleList(),
+                discountList, LocalDateTime.now());
+        }
+
+        List<CategoryStat> categoryStats = new java.util.ArrayList<>();
+        for (Map.Entry<String, Integer> entry : toCategoryStats(usageItems).entrySet()) {
+            String fullName = entry.getKey();
+            // DB의 실제 asset_category 형식: "상가용및업무용건물 / 근린생활시설" -> "근린생활시설"
+            String name = fullName;
+            if (fullName.contains(" / ")) {
+                String[] parts = fullName.split(" / ");
+                name = parts[parts.length - 1]; // 마지막 부분만 표시 (중분류)
+            }
+            categoryStats.add(new CategoryStat(name, fullName, entry.getValue()));
+        }
+
+        return new MainPageSnapshot(notices, categoryStats, toScheduleList(usageItems, scheduleLimit),
+            discountList, LocalDateTime.now());
+    }
+
+    // 스냅샷 구역 원본 조회 (실패하거나 비어 있으면 null → 이전 값 유지)
+    private List<ItemDetail> loadSection(String name, java.util.function.Supplier<List<ItemDetail>> loader) {
+        try {
+            List<ItemDetail> items = loader.get();
+            if (items != null && !items.isEmpty()) {
+                return items;
+            }
+            log.warn("⚠️ {} 조회 결과 없음 - 이전 스냅샷 값 유지", name);
+        } catch (Exception e) {
+            log.error("❌ {} 조회 실패 - 이전 스냅샷 값 유지", name, e);
+        }
+        return null;
+    }
+
     /**
      * API 상세 페이지용 데이터 준비
      * @param itemId plnmNo (공고번호) - API에서는 사용하지 않으므로 cltrNo로 조회 필요
@@ -189,50 +257,12 @@ public class ItemService {
             return new ApiDetailData();
         }
         
-        // API에서 여러 페이지를 조회하여 cltrNo로 매칭
+        // 카탈로그 인덱스/DB 우선 조회 (없을 때만 API 조회)
         ItemDetail itemDetail = null;
         try {
-            for (int page = 1; page <= 10; page++) {
-                List<ItemDetail> items = itemService.fetchUsageItemsFromApi(page, "서울특별시");
-                if (items.isEmpty()) break;
-                
-                itemDetail = items.stream()
-                    .filter(item -> cltrNo.equals(item.getCltrMnmtNo()))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (itemDetail != null) break;
-            }
-            
-            // 신물건에서도 찾기
-            if (itemDetail == null) {
-                for (int page = 1; page <= 10; page++) {
-                    List<ItemDetail> items = itemService.fetchNewItemsFromApi(page, "서울특별시");
-                    if (items.isEmpty()) break;
-                    
-                    itemDetail = items.stream()
-                        .filter(item -> cltrNo.equals(item.getCltrMnmtNo()))
-                        .findFirst()
-                        .orElse(null);
-                    
-                    if (itemDetail != null) break;
-                }
-            }
-            
-            // 감가 50% 이상에서도 찾기
-            if (itemDetail == null) {
-                for (int page = 1; page <= 10; page++) {
-                    List<ItemDetail> items = itemService.fetchDiscountItemsFromApi(page, "서울특별시");
-                    if (items.isEmpty()) break;
-                    
-                    itemDetail = items.stream()
-                        .filter(item -> cltrNo.equals(item.getCltrMnmtNo()))
-                        .findFirst()
-                        .orElse(null);
-                    
-                    if (itemDetail != null) break;
-                }
-            }
+            ItemDetail found = itemService.getItemDetailByCltrMnmtNo(cltrNo);
+            // 날짜 보정이 공유 인덱스 데이터에 반영되지 않도록 복사본 사용
+            itemDetail = found != null ? found.toBuilder().build() : null;
         } catch (Exception e) {
             log.error("❌ API에서 물건 조회 실패: cltrNo={}", cltrNo, e);
         }
@@ -413,6 +443,57 @@ public class ItemService {
         public void setNo(Long no) { this.no = no; }
     }
 
+    /**
+     * 카테고리 통계 아이템
+     */
+    public static class CategoryStat {
+        private String name;
+        private String fullName;
+        private Integer count;
+        
+        public CategoryStat(String name, String fullName, Integer count) {
+            this.name = name;
+            this.fullName = fullName;
+            this.count = count;
+        }
+        
+        public String getName() { return name; }
+        public String getFullName() { return fullName; }
+        public Integer getCount() { return count; }
+    }
+
+    /**
+     * 메인 페이지 스냅샷 (생성 후 변경하지 않음)
+     */
+    public static class MainPageSnapshot {
+        private final List<NoticeItem> notices;
+        private final List<CategoryStat> categoryStats;
+        private final List<ScheduleItem> scheduleList;
+        private final List<DiscountItem> discountList;
+        private final LocalDateTime builtAt;
+        
+        public MainPageSnapshot(List<NoticeItem> notices, List<CategoryStat> categoryStats,
+                                List<ScheduleItem> scheduleList, List<DiscountItem> discountList,
+                                LocalDateTime builtAt) {
+            this.notices = List.copyOf(notices);
+            this.categoryStats = List.copyOf(categoryStats);
+            this.scheduleList = List.copyOf(scheduleList);
+            this.discountList = List.copyOf(discountList);
+            this.builtAt = builtAt;
+        }
+        
+        public static MainPageSnapshot empty() {
+            return new MainPageSnapshot(List.of(), List.of(), List.of(), List.of(), null);
+        }
+        
+        public List<NoticeItem> getNotices() { return notices; }
+        public List<CategoryStat> getCategoryStats() { return categoryStats; }
+        public List<ScheduleItem> getScheduleList() { return scheduleList; }
+        public List<DiscountItem> getDiscountList() { return discountList; }
+        public LocalDateTime getBuiltAt() { return builtAt; }
+        public boolean isEmpty() { return builtAt == null; }
+    }
+
     /**
      * API 상세 페이지용 데이터 DTO
      */
@@ -0,0 +1,53 @@
+package com.api.item.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.api.item.service.ItemService.MainPageSnapshot;
+import com.api.union.service.OnbidCallBudget;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인 페이지 스냅샷 관리
+ * - 화면 데이터(공지/카테고리 통계/경매일정/체감 물건)를 주기적으로 미리 만들어 통째로 교체
+ * - 컨트롤러는 현재 스냅샷만 읽으므로 메인 페이지 요청 시 외부 호출/DB 조회 없음
+ * - 갱신 실패 시 이전 스냅샷을 그대로 유지하며, 일부 구역의 원본 조회만 실패하면 그 구역만 이전 값 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MainPageSnapshotService {
+
+    private static final int NOTICE_LIMIT = 5;
+    private static final int SCHEDULE_LIMIT = 10;
+    private static final int DISCOUNT_LIMIT = 4;
+
+    private final ItemService itemViewService;
+    private final OnbidCallBudget callBudget;
+
+    private final AtomicReference<MainPageSnapshot> snapshot = new AtomicReference<>(MainPageSnapshot.empty());
+
+    public MainPageSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${main.snapshot.refresh-seconds:300}", timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        long startNanos = System.nanoTime();
+        try {
+            MainPageSnapshot next = callBudget.withPriority(OnbidCallBudget.Priority.MONITORING,
+                () -> itemViewService.buildMainPageSnapshot(NOTICE_LIMIT, SCHEDULE_LIMIT, DISCOUNT_LIMIT, snapshot.get()));
+            snapshot.set(next);
+            log.info("✅ 메인 페이지 스냅샷 갱신: notices={}, categoryStats={}, scheduleList={}, discountList={}, {}ms",
+                next.getNotices().size(), next.getCategoryStats().size(), next.getScheduleList().size(),
+                next.getDiscountList().size(), (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (Exception e) {
+            log.error("❌ 메인 페이지 스냅샷 갱신 실패 - 이전 스냅샷 유지", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.api.mail.domain;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutbox {
+
+	public static final String STATUS_PENDING = "PENDING";
+	public static final String STATUS_SENDING = "SENDING";
+	public static final String STATUS_SENT = "SENT";
+	public static final String STATUS_FAILED = "FAILED";
+
+	private Long id;
+	private String toEmail; // 받는 사람
+	private String subject; // 제목
+	private String body; // 본문
+	private String status; // PENDING / SENDING / SENT / FAILED
+	private Integer attempts; // 전송 시도 횟수
+	private Timestamp nextAttemptAt; // 다음 전송 가능 시각 (재시도 대기)
+	private String claimToken; // 전송을 맡은 디스패처 실행 식별자
+	private Timestamp lockedUntil; // SENDING 점유 만료 시각 (노드 중단 시 재전송)
+	private String lastError; // 마지막 실패 사유
+	private Timestamp sentAt; // 전송 완료 시각
+	private Timestamp createdAt;
+}
@@ -0,0 +1,38 @@
+package com.api.mail.mapper;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.api.mail.domain.EmailOutbox;
+
+@Mapper
+public interface EmailOutboxMapper {
+    
+    // 메일 발송 대기열 추가
+    void insertEmail(EmailOutbox email);
+    
+    // 발송 가능한 메일을 limit건 점유 (PENDING이면서 대기 시간 경과 + 점유 만료된 SENDING)
+    int claimBatch(@Param("claimToken") String claimToken,
+                   @Param("limit") int limit,
+                   @Param("leaseSeconds") int leaseSeconds);
+    
+    // 점유한 메일 조회
+    List<EmailOutbox> findByClaimToken(@Param("claimToken") String claimToken);
+    
+    // 발송 완료 처리
+    int markSent(@Param("ids") List<Long> ids);
+    
+    // 발송 실패 처리 (재시도 대기 또는 최종 실패)
+    int markFailed(@Param("id") Long id,
+                   @Param("status") String status,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") Timestamp nextAttemptAt,
+                   @Param("lastError") String lastError);
+    
+    // 상태별 건수
+    List<Map<String, Object>> countByStatus();
+}
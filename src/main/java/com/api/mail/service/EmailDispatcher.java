@@ -0,0 +1,214 @@
+package com.api.mail.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.api.mail.domain.EmailOutbox;
+import com.api.mail.mapper.EmailOutboxMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 대기열 디스패처
+ * - 주기적으로 대기열에서 batchSize건을 점유해 concurrency개 묶음으로 나눠 전송
+ * - 묶음 하나는 JavaMailSender.send(배열)로 보내 SMTP 연결 1개를 재사용
+ * - 실패한 메일은 지수 백오프(base * 2^(시도-1), 최대 maxBackoff)로 재시도, maxAttempts 초과 시 FAILED
+ * - 전송 도중 노드가 중단되면 점유 만료(lease) 후 다시 전송 (최소 1회 전송, 재점유도 시도 횟수에 포함)
+ */
+@Slf4j
+@Service
+public class EmailDispatcher {
+
+    // 오류 메시지 저장 최대 길이 (last_error 컬럼)
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxMapper emailOutboxMapper;
+    private final ObjectProvider<JavaMailSender> mailSenderProvider;
+    private final Executor mailExecutor;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long backoffBaseSeconds;
+    private final long backoffMaxSeconds;
+    private final int leaseSeconds;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public EmailDispatcher(EmailOutboxMapper emailOutboxMapper,
+                           ObjectProvider<JavaMailSender> mailSenderProvider,
+                           @Qualifier("mailTaskExecutor") Executor mailExecutor,
+                           @Value("${mail.outbox.batch-size:50}") int batchSize,
+                           @Value("${mail.outbox.concurrency:2}") int concurrency,
+                           @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+                           @Value("${mail.outbox.backoff-base-seconds:30}") long backoffBaseSeconds,
+                           @Value("${mail.outbox.backoff-max-seconds:3600}") long backoffMaxSeconds,
+                           @Value("${mail.outbox.lease-seconds:300}") int leaseSeconds) {
+        this.emailOutboxMapper = emailOutboxMapper;
+        this.mailSenderProvider = mailSenderProvider;
+        this.mailExecutor = mailExecutor;
+        this.batchSize = batchSize;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseSeconds = backoffBaseSeconds;
+        this.backoffMaxSeconds = backoffMaxSeconds;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    @Scheduled(initialDelayString = "${mail.outbox.poll-seconds:10}",
+               fixedDelayString = "${mail.outbox.poll-seconds:10}", timeUnit = TimeUnit.SECONDS)
+    public void dispatch() {
+        JavaMailSender mailSender = mailSenderProvider.getIfAvailable();
+        if (mailSender == null) {
+            // 메일 설정 전까지는 대기열에 그대로 보관
+            return;
+        }
+
+        try {
+            // 한 번 실행에서 대기열이 빌 때까지 batchSize 단위로 반복
+            int dispatched;
+            do {
+                dispatched = dispatchBatch(mailSender);
+            } while (dispatched >= batchSize);
+        } catch (Exception e) {
+            log.error("❌ 메일 대기열 처리 중 오류", e);
+        }
+    }
+
+    private int dispatchBatch(JavaMailSender mailSender) {
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = emailOutboxMapper.claimBatch(claimToken, batchSize, leaseSeconds);
+        if (claimed == 0) {
+            return 0;
+        }
+        List<EmailOutbox> emails = new ArrayList<>(emailOutboxMapper.findByClaimToken(claimToken));
+
+        // 점유 만료로 재점유된 메일이 최대 시도 횟수에 도달했으면 더 보내지 않고 FAILED
+        emails.removeIf(email -> {
+            int attempts = email.getAttempts() != null ? email.getAttempts() : 0;
+            if (attempts < maxAttempts) {
+                return false;
+            }
+            emailOutboxMapper.markFailed(email.getId(), EmailOutbox.STATUS_FAILED, attempts, null, "lease expired");
+            failedCount.incrementAndGet();
+            log.error("❌ 메일 전송 최종 실패 (점유 만료 {}회): id={}, to={}", attempts, email.getId(), email.getToEmail());
+            return true;
+        });
+        if (emails.isEmpty()) {
+            return claimed;
+        }
+
+        int chunk = (emails.size() + concurrency - 1) / concurrency;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(concurrency);
+        for (int from = 0; from < emails.size(); from += chunk) {
+            List<EmailOutbox> part = emails.subList(from, Math.min(from + chunk, emails.size()));
+            futures.add(CompletableFuture.runAsync(() -> sendChunk(mailSender, part), mailExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        log.info("📧 메일 대기열 전송: {}건 (누적 성공={}, 재시도={}, 실패={})",
+            emails.size(), sentCount.get(), retryCount.get(), failedCount.get());
+        return claimed;
+    }
+
+    /**
+     * 묶음 하나를 SMTP 연결 1개로 전송하고 결과 기록
+     */
+    private void sendChunk(JavaMailSender mailSender, List<EmailOutbox> emails) {
+        Map<SimpleMailMessage, EmailOutbox> byMessage = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[emails.size()];
+        for (int i = 0; i < emails.size(); i++) {
+            EmailOutbox email = emails.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(email.getToEmail());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+            messages[i] = message;
+            byMessage.put(message, email);
+        }
+
+        Map<EmailOutbox, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            // 메시지별 실패 (연결 실패 시 남은 메시지 전체가 포함됨)
+            e.getFailedMessages().forEach((message, ex) -> {
+                EmailOutbox email = byMessage.get(message);
+                if (email != null) {
+                    failures.put(email, ex);
+                }
+            });
+            if (failures.isEmpty()) {
+                emails.forEach(email -> failures.put(email, e));
+            }
+        } catch (MailException e) {
+            // 인증 실패 등 묶음 전체 실패
+            emails.forEach(email -> failures.put(email, e));
+        }
+
+        List<Long> sentIds = new ArrayList<>(emails.size());
+        for (EmailOutbox email : emails) {
+            Exception failure = failures.get(email);
+            if (failure == null) {
+                sentIds.add(email.getId());
+            } else {
+                markFailed(email, failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            emailOutboxMapper.markSent(sentIds);
+            sentCount.addAndGet(sentIds.size());
+        }
+    }
+
+    private void markFailed(EmailOutbox email, Exception failure) {
+        int attempts = (email.getAttempts() != null ? email.getAttempts() : 0) + 1;
+        String error = failure.getMessage() != null ? failure.getMessage() : failure.getClass().getSimpleName();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (attempts >= maxAttempts) {
+            emailOutboxMapper.markFailed(email.getId(), EmailOutbox.STATUS_FAILED, attempts, null, error);
+            failedCount.incrementAndGet();
+            log.error("❌ 메일 전송 최종 실패 ({}회): id={}, to={} - {}", attempts, email.getId(), email.getToEmail(), error);
+            return;
+        }
+
+        long delaySeconds = Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(attempts - 1, 20));
+        Timestamp nextAttemptAt = new Timestamp(System.currentTimeMillis() + delaySeconds * 1000);
+        emailOutboxMapper.markFailed(email.getId(), EmailOutbox.STATUS_PENDING, attempts, nextAttemptAt, error);
+        retryCount.incrementAndGet();
+        log.warn("⚠️ 메일 전송 실패 ({}회차, {}초 후 재시도): id={}, to={} - {}",
+            attempts, delaySeconds, email.getId(), email.getToEmail(), error);
+    }
+
+    /**
+     * 실행 이후 누적 전송 결과
+     */
+    public Map<String, Object> getStats() {
+        return Map.of(
+            "sent", sentCount.get(),
+            "retried", retryCount.get(),
+            "failed", failedCount.get());
+    }
+}
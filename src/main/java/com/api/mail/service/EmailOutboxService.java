@@ -0,0 +1,61 @@
+package com.api.mail.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.api.mail.domain.EmailOutbox;
+import com.api.mail.mapper.EmailOutboxMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 대기열 (email_outbox)
+ * - 메일은 즉시 보내지 않고 호출자의 트랜잭션 안에서 대기열에 저장
+ *   (알림 저장이 롤백되면 메일도 함께 취소, 커밋되면 노드가 재시작돼도 유실 없음)
+ * - 실제 전송은 EmailDispatcher가 담당
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxMapper emailOutboxMapper;
+
+    /**
+     * 메일 발송 대기열 추가
+     * @param toEmail 받는 사람 이메일
+     * @param subject 제목
+     * @param body 본문
+     */
+    @Transactional
+    public void enqueue(String toEmail, String subject, String body) {
+        if (toEmail == null || toEmail.isBlank()) {
+            log.warn("⚠️ 받는 사람 이메일이 없어 메일을 대기열에 추가하지 않습니다: {}", subject);
+            return;
+        }
+        emailOutboxMapper.insertEmail(EmailOutbox.builder()
+            .toEmail(toEmail)
+            .subject(subject)
+            .body(body)
+            .build());
+    }
+
+    /**
+     * 상태별 대기열 건수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        List<Map<String, Object>> rows = emailOutboxMapper.countByStatus();
+        for (Map<String, Object> row : rows) {
+            Object status = row.get("status") != null ? row.get("status") : row.get("STATUS");
+            Object count = row.get("cnt") != null ? row.get("cnt") : row.get("CNT");
+            result.put(String.valueOf(status), count);
+        }
+        return result;
+    }
+}
@@ -1,6 +1,10 @@
 package com.api.member.mapper;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import com.api.member.domain.Member;
 
@@ -9,6 +13,9 @@ public interface MemberMapper {
 
     Member getMemberInfo(String id);
     
+    // 회원 일괄 조회 (알림 발송용: 이름/메일만)
+    List<Member> getMembersByIds(@Param("ids") Collection<String> ids);
+    
     int insertMember(Member member);
     
     int updateMember(Member member);
@@ -8,6 +8,7 @@ import org.apache.ibatis.annotations.Param;
 import com.api.payment.domain.PaymentBase;
 import com.api.payment.domain.PaymentDetail;
 import com.api.payment.domain.PaymentHistory;
+import com.api.payment.dto.PaymentResponse;
 
 @Mapper  // MyBatis Mapper 인터페이스로 등록
 public interface PaymentMapper {
@@ -60,6 +61,9 @@ public interface PaymentMapper {
     // 회원의 결제 내역 조회 (payment_base와 payment_detail 조인)
     List<PaymentDetail> selectPaymentDetailsByMemberId(@Param("memberId") String memberId);
     
+    // 회원의 내 결제 내역 조회 (물건별 최신 결제 1건 + 물건 정보, 한 번의 조회)
+    List<PaymentResponse> selectMyPayments(@Param("memberId") String memberId);
+    
     // ========== payment_history 관련 ==========
     
     // 결제 히스토리 추가
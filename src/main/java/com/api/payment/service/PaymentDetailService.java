@@ -3,10 +3,8 @@ package com.api.payment.service;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -20,7 +18,6 @@ import com.api.payment.domain.PaymentDetail;
 import com.api.payment.domain.PaymentHistory;
 import com.api.payment.dto.PaymentConverter;
 import com.api.payment.dto.PaymentResponse;
-import com.api.payment.util.PaymentKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,9 +35,8 @@ public class PaymentDetailService {
     private final ItemRestService itemService;
     private final com.api.member.service.MemberService memberService;
     private final PaymentConverter paymentConverter;
-    private final PaymentKeyGenerator paymentKeyGenerator;
-    // 결제 정보를 메모리에 임시 저장 (결제 완료 전까지) - 호환성을 위해 유지
-    private final Map<String, PaymentDetail> paymentStore = new ConcurrentHashMap<>();
+    // 결제 정보를 메모리에 임시 저장 (결제 완료 전까지, 결제 대기 시간 후 자동 제거)
+    private final PendingPaymentStore pendingPayments;
 
     /**
      * 결제 상세 정보 조회 (payment_detail.id로) - DB + 메모리 조회
@@ -56,10 +52,7 @@ public class PaymentDetailService {
         }
         
         // DB에 없으면 메모리에서 조회
-        return paymentStore.values().stream()
-                .filter(p -> p.getId().equals(paymentDetailId))
-                .findFirst()
-                .orElse(null);
+        return pendingPayments.getById(paymentDetailId);
     }
     
     /**
@@ -76,7 +69,7 @@ public class PaymentDetailService {
         }
         
         // DB에 없으면 메모리에서 조회
-        return paymentStore.get(merchantUid);
+        return pendingPayments.getByMerchantUid(merchantUid);
     }
 
     
@@ -167,14 +160,14 @@ public class PaymentDetailService {
      * 메모리 저장소에 PaymentDetail 저장 (결제 완료 전까지)
      */
     public void putPaymentStore(String merchantUid, PaymentDetail paymentDetail) {
-        paymentStore.put(merchantUid, paymentDetail);
+        pendingPayments.put(merchantUid, paymentDetail);
     }
 
     /**
      * 메모리 저장소에서 PaymentDetail 조회
      */
     public PaymentDetail getPaymentStore(String merchantUid) {
-        return paymentStore.get(merchantUid);
+        return pendingPayments.getByMerchantUid(merchantUid);
     }
 
     /**
@@ -201,109 +194,16 @@ public class PaymentDetailService {
     }
 
     /**
-     * 내 결제 내역 데이터 준비 (중복 제거 및 정보 조회 포함)
+     * 내 결제 내역 데이터 준비
+     * 물건별 최신 결제 선택과 물건 정보(마감일시/물건명) 조인은 selectMyPayments 한 번의 조회로 처리
      */
     private List<PaymentResponse> prepareMyPaymentsData(String memberId) {
         try {
-            List<PaymentDetail> paymentDetails = paymentService.selectPaymentDetailsByMemberId(memberId);
-            
-            // 중복 제거: 같은 itemId/cltrNo에 대한 payment 중 가장 최근 것만 유지
-            // itemId와 cltrNo는 같은 물건을 나타낼 수 있으므로 통합 처리
-            Map<String, PaymentDetail> uniquePayments = new LinkedHashMap<>();
-            for (PaymentDetail paymentDetail : paymentDetails) {
-                // payment_base에서 itemId 조회
-                PaymentBase paymentBase = paymentService.getPaymentBase(paymentDetail);
-                if (paymentBase == null) continue;
-                
-                String key = paymentKeyGenerator.generateKey(paymentDetail, paymentBase);
-                
-                // itemId만 있고 cltrNo가 없는 경우, ItemDetail을 조회하여 cltrNo 기반 키로 변환
-                if (paymentBase.getItemId() != null && (paymentDetail.getCltrNo() == null || paymentDetail.getCltrNo().isEmpty())) {
-                    try {
-                        ItemDetail itemDetail = itemService.getItemDetail(paymentBase.getItemId());
-                        if (itemDetail != null && itemDetail.getCltrMnmtNo() != null && !itemDetail.getCltrMnmtNo().isEmpty()) {
-                            // cltrNo 기반 키로 변경 (더 고유함)
-                            key = "cltr_" + itemDetail.getCltrMnmtNo();
-                        }
-                    } catch (Exception e) {
-                        log.warn("ItemDetail 조회 실패로 인한 키 변환 실패: itemId={}, error={}", 
-                                paymentBase.getItemId(), e.getMessage());
-                    }
-                }
-                
-                // 중복 제거: 같은 키가 없거나, 현재 payment가 더 최근이면 업데이트
-                if (!uniquePayments.containsKey(key)) {
-                    uniquePayments.put(key, paymentDetail);
-                } else {
-                    PaymentDetail existing = uniquePayments.get(key);
-                    // createdAt null 체크 및 비교
-                    Timestamp currentDate = paymentDetail.getCreatedAt();
-                    Timestamp existingDate = existing.getCreatedAt();
-                    
-                    if (currentDate != null && existingDate != null) {
-                        if (currentDate.after(existingDate)) {
-                            uniquePayments.put(key, paymentDetail);
-                        }
-                    } else if (currentDate != null && existingDate == null) {
-                        // 현재 payment에만 날짜가 있으면 현재 것으로 교체
-                        uniquePayments.put(key, paymentDetail);
-                    }
-                    // 둘 다 null이거나 existing만 있으면 기존 것 유지
-                }
+            List<PaymentResponse> responses = paymentService.selectMyPayments(memberId);
+            for (PaymentResponse response : responses) {
+                response.formatDates();
             }
-            
-            // Domain 리스트를 DTO 리스트로 변환
-            return uniquePayments.values().stream()
-                    .map(paymentDetail -> {
-                        // payment_base 조회
-                        PaymentBase paymentBase = paymentService.getPaymentBase(paymentDetail);
-                        if (paymentBase == null) {
-                            log.warn("payment_base를 찾을 수 없음: paymentId={}", paymentDetail.getPaymentId());
-                            return null;
-                        }
-                        
-                        // PaymentDetail과 PaymentBase를 결합하여 PaymentResponse 생성
-                        PaymentResponse response = paymentConverter.toResponse(paymentDetail, paymentBase);
-                        
-                        // 각 Payment에 대한 ItemDetail 정보 조회하여 deadlineDate와 itemName 설정
-                        try {
-                            if (paymentBase.getItemId() != null) {
-                                ItemDetail itemDetail = itemService.getItemDetail(paymentBase.getItemId());
-                                if (itemDetail != null) {
-                                    if (itemDetail.getBidEnd() != null) {
-                                        java.time.LocalDateTime bidEnd = itemDetail.getBidEnd();
-                                        response.setDeadlineDate(Timestamp.valueOf(bidEnd));
-                                    }
-                                    if (response.getItemName() == null || response.getItemName().isEmpty()) {
-                                        response.setItemName(itemDetail.getAddress() != null ? itemDetail.getAddress() : itemDetail.getGoodsDetail());
-                                    }
-                                    if (response.getCltrNo() == null || response.getCltrNo().isEmpty()) {
-                                        response.setCltrNo(itemDetail.getCltrMnmtNo());
-                                    }
-                                }
-                            } else if (paymentDetail.getCltrNo() != null) {
-                                ItemDetail itemDetail = itemService.getItemDetailByCltrMnmtNo(paymentDetail.getCltrNo());
-                                if (itemDetail != null) {
-                                    if (itemDetail.getBidEnd() != null) {
-                                        java.time.LocalDateTime bidEnd = itemDetail.getBidEnd();
-                                        response.setDeadlineDate(Timestamp.valueOf(bidEnd));
-                                    }
-                                    if (response.getItemName() == null || response.getItemName().isEmpty()) {
-                                        response.setItemName(itemDetail.getAddress() != null ? itemDetail.getAddress() : itemDetail.getGoodsDetail());
-                                    }
-                                    if (response.getItemId() == null) {
-                                        response.setItemId(itemDetail.getPlnmNo());
-                                    }
-                                }
-                            }
-                        } catch (Exception e) {
-                            log.warn("입찰 정보 조회 실패: paymentDetailId={}, error={}", paymentDetail.getId(), e.getMessage());
-                        }
-                        response.formatDates();
-                        return response;
-                    })
-                    .filter(response -> response != null)
-                        .collect(java.util.stream.Collectors.toList());
+            return responses;
         } catch (Exception e) {
             log.error("내 결제 내역 데이터 준비 중 오류 발생", e);
             return new ArrayList<>();
@@ -519,6 +419,9 @@ public class PaymentDetailService {
         history.setDescription("결제가 완료되었습니다. imp_uid: " + impUid);
         paymentService.insertPaymentHistory(history);
 
+        // 결제 완료 후에는 임시 저장 불필요
+        pendingPayments.remove(merchantUid);
+
         result.put("success", true);
         result.put("payment", paymentDetail);
         return result;
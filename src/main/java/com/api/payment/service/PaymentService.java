@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.api.payment.domain.PaymentBase;
 import com.api.payment.domain.PaymentDetail;
 import com.api.payment.domain.PaymentHistory;
+import com.api.payment.dto.PaymentResponse;
 import com.api.payment.mapper.PaymentMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -132,6 +133,13 @@ public class PaymentService {
         return paymentMapper.selectPaymentDetailsByMemberId(memberId);
     }
 
+    /**
+     * 내 결제 내역 조회 (물건별 최신 결제 1건, 마감일시/물건명 포함)
+     */
+    public List<PaymentResponse> selectMyPayments(String memberId) {
+        return paymentMapper.selectMyPayments(memberId);
+    }
+
     // ========== payment_history CRUD ==========
     
     /**
@@ -0,0 +1,105 @@
+package com.api.payment.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.api.payment.domain.PaymentDetail;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 완료 전 임시 결제 정보 저장소
+ * - merchantUid 기준 Caffeine 캐시 + payment_detail.id → merchantUid 보조 인덱스 (둘 다 상수 시간 조회)
+ * - 결제 대기 시간(checkout-minutes)이 지나거나 최대 건수를 넘으면 자동 제거
+ * - 캐시에서 제거될 때 보조 인덱스도 함께 제거 (같은 merchantUid가 다른 id로 교체되면 이전 id 항목은 put에서 제거)
+ * - getById는 찾은 결제 정보의 id가 요청한 id와 같은지 한 번 더 확인
+ */
+@Slf4j
+@Component
+public class PendingPaymentStore {
+
+    private final Cache<String, PaymentDetail> byMerchantUid;
+    private final Map<Long, String> merchantUidById = new ConcurrentHashMap<>();
+
+    public PendingPaymentStore(@Value("${payment.pending.checkout-minutes:30}") long checkoutMinutes,
+                               @Value("${payment.pending.max-size:10000}") long maxSize) {
+        this.byMerchantUid = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(checkoutMinutes))
+                .maximumSize(maxSize)
+                .recordStats()
+                .removalListener((String merchantUid, PaymentDetail payment, RemovalCause cause) -> {
+                    // 같은 merchantUid로 교체된 경우 인덱스는 새 값이 사용
+                    if (cause != RemovalCause.REPLACED && payment != null && payment.getId() != null) {
+                        merchantUidById.remove(payment.getId(), merchantUid);
+                    }
+                    if (cause == RemovalCause.SIZE) {
+                        log.warn("⚠️ 임시 결제 정보 최대 건수 초과로 제거: merchantUid={}", merchantUid);
+                    }
+                })
+                .build();
+    }
+
+    public void put(String merchantUid, PaymentDetail paymentDetail) {
+        if (merchantUid == null || paymentDetail == null) {
+            return;
+        }
+        if (paymentDetail.getId() != null) {
+            merchantUidById.put(paymentDetail.getId(), merchantUid);
+        }
+        PaymentDetail previous = byMerchantUid.asMap().put(merchantUid, paymentDetail);
+        if (previous != null && previous.getId() != null && !previous.getId().equals(paymentDetail.getId())) {
+            merchantUidById.remove(previous.getId(), merchantUid);
+        }
+    }
+
+    public PaymentDetail getByMerchantUid(String merchantUid) {
+        return merchantUid != null ? byMerchantUid.getIfPresent(merchantUid) : null;
+    }
+
+    public PaymentDetail getById(Long paymentDetailId) {
+        if (paymentDetailId == null) {
+            return null;
+        }
+        String merchantUid = merchantUidById.get(paymentDetailId);
+        if (merchantUid == null) {
+            return null;
+        }
+        PaymentDetail payment = byMerchantUid.getIfPresent(merchantUid);
+        if (payment == null || !paymentDetailId.equals(payment.getId())) {
+            // 만료/교체로 남은 인덱스 항목 정리
+            merchantUidById.remove(paymentDetailId, merchantUid);
+            return null;
+        }
+        return payment;
+    }
+
+    // 결제 완료/취소 등으로 더 이상 임시 보관이 필요 없을 때 제거
+    public void remove(String merchantUid) {
+        if (merchantUid != null) {
+            byMerchantUid.invalidate(merchantUid);
+        }
+    }
+
+    /**
+     * 보관 건수, 적중/미스, 만료/초과 제거 건수
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = byMerchantUid.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", byMerchantUid.estimatedSize());
+        result.put("indexSize", merchantUidById.size());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+}
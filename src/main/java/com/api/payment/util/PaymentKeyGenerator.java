@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 /**
  * Payment의 고유 키 생성 유틸리티
  * 같은 물건을 나타내는 payment는 같은 키를 반환해야 함 (중복 체크용)
+ * 내 결제 내역 조회(paymentMapper.xml selectMyPayments)의 PARTITION BY도 같은 규칙을 사용
  */
 @Component
 public class PaymentKeyGenerator {
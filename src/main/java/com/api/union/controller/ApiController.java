@@ -1,5 +1,6 @@
 package com.api.union.controller;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
@@ -13,7 +14,11 @@ import com.api.admin.domain.ItemListResponse;
 import com.api.item.domain.Item;
 import com.api.item.dto.ItemDetail;
 import com.api.item.service.ItemRestService;
+import com.api.union.dto.IngestionJob;
+import com.api.union.service.IngestionJobService;
 import com.api.union.service.ItemFetchService;
+import com.api.union.service.OnbidFeed;
+import com.api.union.service.RegionIngestionScheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,23 +31,33 @@ public class ApiController {
 
     private final ItemFetchService itemFetchService; // DB 저장용
     private final ItemRestService itemRestService; // 조회용
-     
+    private final IngestionJobService ingestionJobService; // 일괄 저장 작업
+
+    // 전체 페이지 저장은 백그라운드 수집 작업으로 등록 (진행 상황: GET /api/admin/ingest-jobs/{jobId})
+    // sido를 생략하면 전국 17개 시도별로 작업 등록
     @PostMapping("/all-new-items/save")
-    public String saveAllNewItems() {
-        int saved = itemFetchService.fetchAndSaveAllNewItems();
-        return saved + "건 저장 완료";
+    public String saveAllNewItems(@RequestParam(name = "sido", required = false) String sido) {
+        return startIngestionJobs(OnbidFeed.NEW, sido);
     }
 
     @PostMapping("/all-discount-items/save")
-    public String saveAllDiscountItems() {
-        int saved = itemFetchService.fetchAndSaveAllDiscountItems();
-        return saved + "건 저장 완료";
+    public String saveAllDiscountItems(@RequestParam(name = "sido", required = false) String sido) {
+        return startIngestionJobs(OnbidFeed.DISCOUNT, sido);
     }
 
     @PostMapping("/all-usage-items/save")
-    public String saveAllUsageItems() {
-        int saved = itemFetchService.fetchAndSaveAllUsageItems();
-        return saved + "건 저장 완료";
+    public String saveAllUsageItems(@RequestParam(name = "sido", required = false) String sido) {
+        return startIngestionJobs(OnbidFeed.USAGE, sido);
+    }
+
+    private String startIngestionJobs(OnbidFeed feed, String sido) {
+        List<String> sidos = (sido == null || sido.isBlank()) ? RegionIngestionScheduler.ALL_SIDO : List.of(sido.trim());
+        List<String> results = new ArrayList<>(sidos.size());
+        for (String target : sidos) {
+            IngestionJob job = ingestionJobService.start(feed, target);
+            results.add(target + ": " + job.getStatus() + " (jobId=" + job.getId() + ", 저장 " + job.getSavedCount() + "건)");
+        }
+        return feed.getLabel() + " 저장 작업 " + String.join(", ", results);
     }
 
     // =============================================================================
@@ -0,0 +1,36 @@
+package com.api.union.dto;
+
+import java.sql.Timestamp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionJob {
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_CANCEL_REQUESTED = "CANCEL_REQUESTED";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_CANCELLED = "CANCELLED";
+
+    private Long id;
+    private String feed;          // OnbidFeed 이름 (NEW / DISCOUNT / USAGE)
+    private String sido;          // 시도
+    private String status;        // QUEUED / RUNNING / CANCEL_REQUESTED / COMPLETED / FAILED / CANCELLED
+    private int lastPage;         // 마지막으로 저장(커밋)한 페이지 번호 (재개 시 다음 페이지부터)
+    private int maxPages;         // 조회할 최대 페이지 번호
+    private int pagesFetched;     // 저장까지 반영된 페이지 수 (누적)
+    private int savedCount;       // 저장된 물건 수 (누적)
+    private String error;         // 실패 사유
+    private Timestamp createdAt;
+    private Timestamp startedAt;
+    private Timestamp updatedAt;  // 마지막 진행 기록 시각 (실행 중 노드 생존 확인용)
+    private Timestamp finishedAt;
+}
@@ -0,0 +1,19 @@
+package com.api.union.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionResult {
+    private int pagesFetched;     // 실제 저장까지 반영된 페이지 수
+    private int savedCount;       // 저장된 물건 수
+    private int lastPage;         // 마지막으로 저장한 페이지 번호
+    private boolean completed;    // 마지막 페이지(빈 페이지/짧은 페이지)까지 도달 여부
+    private boolean cancelled;    // 체크포인트에서 중단 요청으로 멈췄는지 여부
+    private long elapsedMs;       // 소요 시간
+}
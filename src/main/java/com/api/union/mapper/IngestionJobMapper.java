@@ -0,0 +1,48 @@
+package com.api.union.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.api.union.dto.IngestionJob;
+
+@Mapper
+public interface IngestionJobMapper {
+    
+    // 작업 등록 (QUEUED, 같은 종류/시도의 진행 중 작업이 있으면 DuplicateKeyException)
+    void insertJob(IngestionJob job);
+    
+    // 작업 조회
+    IngestionJob findById(@Param("id") Long id);
+    
+    // 종류/시도별 가장 최근 작업
+    IngestionJob findLatest(@Param("feed") String feed, @Param("sido") String sido);
+    
+    // 최근 작업 목록
+    List<IngestionJob> findRecent(@Param("limit") int limit);
+    
+    // 실행 대기 중인 작업
+    List<IngestionJob> findQueued();
+    
+    // 실행 권한 획득 (QUEUED → RUNNING, 다른 실행기가 먼저 가져갔으면 0)
+    int claim(@Param("id") Long id);
+    
+    // 페이지 저장 후 진행 기록 (RUNNING이 아니면 0 → 취소 요청됨)
+    int updateProgress(@Param("id") Long id,
+                       @Param("lastPage") int lastPage,
+                       @Param("pagesFetched") int pagesFetched,
+                       @Param("savedCount") int savedCount);
+    
+    // 종료 처리 (RUNNING / CANCEL_REQUESTED인 작업만, 아니면 0)
+    int finish(@Param("id") Long id, @Param("status") String status, @Param("error") String error);
+    
+    // 취소 요청 (QUEUED는 바로 CANCELLED, RUNNING은 CANCEL_REQUESTED)
+    int requestCancel(@Param("id") Long id);
+    
+    // 재개 (FAILED / CANCELLED → QUEUED, 같은 종류/시도의 다른 작업이 진행 중이면 DuplicateKeyException)
+    int requeue(@Param("id") Long id);
+    
+    // 진행 기록이 끊긴 작업 정리 (RUNNING → QUEUED, CANCEL_REQUESTED → CANCELLED)
+    int recoverStale(@Param("staleSeconds") int staleSeconds);
+}
@@ -1,9 +1,27 @@
 package com.api.union.service;
 
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.api.util.ApiXmlParser;
+import com.api.util.OnbidPage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * =================================================================== 
  * Onbid 외부 API 호출 서비스
@@ -16,98 +34,299 @@ import org.springframework.web.client.RestTemplate;
  * getUnifyUsageCltr는 용도별로 필터링된 물건을 조회하는 API입니다.
  */
 
+@Slf4j
 @Service
 public class ApiService {
 
+    private static final String BASE_URL = "http://openapi.onbid.co.kr/openapi/services/ThingInfoInquireSvc/";
+
     private final RestTemplate restTemplate;
 
-    @Value("${onbid.serviceKey}")
-    private String serviceKey;
+    // 동일 (API, 페이지, 행 수, 시도) 동시 요청은 한 번만 호출하고 결과 공유
+    private final SingleFlight<String, OnbidPage> pageFlight = new SingleFlight<>(OnbidPage::copy);
+
+    // API별 회로 차단기
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    // 마지막으로 정상 응답을 받은 페이지 (회로 차단/장애 시 INTERACTIVE/MONITORING 호출에만 stale 표시로 대체 응답)
+    private final Cache<String, OnbidPage> lastGoodPages;
+
+    // 회로 차단 중 백그라운드 재시도 실행기
+    private final Executor refreshExecutor;
+
+    // serviceKey 호출 예산 (우선순위별 토큰 버킷)
+    private final OnbidCallBudget callBudget;
+
+    // serviceKey 풀 (남은 할당량 기준 분배, 할당량 초과 키 일시 제외)
+    private final ServiceKeyPool keyPool;
+
+    @Value("${onbid.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${onbid.circuit.open-seconds:30}")
+    private long openSeconds;
 
-    public ApiService(RestTemplate restTemplate) {
+    public ApiService(RestTemplate restTemplate,
+                      @Qualifier("apiTaskExecutor") Executor refreshExecutor,
+                      OnbidCallBudget callBudget,
+                      ServiceKeyPool keyPool,
+                      @Value("${onbid.stale.max-pages:2000}") long staleMaxPages) {
         this.restTemplate = restTemplate;
+        this.refreshExecutor = refreshExecutor;
+        this.callBudget = callBudget;
+        this.keyPool = keyPool;
+        this.lastGoodPages = Caffeine.newBuilder()
+                .maximumSize(staleMaxPages)
+                .expireAfterWrite(Duration.ofHours(24))
+                .build();
     }
 
- // 신물건 조회
+    // =============================================================================
+    // 원본 XML 조회 (관리자 원본 응답 확인용)
+    // =============================================================================
+
+    // 신물건 조회
     public String getUnifyNewCltrList(int pageNo, int numOfRows, String sido) {
-        String url = "http://openapi.onbid.co.kr/openapi/services/ThingInfoInquireSvc/getUnifyNewCltrList"
-                + "?serviceKey=" + serviceKey
-                + "&DPSL_MTD_CD=0001"  // 처분방식코드: 0001=매각
-                + "&pageNo=" + pageNo
-                + "&numOfRows=" + numOfRows
-                + "&SIDO=" + sido;
-        
-        System.out.println("🟢 [신물건 조회 API] URL: " + url);
-        
-        try {
-            String response = restTemplate.getForObject(url, String.class);
-            System.out.println("🟢 [신물건 조회 API] 응답 길이: " + (response != null ? response.length() : 0));
-            return response;
-        } catch (Exception e) {
-            System.err.println("❌ [신물건 조회 API] 호출 실패: " + e.getMessage());
-            throw new RuntimeException("신물건 조회 API 호출 실패: " + e.getMessage(), e);
-        }
+        return requestRaw("getUnifyNewCltrList", true, pageNo, numOfRows, sido);
     }
 
     // 감가 50% 조회
     public String getUnifyDegression50PerCltrList(int pageNo, int numOfRows, String sido) {
-        String url = "http://openapi.onbid.co.kr/openapi/services/ThingInfoInquireSvc/getUnifyDegression50PerCltrList"
-                + "?serviceKey=" + serviceKey
-                + "&pageNo=" + pageNo
-                + "&numOfRows=" + numOfRows
-                + "&SIDO=" + sido;
-        return restTemplate.getForObject(url, String.class);
+        return requestRaw("getUnifyDegression50PerCltrList", false, pageNo, numOfRows, sido);
     }
 
     // 용도별 통합 조회 (전체 경매물건 조회용)
     // DPSL_MTD_CD=0001 (매각) 파라미터를 추가하여 전체 경매물건 조회
     public String getUnifyUsageCltrList(int pageNo, int numOfRows, String sido) {
-        System.out.println("🔵 [용도별 통합 조회 API] 호출 시작: pageNo=" + pageNo + ", numOfRows=" + numOfRows + ", sido=" + sido);
-        System.out.println("🔵 [용도별 통합 조회 API] serviceKey 설정 여부: " + (serviceKey != null && !serviceKey.isEmpty()));
-        
-        String url = "http://openapi.onbid.co.kr/openapi/services/ThingInfoInquireSvc/getUnifyUsageCltr"
-                + "?serviceKey=" + serviceKey
-                + "&DPSL_MTD_CD=0001"  // 처분방식코드: 0001=매각
-                + "&pageNo=" + pageNo
-                + "&numOfRows=" + numOfRows
-                + "&SIDO=" + sido;
-        
-        System.out.println("🔵 [용도별 통합 조회 API - 전체 경매물건] URL: " + url);
-        
-        try {
-            System.out.println("🔵 [용도별 통합 조회 API] RestTemplate 호출 시작...");
-            String response = restTemplate.getForObject(url, String.class);
-            System.out.println("🔵 [용도별 통합 조회 API] RestTemplate 호출 완료");
-            System.out.println("🔵 [용도별 통합 조회 API] 응답 != null: " + (response != null));
-            
+        return requestRaw("getUnifyUsageCltr", true, pageNo, numOfRows, sido);
+    }
+
+    // 원본 응답도 requestPage와 같이 호출마다 예산 차감, 응답 코드를 키 풀에 반영하고 할당량 초과면 다른 키로 재시도
+    // (serviceKey가 들어간 URL은 로그에 남기지 않음)
+    private String requestRaw(String operation, boolean saleOnly, int pageNo, int numOfRows, String sido) {
+        for (int attempt = 1; ; attempt++) {
+            callBudget.acquire(operation);
+            ServiceKeyPool.KeyState key = nextKey(operation);
+            String response;
+            try {
+                response = restTemplate.getForObject(buildUrl(operation, key, saleOnly, pageNo, numOfRows, sido), String.class);
+            } catch (Exception e) {
+                log.error("❌ [{}] 원본 API 호출 실패: pageNo={}, sido={}, error={}", operation, pageNo, sido, e.getMessage());
+                throw new RuntimeException(operation + " API 호출 실패: " + e.getMessage(), e);
+            }
             if (response == null) {
-                System.err.println("❌ [용도별 통합 조회 API] 응답이 null입니다!");
+                log.warn("⚠️ [{}] 원본 API 응답 없음: pageNo={}, sido={}", operation, pageNo, sido);
                 return null;
             }
-            
-            System.out.println("🔵 [용도별 통합 조회 API] 응답 길이: " + response.length());
-            
-            // 응답 내용 확인 (에러 메시지 체크)
-            if (response.contains("<resultCode>") || response.contains("<resultMsg>")) {
-                System.err.println("❌ [용도별 통합 조회 API] API 에러 응답 감지!");
-                if (response.length() < 1000) {
-                    System.err.println("❌ [용도별 통합 조회 API] 에러 응답 내용: " + response);
-                } else {
-                    System.err.println("❌ [용도별 통합 조회 API] 에러 응답 일부: " + response.substring(0, 1000));
+
+            String resultCode = ApiXmlParser.parsePage(new StringReader(response)).getResultCode();
+            log.info("📡 [{}] 원본 API 응답: pageNo={}, sido={}, resultCode={}, length={}",
+                operation, pageNo, sido, resultCode, response.length());
+            if (keyPool.reportResult(key, resultCode) && attempt < keyPool.size()) {
+                log.info("🔑 [{}] 다른 serviceKey로 재시도: pageNo={}, sido={}", operation, pageNo, sido);
+                continue;
+            }
+            return response;
+        }
+    }
+
+    // =============================================================================
+    // 스트리밍 조회 (응답 문자열을 만들지 않고 InputStream에서 바로 파싱)
+    // =============================================================================
+
+    // 신물건 조회 → 파싱 결과
+    public OnbidPage fetchNewCltrPage(int pageNo, int numOfRows, String sido) {
+        return fetchPage("getUnifyNewCltrList", true, pageNo, numOfRows, sido);
+    }
+
+    // 감가 50% 조회 → 파싱 결과
+    public OnbidPage fetchDegression50PerCltrPage(int pageNo, int numOfRows, String sido) {
+        return fetchPage("getUnifyDegression50PerCltrList", false, pageNo, numOfRows, sido);
+    }
+
+    // 용도별 통합 조회 → 파싱 결과
+    public OnbidPage fetchUsageCltrPage(int pageNo, int numOfRows, String sido) {
+        return fetchPage("getUnifyUsageCltr", true, pageNo, numOfRows, sido);
+    }
+
+    // 대체 응답(stale)은 사용자 화면/모니터링 호출에만 - BULK 수집은 오류를 그대로 받아 체크포인트를 넘기지 않음
+    private OnbidPage fetchPage(String operation, boolean saleOnly, int pageNo, int numOfRows, String sido) {
+        String key = operation + "|" + pageNo + "|" + numOfRows + "|" + sido;
+        CircuitBreaker breaker = breakers.computeIfAbsent(operation,
+                op -> new CircuitBreaker(op, failureThreshold, openSeconds * 1000));
+        Supplier<OnbidPage> call = () -> requestPage(operation, saleOnly, pageNo, numOfRows, sido);
+        boolean staleAllowed = callBudget.currentPriority() != OnbidCallBudget.Priority.BULK;
+
+        // 회로 차단 중: 온비드를 기다리지 않고 마지막 정상 페이지로 즉시 응답, 재시도는 백그라운드에서
+        if (!breaker.isClosed()) {
+            scheduleProbe(breaker, key, call);
+            OnbidPage stale = staleAllowed ? lastGoodPages.getIfPresent(key) : null;
+            if (stale != null) {
+                log.warn("⚠️ [{}] 회로 차단 중 - 이전 정상 응답 사용(stale): pageNo={}, sido={}", operation, pageNo, sido);
+                return stale.asStale();
+            }
+            throw new RuntimeException(operation + " API 회로 차단 중 (이전 정상 응답 없음)");
+        }
+
+        OnbidPage page;
+        try {
+            // 예산은 실제 호출하는 요청만 차감 (병합된 요청은 차감 없음), 예산 부족은 회로 차단기에 반영하지 않음
+            // 우선순위별로 따로 병합 - 사용자 요청이 BULK 수집 호출에 합류해 BULK 예산으로 대기/거절되지 않도록
+            String flightKey = key + "|" + callBudget.currentPriority();
+            page = pageFlight.execute(flightKey, () -> {
+                callBudget.acquire(operation);
+                return guardedRequest(breaker, key, call);
+            });
+        } catch (RuntimeException e) {
+            OnbidPage stale = staleAllowed ? lastGoodPages.getIfPresent(key) : null;
+            if (stale != null) {
+                log.warn("⚠️ [{}] 호출 실패 - 이전 정상 응답 사용(stale): pageNo={}, sido={}", operation, pageNo, sido);
+                return stale.asStale();
+            }
+            throw e;
+        }
+
+        if (page.isError() && staleAllowed) {
+            OnbidPage stale = lastGoodPages.getIfPresent(key);
+            if (stale != null) {
+                log.warn("⚠️ [{}] 에러 응답({}) - 이전 정상 응답 사용(stale): pageNo={}, sido={}",
+                    operation, page.getResultCode(), pageNo, sido);
+                return stale.asStale();
+            }
+        }
+        return page;
+    }
+
+    // 호출 결과를 회로 차단기에 반영하고 정상 응답은 대체 응답용으로 보관 (에러 응답은 그대로 반환)
+    private OnbidPage guardedRequest(CircuitBreaker breaker, String key, Supplier<OnbidPage> call) {
+        OnbidPage page;
+        try {
+            page = call.get();
+        } catch (RuntimeException e) {
+            breaker.recordFailure();
+            throw e;
+        }
+
+        if (page.isError()) {
+            breaker.recordFailure();
+            return page;
+        }
+
+        breaker.recordSuccess();
+        if (!page.getItems().isEmpty()) {
+            lastGoodPages.put(key, page.copy());
+        }
+        return page;
+    }
+
+    // 대기 시간이 지난 경우에만 시험 호출 1건을 백그라운드로 실행
+    private void scheduleProbe(CircuitBreaker breaker, String key, Supplier<OnbidPage> call) {
+        if (!breaker.tryAcquireProbe()) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    callBudget.withPriority(OnbidCallBudget.Priority.MONITORING, () -> {
+                        callBudget.acquire(breaker.getName());
+                        return guardedRequest(breaker, key, call);
+                    });
+                    log.info("🔄 [{}] 시험 호출 성공 - 회로 복구", breaker.getName());
+                } catch (Exception e) {
+                    // 예산 부족으로 호출하지 못한 경우도 HALF_OPEN에 머물지 않도록 실패 처리
+                    if (breaker.getState() == CircuitBreaker.State.HALF_OPEN) {
+                        breaker.recordFailure();
+                    }
+                    log.warn("⚠️ [{}] 시험 호출 실패 - 회로 차단 유지: {}", breaker.getName(), e.getMessage());
                 }
+            });
+        } catch (RuntimeException e) {
+            breaker.recordFailure();
+            log.warn("⚠️ [{}] 시험 호출 예약 실패: {}", breaker.getName(), e.getMessage());
+        }
+    }
+
+    private OnbidPage requestPage(String operation, boolean saleOnly, int pageNo, int numOfRows, String sido) {
+        for (int attempt = 1; ; attempt++) {
+            ServiceKeyPool.KeyState key = nextKey(operation);
+            String url = buildUrl(operation, key, saleOnly, pageNo, numOfRows, sido);
+            OnbidPage page;
+            try {
+                page = restTemplate.execute(url, HttpMethod.GET, null,
+                        response -> ApiXmlParser.parsePage(response.getBody()));
+            } catch (Exception e) {
+                log.error("❌ [{}] API 호출 실패: pageNo={}, sido={}, error={}", operation, pageNo, sido, e.getMessage());
+                throw new RuntimeException(operation + " API 호출 실패: " + e.getMessage(), e);
             }
-            
-            if (response.length() > 0 && response.length() < 500) {
-                System.out.println("🔵 [용도별 통합 조회 API] 응답 내용: " + response);
-            } else if (response.length() > 0) {
-                System.out.println("🔵 [용도별 통합 조회 API] 응답 시작 부분: " + response.substring(0, Math.min(200, response.length())));
+            if (page == null) {
+                return OnbidPage.empty();
             }
-            
-            return response;
-        } catch (Exception e) {
-            System.err.println("❌ [용도별 통합 조회 API] 호출 실패: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("용도별 통합 조회 API 호출 실패: " + e.getMessage(), e);
+
+            // 할당량 초과 응답이면 해당 키를 제외하고 다른 키로 재시도
+            // 재시도도 실제 호출이므로 예산 차감 (첫 호출은 fetchPage/시험 호출에서 차감), 예산이 없으면 받은 응답 그대로 반환
+            if (page.isError() && keyPool.reportResult(key, page.getResultCode()) && attempt < keyPool.size()) {
+                try {
+                    callBudget.acquire(operation);
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ [{}] 재시도 예산 부족 - 할당량 초과 응답 반환: {}", operation, e.getMessage());
+                    return page;
+                }
+                log.info("🔑 [{}] 다른 serviceKey로 재시도: pageNo={}, sido={}", operation, pageNo, sido);
+                continue;
+            }
+            return page;
         }
     }
+
+    private static String buildUrl(String operation, ServiceKeyPool.KeyState key, boolean saleOnly,
+                                   int pageNo, int numOfRows, String sido) {
+        return BASE_URL + operation
+                + "?serviceKey=" + key.getKey()
+                + (saleOnly ? "&DPSL_MTD_CD=0001" : "")  // 처분방식코드: 0001=매각
+                + "&pageNo=" + pageNo
+                + "&numOfRows=" + numOfRows
+                + "&SIDO=" + sido;
+    }
+
+    private ServiceKeyPool.KeyState nextKey(String operation) {
+        ServiceKeyPool.KeyState key = keyPool.next();
+        if (key == null) {
+            throw new RuntimeException(operation + " 사용 가능한 serviceKey 없음 (모두 할당량 초과)");
+        }
+        return key;
+    }
+
+    /**
+     * 요청 병합 통계 (실제 호출 수, 병합된 요청 수, 진행 중 호출 수)
+     */
+    public Map<String, Object> getCoalescingStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("executions", pageFlight.getExecutions());
+        stats.put("coalesced", pageFlight.getCoalesced());
+        stats.put("inFlight", pageFlight.getInFlight());
+        return stats;
+    }
+
+    /**
+     * 회로 차단기 상태 (API별 상태, 연속 실패 수, 차단 횟수) 및 대체 응답 보관 수
+     */
+    public Map<String, Object> getCircuitStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (CircuitBreaker breaker : breakers.values()) {
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("state", breaker.getState().name());
+            stat.put("consecutiveFailures", breaker.getConsecutiveFailures());
+            stat.put("openCount", breaker.getOpenCount());
+            stats.put(breaker.getName(), stat);
+        }
+        stats.put("stalePages", lastGoodPages.estimatedSize());
+        return stats;
+    }
+
+    /**
+     * serviceKey별 사용량/남은 할당량/제외 상태
+     */
+    public List<Map<String, Object>> getServiceKeyStats() {
+        return keyPool.getStats();
+    }
 }
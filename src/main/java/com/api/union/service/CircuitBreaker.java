@@ -0,0 +1,74 @@
+package com.api.union.service;
+
+/**
+ * 간단한 회로 차단기 (CLOSED → OPEN → HALF_OPEN)
+ * - CLOSED: 정상 호출. 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: 호출하지 않음. openMillis가 지나면 시험 호출(probe) 1건만 허용 → HALF_OPEN
+ * - HALF_OPEN: 시험 호출 성공 시 CLOSED, 실패 시 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long openCount;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * OPEN 상태에서 대기 시간이 지났으면 시험 호출 권한을 얻고 HALF_OPEN으로 전환
+     */
+    public synchronized boolean tryAcquireProbe() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                openCount++;
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public synchronized long getOpenCount() {
+        return openCount;
+    }
+}
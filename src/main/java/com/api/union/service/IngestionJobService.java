@@ -0,0 +1,242 @@
+package com.api.union.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.api.item.service.ItemRestService;
+import com.api.union.dto.IngestionJob;
+import com.api.union.dto.IngestionResult;
+import com.api.union.mapper.IngestionJobMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ===================================================================
+ * 온비드 일괄 수집 작업 관리
+ * ===================================================================
+ * - 일괄 저장은 HTTP 요청 안에서 실행하지 않고 작업(ingestion_job)으로 등록 후 백그라운드 실행
+ * - 페이지를 저장할 때마다 마지막 저장 페이지를 기록 → 실패/취소/노드 중단 후 다음 페이지부터 재개
+ * - 같은 종류/시도의 작업이 진행 중이면 새로 만들지 않고 기존 작업 반환,
+ *   중단된(FAILED/CANCELLED) 작업이 있으면 그 작업을 이어서 실행
+ *   (스케줄러 실행은 관리자가 취소한 작업을 이어서 실행하지 않고 새 작업 등록)
+ * - 진행 기록이 stale-seconds 이상 끊긴 RUNNING 작업은 다시 대기열로 (실행하던 노드 중단)
+ * - 종류/시도별 진행 중 작업은 DB 유니크 키(uk_job_active)로 1건만 허용 → 동시 시작 요청/여러 노드에서도 중복 작업 없음
+ */
+@Slf4j
+@Service
+public class IngestionJobService {
+
+    private static final int RECENT_LIMIT = 50;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final IngestionJobMapper jobMapper;
+    private final PageIngestionEngine ingestionEngine;
+    private final ItemFetchService itemFetchService;
+    private final ItemRestService itemService;
+    private final Executor jobExecutor;
+    private final int maxPages;
+    private final int staleSeconds;
+
+    // 이 노드에서 실행 대기/실행 중인 작업 (중복 제출 방지)
+    private final Set<Long> submitted = ConcurrentHashMap.newKeySet();
+
+    public IngestionJobService(IngestionJobMapper jobMapper,
+                               PageIngestionEngine ingestionEngine,
+                               ItemFetchService itemFetchService,
+                               ItemRestService itemService,
+                               @Qualifier("ingestJobExecutor") Executor jobExecutor,
+                               @Value("${onbid.ingest.max-pages:50}") int maxPages,
+                               @Value("${onbid.ingest.jobs.stale-seconds:900}") int staleSeconds) {
+        this.jobMapper = jobMapper;
+        this.ingestionEngine = ingestionEngine;
+        this.itemFetchService = itemFetchService;
+        this.itemService = itemService;
+        this.jobExecutor = jobExecutor;
+        this.maxPages = maxPages;
+        this.staleSeconds = staleSeconds;
+    }
+
+    /**
+     * 수집 작업 시작 (진행 중이면 기존 작업, 중단된 작업이 있으면 체크포인트부터 재개)
+     */
+    public IngestionJob start(OnbidFeed feed, String sido) {
+        return start(feed, sido, true);
+    }
+
+    /**
+     * 스케줄러용 수집 작업 시작 (실패한 작업은 재개하지만 취소된 작업은 재개하지 않고 새로 시작)
+     */
+    public IngestionJob startScheduled(OnbidFeed feed, String sido) {
+        return start(feed, sido, false);
+    }
+
+    private IngestionJob start(OnbidFeed feed, String sido, boolean resumeCancelled) {
+        IngestionJob latest = jobMapper.findLatest(feed.name(), sido);
+        if (latest != null) {
+            switch (latest.getStatus()) {
+                case IngestionJob.STATUS_QUEUED, IngestionJob.STATUS_RUNNING, IngestionJob.STATUS_CANCEL_REQUESTED -> {
+                    log.info("💾 진행 중인 수집 작업 반환: jobId={}, {}({})", latest.getId(), feed.getLabel(), sido);
+                    return latest;
+                }
+                case IngestionJob.STATUS_FAILED -> {
+                    return resume(latest.getId());
+                }
+                case IngestionJob.STATUS_CANCELLED -> {
+                    if (resumeCancelled) {
+                        return resume(latest.getId());
+                    }
+                }
+                default -> { }
+            }
+        }
+
+        IngestionJob job = IngestionJob.builder()
+            .feed(feed.name())
+            .sido(sido)
+            .maxPages(maxPages)
+            .build();
+        try {
+            jobMapper.insertJob(job);
+        } catch (DuplicateKeyException e) {
+            // 조회와 등록 사이에 다른 요청/노드가 먼저 등록한 경우 그 작업 반환
+            IngestionJob active = jobMapper.findLatest(feed.name(), sido);
+            log.info("💾 동시에 등록된 수집 작업 반환: jobId={}, {}({})", active != null ? active.getId() : null, feed.getLabel(), sido);
+            return active;
+        }
+        log.info("💾 수집 작업 등록: jobId={}, {}({}), 최대 {}페이지", job.getId(), feed.getLabel(), sido, maxPages);
+        submit(job.getId());
+        return jobMapper.findById(job.getId());
+    }
+
+    /**
+     * 중단된 작업을 마지막 저장 페이지 다음부터 재개
+     */
+    public IngestionJob resume(Long jobId) {
+        try {
+            if (jobMapper.requeue(jobId) > 0) {
+                log.info("💾 수집 작업 재개: jobId={}", jobId);
+                submit(jobId);
+            }
+        } catch (DuplicateKeyException e) {
+            IngestionJob job = jobMapper.findById(jobId);
+            IngestionJob active = job != null ? jobMapper.findLatest(job.getFeed(), job.getSido()) : null;
+            log.info("💾 같은 종류/시도의 작업이 진행 중이라 재개하지 않음: jobId={}, 진행 중 jobId={}",
+                jobId, active != null ? active.getId() : null);
+            return active != null ? active : job;
+        }
+        return jobMapper.findById(jobId);
+    }
+
+    /**
+     * 작업 취소 (실행 중이면 현재 페이지 저장 후 중단)
+     */
+    public IngestionJob cancel(Long jobId) {
+        if (jobMapper.requestCancel(jobId) > 0) {
+            log.info("💾 수집 작업 취소 요청: jobId={}", jobId);
+        }
+        return jobMapper.findById(jobId);
+    }
+
+    public IngestionJob getJob(Long jobId) {
+        return jobMapper.findById(jobId);
+    }
+
+    public List<IngestionJob> getRecentJobs() {
+        return jobMapper.findRecent(RECENT_LIMIT);
+    }
+
+    /**
+     * 노드 중단으로 멈춘 작업 정리 후 대기 중인 작업 실행 (기동 직후 + 주기적으로)
+     */
+    @Scheduled(initialDelayString = "${onbid.ingest.jobs.recover-seconds:60}",
+               fixedDelayString = "${onbid.ingest.jobs.recover-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void recoverJobs() {
+        try {
+            int recovered = jobMapper.recoverStale(staleSeconds);
+            if (recovered > 0) {
+                log.warn("⚠️ 진행 기록이 끊긴 수집 작업 {}건 정리 (RUNNING → 재개 대기)", recovered);
+            }
+            for (IngestionJob job : jobMapper.findQueued()) {
+                submit(job.getId());
+            }
+        } catch (Exception e) {
+            log.error("❌ 수집 작업 복구 중 오류", e);
+        }
+    }
+
+    private void submit(Long jobId) {
+        if (!submitted.add(jobId)) {
+            return;
+        }
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    runJob(jobId);
+                } finally {
+                    submitted.remove(jobId);
+                }
+            });
+        } catch (RuntimeException e) {
+            submitted.remove(jobId);
+            log.warn("⚠️ 수집 작업 제출 실패 (다음 복구 주기에 재시도): jobId={} - {}", jobId, e.getMessage());
+        }
+    }
+
+    private void runJob(Long jobId) {
+        // 다른 노드/실행기가 먼저 가져갔으면 실행하지 않음
+        if (jobMapper.claim(jobId) == 0) {
+            return;
+        }
+        IngestionJob job = jobMapper.findById(jobId);
+        OnbidFeed feed = OnbidFeed.valueOf(job.getFeed());
+        String sido = job.getSido();
+        int basePages = job.getPagesFetched();
+        int baseSaved = job.getSavedCount();
+        int firstPage = job.getLastPage() + 1;
+
+        if (firstPage > job.getMaxPages()) {
+            finish(jobId, IngestionJob.STATUS_COMPLETED, null);
+            return;
+        }
+        log.info("💾 수집 작업 실행: jobId={}, {}({}), page {} ~ {}", jobId, feed.getLabel(), sido, firstPage, job.getMaxPages());
+
+        try {
+            IngestionResult result = ingestionEngine.run(
+                feed.getLabel() + "(" + sido + ") job#" + jobId, firstPage, job.getMaxPages(),
+                page -> itemFetchService.fetchPageOrThrow(feed, page, sido),
+                itemService::upsertItems,
+                // 저장한 페이지 기록, RUNNING이 아니면(취소 요청) 중단
+                (page, pagesFetched, savedCount) ->
+                    jobMapper.updateProgress(jobId, page, basePages + pagesFetched, baseSaved + savedCount) > 0);
+
+            String status = result.isCancelled() ? IngestionJob.STATUS_CANCELLED : IngestionJob.STATUS_COMPLETED;
+            finish(jobId, status, null);
+            log.info("💾 수집 작업 종료: jobId={}, status={}, 이번 실행 {}건/{}페이지", jobId, status,
+                result.getSavedCount(), result.getPagesFetched());
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+            if (error.length() > MAX_ERROR_LENGTH) {
+                error = error.substring(0, MAX_ERROR_LENGTH);
+            }
+            finish(jobId, IngestionJob.STATUS_FAILED, error);
+            log.error("❌ 수집 작업 실패 (마지막 저장 페이지부터 재개 가능): jobId={} - {}", jobId, error);
+        }
+    }
+
+    // 실행 중 진행 기록이 끊겨 재개 대기로 돌아간(다른 실행기가 이어받을) 작업은 종료 상태로 덮어쓰지 않음
+    private void finish(Long jobId, String status, String error) {
+        if (jobMapper.finish(jobId, status, error) == 0) {
+            log.warn("⚠️ 수집 작업 종료 기록 생략 (이미 실행 중 상태가 아님): jobId={}, status={}", jobId, status);
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.api.union.service;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.api.item.dto.ItemDetail;
 import com.api.item.service.ItemRestService;
-import com.api.util.ApiXmlParser;
+import com.api.union.dto.IngestionResult;
+import com.api.util.OnbidPage;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,65 +20,76 @@ public class ItemFetchService {
 
     private final ApiService apiService;
     private final ItemRestService itemService;
+    private final PageIngestionEngine ingestionEngine;
+
+    @Value("${onbid.ingest.max-pages:50}")
+    private int maxPages;
 
-    private static final String DEFAULT_SIDO = "서울특별시"; // 시도 필터 기본값
     private static final int PAGE_SIZE = 200; // 페이지당 200건
 
-    /** 신물건 전체 조회 후 DB 저장 */
+    /** 신물건 전국(17개 시도) 전체 조회 후 DB 저장 */
     public int fetchAndSaveAllNewItems() {
-        int pageNo = 1;
-        int totalSaved = 0;
-        int numOfRows = 100;
-
-        while (true) {
-            String xml = apiService.getUnifyNewCltrList(pageNo, numOfRows, DEFAULT_SIDO);
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
-
-            if (details.isEmpty()) break;
-
-            totalSaved += itemService.upsertItems(details);
-            pageNo++;
-        }
-
-        return totalSaved;
+        return ingestAllRegions(OnbidFeed.NEW);
     }
 
-    /** 감가 50% 이상 전체 조회 후 DB 저장 */
+    /** 감가 50% 이상 전국(17개 시도) 전체 조회 후 DB 저장 */
     public int fetchAndSaveAllDiscountItems() {
-        int pageNo = 1;
-        int totalSaved = 0;
-        int numOfRows = 100;
-
-        while (true) {
-            String xml = apiService.getUnifyDegression50PerCltrList(pageNo, numOfRows, DEFAULT_SIDO);
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
-
-            if (details.isEmpty()) break;
-
-            totalSaved += itemService.upsertItems(details);
-            pageNo++;
-        }
-
-        return totalSaved;
+        return ingestAllRegions(OnbidFeed.DISCOUNT);
     }
 
-    /** 용도별 통합 조회 전체 후 DB 저장 */
+    /** 용도별 통합 조회 전국(17개 시도) 전체 후 DB 저장 */
     public int fetchAndSaveAllUsageItems() {
-        int pageNo = 1;
-        int totalSaved = 0;
-        int numOfRows = 100;
+        return ingestAllRegions(OnbidFeed.USAGE);
+    }
 
-        while (true) {
-            String xml = apiService.getUnifyUsageCltrList(pageNo, numOfRows, DEFAULT_SIDO);
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
+    private int ingestAllRegions(OnbidFeed feed) {
+        int saved = 0;
+        for (String sido : RegionIngestionScheduler.ALL_SIDO) {
+            saved += ingestAll(feed, sido).getSavedCount();
+        }
+        return saved;
+    }
 
-            if (details.isEmpty()) break;
+    /**
+     * 전체 페이지 병렬 조회 후 DB 저장 (최대 onbid.ingest.max-pages 페이지)
+     * - 조회 실패는 예외로 전달 (온비드 장애를 빈 페이지, 즉 수집 완료로 오인하지 않도록)
+     */
+    public IngestionResult ingestAll(OnbidFeed feed, String sido) {
+        return ingestionEngine.run(feed.getLabel() + "(" + sido + ")", 1, maxPages,
+                page -> fetchPageOrThrow(feed, page, sido),
+                itemService::upsertItems);
+    }
 
-            totalSaved += itemService.upsertItems(details);
-            pageNo++;
+    /**
+     * 종류별 페이지 조회 (조회 실패 시 예외 - 수집 작업이 실패 지점부터 재개할 수 있도록 빈 페이지로 바꾸지 않음)
+     * - 마지막 페이지 판단에 쓰도록 물건 목록이 아닌 응답 페이지(<item> 수, totalCount 포함)를 반환
+     * - 장애 대체 응답(stale)도 예외 (이전 데이터를 새 데이터로 저장하지 않도록)
+     */
+    public OnbidPage fetchPageOrThrow(OnbidFeed feed, int page, String sido) {
+        OnbidPage apiPage = switch (feed) {
+            case NEW -> apiService.fetchNewCltrPage(page, PAGE_SIZE, sido);
+            case DISCOUNT -> apiService.fetchDegression50PerCltrPage(page, PAGE_SIZE, sido);
+            case USAGE -> apiService.fetchUsageCltrPage(page, PAGE_SIZE, sido);
+        };
+        if (apiPage.isError()) {
+            throw new RuntimeException(feed.getLabel() + " 조회 실패: page=" + page
+                    + ", resultCode=" + apiPage.getResultCode() + ", resultMsg=" + apiPage.getResultMsg());
+        }
+        if (apiPage.isStale()) {
+            throw new RuntimeException(feed.getLabel() + " 조회 실패: page=" + page + ", 장애 대체 응답(stale)");
         }
+        return apiPage;
+    }
 
-        return totalSaved;
+    /**
+     * 종류별 페이지 조회 (200건씩)
+     */
+    public List<ItemDetail> fetchItems(OnbidFeed feed, int page, String sido) {
+        return switch (feed) {
+            case NEW -> fetchNewItems(page, sido);
+            case DISCOUNT -> fetchDiscountItems(page, sido);
+            case USAGE -> fetchUsageItems(page, sido);
+        };
     }
 
     // =============================================================================
@@ -88,8 +101,7 @@ public class ItemFetchService {
      */
     public List<ItemDetail> fetchNewItems(int page, String sido) {
         try {
-            String xml = apiService.getUnifyNewCltrList(page, PAGE_SIZE, sido);
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
+            List<ItemDetail> details = fetchPageOrThrow(OnbidFeed.NEW, page, sido).getItems();
             log.info("📡 신물건 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
             return details != null ? details : List.of();
         } catch (Exception e) {
@@ -103,8 +115,7 @@ public class ItemFetchService {
      */
     public List<ItemDetail> fetchDiscountItems(int page, String sido) {
         try {
-            String xml = apiService.getUnifyDegression50PerCltrList(page, PAGE_SIZE, sido);
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
+            List<ItemDetail> details = fetchPageOrThrow(OnbidFeed.DISCOUNT, page, sido).getItems();
             log.info("📡 감가 50% 이상 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
             return details != null ? details : List.of();
         } catch (Exception e) {
@@ -118,8 +129,7 @@ public class ItemFetchService {
      */
     public List<ItemDetail> fetchUsageItems(int page, String sido) {
         try {
-            String xml = apiService.getUnifyUsageCltrList(page, PAGE_SIZE, sido);
-            List<ItemDetail> details = ApiXmlParser.parseNewItemDetails(xml);
+            List<ItemDetail> details = fetchPageOrThrow(OnbidFeed.USAGE, page, sido).getItems();
             log.info("📡 용도별 통합 조회 완료: page={}, sido={}, count={}", page, sido, details != null ? details.size() : 0);
             return details != null ? details : List.of();
         } catch (Exception e) {
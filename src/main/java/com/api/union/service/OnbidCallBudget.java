@@ -0,0 +1,206 @@
+package com.api.union.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ===================================================================
+ * 온비드 호출 예산 관리 (serviceKey 풀 전체를 모든 호출이 나눠 씀)
+ * ===================================================================
+ * - 토큰 버킷: 초당 requests-per-second개 충전, 최대 burst개 보관 → 실제 HTTP 호출 1건당 1개 사용
+ * - 일일 할당량(daily-quota × serviceKey 수)도 함께 차감 (0이면 무제한, 날짜가 바뀌면 초기화)
+ * - 우선순위: INTERACTIVE(사용자 화면) > MONITORING(가격 모니터링/스냅샷/시험 호출) > BULK(일괄 수집)
+ *   · 하위 우선순위는 버킷/일일 할당량의 일정 비율을 상위 우선순위 몫으로 남겨 둠
+ *   · INTERACTIVE 대기자가 있으면 BULK는 토큰이 있어도 양보
+ * - 우선순위는 호출 스레드 기준 (withPriority로 지정, 기본값 INTERACTIVE)
+ */
+@Slf4j
+@Component
+public class OnbidCallBudget {
+
+    public enum Priority { INTERACTIVE, MONITORING, BULK }
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final ThreadLocal<Priority> CURRENT = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long dailyQuota;
+    private final double monitoringReserve;
+    private final double bulkReserve;
+    private final double dailyReserve;
+    private final long[] maxWaitNanos = new long[Priority.values().length];
+
+    // 아래 상태는 this 모니터로 보호
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+    private LocalDate quotaDate = LocalDate.now(ZONE);
+    private long usedToday;
+    private int interactiveWaiting;
+
+    private final AtomicLongArray acquired = new AtomicLongArray(Priority.values().length);
+    private final AtomicLongArray rejected = new AtomicLongArray(Priority.values().length);
+
+    public OnbidCallBudget(@Value("${onbid.budget.requests-per-second:10}") double requestsPerSecond,
+                           @Value("${onbid.budget.burst:20}") int burst,
+                           @Value("${onbid.budget.daily-quota:0}") long dailyQuotaPerKey,
+                           ServiceKeyPool keyPool,
+                           @Value("${onbid.budget.monitoring-reserve:0.2}") double monitoringReserve,
+                           @Value("${onbid.budget.bulk-reserve:0.5}") double bulkReserve,
+                           @Value("${onbid.budget.daily-reserve:0.2}") double dailyReserve,
+                           @Value("${onbid.budget.interactive-max-wait-ms:2000}") long interactiveMaxWaitMs,
+                           @Value("${onbid.budget.monitoring-max-wait-ms:30000}") long monitoringMaxWaitMs,
+                           @Value("${onbid.budget.bulk-max-wait-ms:600000}") long bulkMaxWaitMs) {
+        if (requestsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond and burst must be positive");
+        }
+        this.capacity = burst;
+        this.tokens = burst;
+        this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.dailyQuota = dailyQuotaPerKey * keyPool.size();
+        this.monitoringReserve = monitoringReserve;
+        this.bulkReserve = bulkReserve;
+        this.dailyReserve = dailyReserve;
+        this.maxWaitNanos[Priority.INTERACTIVE.ordinal()] = TimeUnit.MILLISECONDS.toNanos(interactiveMaxWaitMs);
+        this.maxWaitNanos[Priority.MONITORING.ordinal()] = TimeUnit.MILLISECONDS.toNanos(monitoringMaxWaitMs);
+        this.maxWaitNanos[Priority.BULK.ordinal()] = TimeUnit.MILLISECONDS.toNanos(bulkMaxWaitMs);
+    }
+
+    /**
+     * 지정한 우선순위로 작업 실행 (작업 안에서 발생하는 온비드 호출에 적용)
+     */
+    public <T> T withPriority(Priority priority, Supplier<T> work) {
+        Priority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    public Priority currentPriority() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드 우선순위로 호출 1건분 예산 확보 (최대 대기 시간 초과/일일 할당량 소진 시 예외)
+     */
+    public void acquire(String operation) {
+        Priority priority = CURRENT.get();
+        long deadline = System.nanoTime() + maxWaitNanos[priority.ordinal()];
+
+        synchronized (this) {
+            if (priority == Priority.INTERACTIVE) {
+                interactiveWaiting++;
+            }
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    refill(now);
+
+                    if (!hasDailyQuota(priority)) {
+                        reject(priority, operation, "일일 할당량 소진");
+                    }
+
+                    double floor = tokenFloor(priority);
+                    boolean yielding = priority == Priority.BULK && interactiveWaiting > 0;
+                    if (!yielding && tokens - 1 >= floor) {
+                        tokens -= 1;
+                        usedToday++;
+                        acquired.incrementAndGet(priority.ordinal());
+                        return;
+                    }
+
+                    long remaining = deadline - now;
+                    if (remaining <= 0) {
+                        reject(priority, operation, "대기 시간 초과");
+                    }
+                    long refillWait = (long) Math.ceil((floor + 1 - tokens) / tokensPerNano);
+                    TimeUnit.NANOSECONDS.timedWait(this, Math.max(1, Math.min(remaining, refillWait)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.incrementAndGet(priority.ordinal());
+                throw new RuntimeException(operation + " 호출 예산 대기 중 인터럽트", e);
+            } finally {
+                if (priority == Priority.INTERACTIVE) {
+                    interactiveWaiting--;
+                    // 양보 중이던 BULK 대기자를 깨움
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+
+        LocalDate today = LocalDate.now(ZONE);
+        if (!today.equals(quotaDate)) {
+            quotaDate = today;
+            usedToday = 0;
+        }
+    }
+
+    // 우선순위별로 버킷에 남겨 둬야 하는 토큰 수
+    private double tokenFloor(Priority priority) {
+        return switch (priority) {
+            case INTERACTIVE -> 0;
+            case MONITORING -> capacity * monitoringReserve;
+            case BULK -> capacity * bulkReserve;
+        };
+    }
+
+    // 일일 할당량: BULK는 dailyReserve 비율, MONITORING은 그 절반을 남겨 둠
+    private boolean hasDailyQuota(Priority priority) {
+        if (dailyQuota <= 0) {
+            return true;
+        }
+        double floor = switch (priority) {
+            case INTERACTIVE -> 0;
+            case MONITORING -> dailyQuota * dailyReserve / 2;
+            case BULK -> dailyQuota * dailyReserve;
+        };
+        return dailyQuota - usedToday - 1 >= floor;
+    }
+
+    private void reject(Priority priority, String operation, String reason) {
+        rejected.incrementAndGet(priority.ordinal());
+        log.warn("⚠️ [{}] 온비드 호출 예산 부족 ({}): priority={}", operation, reason, priority);
+        throw new RuntimeException(operation + " 호출 예산 부족 (" + reason + ", " + priority + ")");
+    }
+
+    /**
+     * 남은 토큰/일일 할당량 및 우선순위별 사용/거절 건수
+     */
+    public synchronized Map<String, Object> getStats() {
+        refill(System.nanoTime());
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("tokens", Math.floor(tokens * 10) / 10);
+        stats.put("capacity", capacity);
+        stats.put("dailyQuota", dailyQuota > 0 ? dailyQuota : "unlimited");
+        stats.put("usedToday", usedToday);
+        stats.put("remainingQuota", dailyQuota > 0 ? Math.max(0, dailyQuota - usedToday) : "unlimited");
+        stats.put("interactiveWaiting", interactiveWaiting);
+        for (Priority priority : Priority.values()) {
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("acquired", acquired.get(priority.ordinal()));
+            stat.put("rejected", rejected.get(priority.ordinal()));
+            stats.put(priority.name().toLowerCase(), stat);
+        }
+        return stats;
+    }
+}
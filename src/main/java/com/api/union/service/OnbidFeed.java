@@ -0,0 +1,21 @@
+package com.api.union.service;
+
+/**
+ * 온비드 목록 API 종류
+ */
+public enum OnbidFeed {
+
+    NEW("신물건"),
+    DISCOUNT("감가 50% 이상"),
+    USAGE("용도별 통합");
+
+    private final String label;
+
+    OnbidFeed(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
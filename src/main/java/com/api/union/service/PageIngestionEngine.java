@@ -0,0 +1,179 @@
+package com.api.union.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.api.item.dto.ItemDetail;
+import com.api.union.dto.IngestionResult;
+import com.api.util.OnbidPage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ===================================================================
+ * 온비드 페이지 병렬 수집 엔진
+ * ===================================================================
+ * - 페이지 조회는 ingestTaskExecutor에서 병렬로 실행 (동시 실행 수 = 스레드 수)
+ * - 전체 호출 속도는 RequestRateLimiter로 초당 요청 수 이내로 제한
+ * - 페이지 조회는 BULK 우선순위로 호출 예산을 사용 (사용자 화면 호출에 양보)
+ * - 빈 페이지/짧은 페이지가 나오면 그 이후 페이지는 조회하지 않음
+ *   (파싱된 물건 수가 아니라 응답의 <item> 수와 totalCount로 판단 - PLNM_NO 없는 행이 섞인 페이지에서 멈추지 않도록)
+ * - 저장은 호출 스레드에서 페이지 순서대로 실행
+ */
+@Slf4j
+@Component
+public class PageIngestionEngine {
+
+    private static final int PAGE_SIZE = 200; // 페이지당 200건
+
+    /**
+     * 페이지 저장 직후 호출 (진행 기록용)
+     * - false를 반환하면 이후 페이지는 조회/저장하지 않고 중단
+     */
+    @FunctionalInterface
+    public interface PageCheckpoint {
+        boolean onPageSaved(int page, int pagesFetched, int savedCount);
+    }
+
+    private final Executor executor;
+    private final RequestRateLimiter rateLimiter;
+    private final OnbidCallBudget callBudget;
+
+    public PageIngestionEngine(@Qualifier("ingestTaskExecutor") Executor executor,
+                               OnbidCallBudget callBudget,
+                               @Value("${onbid.ingest.requests-per-second:5}") double requestsPerSecond) {
+        this.executor = executor;
+        this.callBudget = callBudget;
+        this.rateLimiter = new RequestRateLimiter(requestsPerSecond);
+    }
+
+    /**
+     * firstPage ~ lastPage 범위를 병렬 조회 후 페이지 순서대로 저장
+     *
+     * @param label   로그용 이름
+     * @param fetcher 페이지 번호 → 온비드 응답 페이지
+     * @param saver   물건 목록 → 저장 건수
+     */
+    public IngestionResult run(String label, int firstPage, int lastPage,
+                               IntFunction<OnbidPage> fetcher,
+                               ToIntFunction<List<ItemDetail>> saver) {
+        return run(label, firstPage, lastPage, fetcher, saver, (page, pagesFetched, savedCount) -> true);
+    }
+
+    /**
+     * firstPage ~ lastPage 범위를 병렬 조회 후 페이지 순서대로 저장, 페이지마다 checkpoint 호출
+     */
+    public IngestionResult run(String label, int firstPage, int lastPage,
+                               IntFunction<OnbidPage> fetcher,
+                               ToIntFunction<List<ItemDetail>> saver,
+                               PageCheckpoint checkpoint) {
+        long startNanos = System.nanoTime();
+        AtomicInteger stopPage = new AtomicInteger(lastPage);
+
+        List<CompletableFuture<OnbidPage>> futures = new ArrayList<>();
+        for (int page = firstPage; page <= lastPage; page++) {
+            final int p = page;
+            futures.add(CompletableFuture.supplyAsync(() -> fetchPage(label, p, stopPage, fetcher), executor));
+        }
+
+        int savedCount = 0;
+        int pagesFetched = 0;
+        int lastSavedPage = firstPage - 1;
+        boolean completed = false;
+        boolean cancelled = false;
+
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                int page = firstPage + i;
+                OnbidPage apiPage = futures.get(i).join();
+                if (apiPage == null) {
+                    break; // 종료 페이지 이후라 조회하지 않음
+                }
+                if (apiPage.getRawItemCount() == 0) {
+                    log.info("💾 {} 저장 종료: page={}에서 데이터 없음", label, page);
+                    completed = true;
+                    break;
+                }
+
+                List<ItemDetail> items = apiPage.getItems() != null ? apiPage.getItems() : List.of();
+                int saved = items.isEmpty() ? 0 : saver.applyAsInt(items);
+                savedCount += saved;
+                pagesFetched++;
+                lastSavedPage = page;
+                log.info("💾 {} 저장 진행: page={}, saved={}, total={}", label, page, saved, savedCount);
+
+                if (!checkpoint.onPageSaved(page, pagesFetched, savedCount)) {
+                    log.info("💾 {} 저장 중단 요청: page={}까지 저장", label, page);
+                    cancelled = true;
+                    break;
+                }
+
+                if (isLastPage(apiPage, page)) {
+                    log.info("💾 {} 저장 종료: page={}에서 {}건 미만 또는 totalCount 도달", label, page, PAGE_SIZE);
+                    completed = true;
+                    break;
+                }
+            }
+        } finally {
+            // 남아 있는 대기 작업은 조회 없이 종료되도록 처리
+            stopPage.set(Math.min(stopPage.get(), lastSavedPage));
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("💾 {} 일괄 저장 완료: 총 {}건, {}페이지, {}ms", label, savedCount, pagesFetched, elapsedMs);
+
+        return IngestionResult.builder()
+                .pagesFetched(pagesFetched)
+                .savedCount(savedCount)
+                .lastPage(lastSavedPage)
+                .completed(completed)
+                .cancelled(cancelled)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    // 종료 페이지 이후면 null, 아니면 호출 속도 제한 후 조회
+    private OnbidPage fetchPage(String label, int page, AtomicInteger stopPage,
+                                IntFunction<OnbidPage> fetcher) {
+        if (page > stopPage.get()) {
+            return null;
+        }
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (page > stopPage.get()) {
+            return null;
+        }
+
+        OnbidPage apiPage = callBudget.withPriority(OnbidCallBudget.Priority.BULK, () -> fetcher.apply(page));
+        if (apiPage == null) {
+            apiPage = OnbidPage.empty();
+        }
+        if (isLastPage(apiPage, page)) {
+            stopPage.accumulateAndGet(page, Math::min);
+            log.debug("📡 {} 마지막 페이지 감지: page={}", label, page);
+        }
+        return apiPage;
+    }
+
+    // 응답 <item> 수가 페이지 크기보다 적거나, totalCount 기준으로 이 페이지까지가 전부인 경우
+    static boolean isLastPage(OnbidPage apiPage, int page) {
+        if (apiPage.getRawItemCount() < PAGE_SIZE) {
+            return true;
+        }
+        Integer totalCount = apiPage.getTotalCount();
+        return totalCount != null && (long) page * PAGE_SIZE >= totalCount;
+    }
+}
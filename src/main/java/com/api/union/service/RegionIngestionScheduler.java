@@ -0,0 +1,168 @@
+package com.api.union.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.api.union.dto.IngestionJob;
+import com.api.union.mapper.IngestionJobMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ===================================================================
+ * 전국 시도 수집 스케줄러
+ * ===================================================================
+ * - 17개 시도 × 3개 목록(신물건/감가 50%/용도별)을 각각 수집 작업(IngestionJobService)으로 주기 실행
+ * - 시도별 주기: onbid.regions.intervals (예: 서울특별시:60,경기도:120), 없으면 기본 주기
+ * - 시작 시각을 stagger-seconds 간격으로 분산 → 한꺼번에 몰려 호출 예산을 넘지 않도록
+ * - 재기동 시 마지막 작업 종료 시각 + 주기를 다음 실행 시각으로 사용 (재기동마다 전체 재수집하지 않음)
+ * - 관리자가 취소한(CANCELLED) 작업은 이어서 실행하지 않고, 다음 주기에 새 작업으로 처음부터 수집
+ * - 기본은 사용 안 함 (onbid.regions.enabled, prod 프로필에서 사용)
+ * - 동시에 실행되는 작업 수는 ingestJobExecutor, 호출 속도는 OnbidCallBudget(BULK)이 제한
+ */
+@Slf4j
+@Component
+public class RegionIngestionScheduler {
+
+    // 온비드 SIDO 파라미터 값 (onbid.regions.sido로 변경 가능)
+    public static final List<String> ALL_SIDO = List.of(
+        "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시",
+        "울산광역시", "세종특별자치시", "경기도", "강원도", "충청북도", "충청남도",
+        "전라북도", "전라남도", "경상북도", "경상남도", "제주특별자치도");
+
+    private final IngestionJobService ingestionJobService;
+    private final IngestionJobMapper jobMapper;
+    private final boolean enabled;
+    private final List<String> sidoList;
+    private final Duration defaultInterval;
+    private final Map<String, Duration> intervals = new HashMap<>();
+    private final Duration stagger;
+
+    // (시도, 목록) → 다음 실행 시각 (nextRuns 모니터로 보호)
+    private final Map<String, Instant> nextRuns = new LinkedHashMap<>();
+
+    public RegionIngestionScheduler(IngestionJobService ingestionJobService,
+                                    IngestionJobMapper jobMapper,
+                                    @Value("${onbid.regions.enabled:false}") boolean enabled,
+                                    @Value("${onbid.regions.sido:}") String[] sido,
+                                    @Value("${onbid.regions.default-interval-minutes:360}") long defaultIntervalMinutes,
+                                    @Value("${onbid.regions.intervals:}") String[] regionIntervals,
+                                    @Value("${onbid.regions.stagger-seconds:120}") long staggerSeconds) {
+        this.ingestionJobService = ingestionJobService;
+        this.jobMapper = jobMapper;
+        this.enabled = enabled;
+        List<String> configured = Arrays.stream(sido).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        this.sidoList = configured.isEmpty() ? ALL_SIDO : configured;
+        this.defaultInterval = Duration.ofMinutes(defaultIntervalMinutes);
+        this.stagger = Duration.ofSeconds(staggerSeconds);
+
+        for (String entry : regionIntervals) {
+            int sep = entry.lastIndexOf(':');
+            if (sep <= 0) {
+                continue;
+            }
+            try {
+                intervals.put(entry.substring(0, sep).trim(), Duration.ofMinutes(Long.parseLong(entry.substring(sep + 1).trim())));
+            } catch (NumberFormatException e) {
+                log.warn("⚠️ 시도별 수집 주기 형식 오류 (시도:분): {}", entry);
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${onbid.regions.tick-seconds:30}",
+               fixedDelayString = "${onbid.regions.tick-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (nextRuns) {
+            runDue();
+        }
+    }
+
+    private void runDue() {
+        try {
+            if (nextRuns.isEmpty()) {
+                planInitialRuns();
+            }
+            Instant now = Instant.now();
+            for (Map.Entry<String, Instant> entry : nextRuns.entrySet()) {
+                if (entry.getValue().isAfter(now)) {
+                    continue;
+                }
+                String[] key = entry.getKey().split("\\|", 2);
+                OnbidFeed feed = OnbidFeed.valueOf(key[0]);
+                String sido = key[1];
+                try {
+                    IngestionJob job = ingestionJobService.startScheduled(feed, sido);
+                    log.info("🗺️ 시도별 수집 예약 실행: {}({}) jobId={}, status={}", feed.getLabel(), sido, job.getId(), job.getStatus());
+                    entry.setValue(now.plus(intervalOf(sido)));
+                } catch (Exception e) {
+                    // 작업 등록 실패(DB 오류 등)는 다음 tick에 재시도
+                    log.error("❌ 시도별 수집 작업 등록 실패: {}({}) - {}", feed.getLabel(), sido, e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ 시도별 수집 스케줄 처리 중 오류", e);
+        }
+    }
+
+    // 시도/목록마다 stagger 간격으로 첫 실행 시각 배정, 최근 작업이 끝났으면(완료/취소) 그 종료 시각 + 주기 이후로
+    private void planInitialRuns() {
+        Instant now = Instant.now();
+        int index = 0;
+        for (String sido : sidoList) {
+            for (OnbidFeed feed : OnbidFeed.values()) {
+                Instant planned = now.plus(stagger.multipliedBy(index++));
+                IngestionJob latest = jobMapper.findLatest(feed.name(), sido);
+                if (latest != null && latest.getFinishedAt() != null
+                        && (IngestionJob.STATUS_COMPLETED.equals(latest.getStatus())
+                            || IngestionJob.STATUS_CANCELLED.equals(latest.getStatus()))) {
+                    Instant due = latest.getFinishedAt().toInstant().plus(intervalOf(sido));
+                    if (due.isAfter(planned)) {
+                        planned = due;
+                    }
+                }
+                nextRuns.put(feed.name() + "|" + sido, planned);
+            }
+        }
+        log.info("🗺️ 시도별 수집 스케줄 준비: 시도 {}개 × 목록 {}개, 기본 주기 {}분, 시작 간격 {}초",
+            sidoList.size(), OnbidFeed.values().length, defaultInterval.toMinutes(), stagger.getSeconds());
+    }
+
+    private Duration intervalOf(String sido) {
+        return intervals.getOrDefault(sido, defaultInterval);
+    }
+
+    /**
+     * 시도/목록별 다음 실행 시각
+     */
+    public List<Map<String, Object>> getSchedule() {
+        List<Map<String, Object>> schedule = new ArrayList<>();
+        Map<String, Instant> snapshot;
+        synchronized (nextRuns) {
+            snapshot = new LinkedHashMap<>(nextRuns);
+        }
+        snapshot.forEach((key, next) -> {
+            String[] parts = key.split("\\|", 2);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("feed", parts[0]);
+            row.put("sido", parts[1]);
+            row.put("intervalMinutes", intervalOf(parts[1]).toMinutes());
+            row.put("nextRun", next.toString());
+            schedule.add(row);
+        });
+        return schedule;
+    }
+}
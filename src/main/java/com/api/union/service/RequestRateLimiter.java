@@ -0,0 +1,45 @@
+package com.api.union.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 요청 수(RPS) 제한기
+ * - 요청 간 최소 간격(1초 / RPS)을 두고 슬롯을 순서대로 배정
+ * - 여러 스레드가 동시에 호출해도 전체 호출 속도가 RPS를 넘지 않음
+ */
+public class RequestRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    public RequestRateLimiter(double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive: " + requestsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+    }
+
+    /**
+     * 다음 슬롯까지 대기 후 반환
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     */
+    public void acquire() throws InterruptedException {
+        long deadline = System.nanoTime() + reserve();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    // 슬롯 예약 후 대기해야 할 시간(ns) 반환
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long slot = Math.max(now, nextFreeNanos);
+        nextFreeNanos = slot + intervalNanos;
+        return slot - now;
+    }
+}
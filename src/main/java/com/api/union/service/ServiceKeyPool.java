@@ -0,0 +1,152 @@
+package com.api.union.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 온비드 serviceKey 풀
+ * - 여러 키 중 오늘 사용량이 가장 적은(남은 할당량이 가장 많은) 키를 골라 호출
+ * - 응답 resultCode가 할당량 초과 코드면 해당 키를 cooldown 동안 제외
+ * - 키 1개당 일일 할당량(onbid.budget.daily-quota)을 다 쓴 키도 제외 (날짜가 바뀌면 초기화)
+ */
+@Slf4j
+@Component
+public class ServiceKeyPool {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final List<KeyState> keys;
+    private final Set<String> quotaErrorCodes;
+    private final long cooldownMillis;
+    private final long dailyQuotaPerKey;
+
+    public ServiceKeyPool(@Value("${onbid.serviceKeys:${onbid.serviceKey}}") String[] serviceKeys,
+                          @Value("${onbid.keys.quota-error-codes:22}") String[] quotaErrorCodes,
+                          @Value("${onbid.keys.quota-cooldown-minutes:60}") long cooldownMinutes,
+                          @Value("${onbid.budget.daily-quota:0}") long dailyQuotaPerKey) {
+        List<KeyState> states = new ArrayList<>();
+        for (String key : serviceKeys) {
+            if (key != null && !key.isBlank()) {
+                states.add(new KeyState(key.trim()));
+            }
+        }
+        if (states.isEmpty()) {
+            throw new IllegalStateException("onbid.serviceKeys에 사용 가능한 serviceKey가 없습니다.");
+        }
+        this.keys = List.copyOf(states);
+        this.quotaErrorCodes = Arrays.stream(quotaErrorCodes).map(String::trim).collect(Collectors.toUnmodifiableSet());
+        this.cooldownMillis = TimeUnit.MINUTES.toMillis(cooldownMinutes);
+        this.dailyQuotaPerKey = dailyQuotaPerKey;
+        log.info("🔑 온비드 serviceKey {}개 사용", keys.size());
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * 호출에 사용할 키 선택 (사용 가능한 키가 없으면 null)
+     */
+    public synchronized KeyState next() {
+        long now = System.currentTimeMillis();
+        LocalDate today = LocalDate.now(ZONE);
+        KeyState best = null;
+        for (KeyState key : keys) {
+            key.rollDate(today);
+            if (key.cooldownUntil > now) {
+                continue;
+            }
+            if (dailyQuotaPerKey > 0 && key.usedToday >= dailyQuotaPerKey) {
+                continue;
+            }
+            if (best == null || key.usedToday < best.usedToday) {
+                best = key;
+            }
+        }
+        if (best != null) {
+            best.usedToday++;
+            best.totalCalls++;
+        }
+        return best;
+    }
+
+    /**
+     * 응답 코드가 할당량 초과면 해당 키를 잠시 제외
+     * @return 할당량 초과 코드였는지 여부
+     */
+    public synchronized boolean reportResult(KeyState key, String resultCode) {
+        if (resultCode == null || !quotaErrorCodes.contains(resultCode.trim())) {
+            return false;
+        }
+        key.cooldownUntil = System.currentTimeMillis() + cooldownMillis;
+        key.quotaErrors++;
+        log.warn("⚠️ serviceKey {} 할당량 초과 (resultCode={}) - {}분간 제외",
+            key.getLabel(), resultCode, TimeUnit.MILLISECONDS.toMinutes(cooldownMillis));
+        return true;
+    }
+
+    /**
+     * 키별 오늘 사용량/남은 할당량/제외 상태 (키는 앞 4자리만 표시)
+     */
+    public synchronized List<Map<String, Object>> getStats() {
+        long now = System.currentTimeMillis();
+        LocalDate today = LocalDate.now(ZONE);
+        List<Map<String, Object>> stats = new ArrayList<>(keys.size());
+        for (KeyState key : keys) {
+            key.rollDate(today);
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("key", key.getLabel());
+            stat.put("usedToday", key.usedToday);
+            stat.put("remainingQuota", dailyQuotaPerKey > 0 ? Math.max(0, dailyQuotaPerKey - key.usedToday) : "unlimited");
+            stat.put("coolingDownSeconds", Math.max(0, (key.cooldownUntil - now) / 1000));
+            stat.put("quotaErrors", key.quotaErrors);
+            stat.put("totalCalls", key.totalCalls);
+            stats.add(stat);
+        }
+        return stats;
+    }
+
+    /**
+     * serviceKey 1개의 사용 상태 (ServiceKeyPool 모니터로 보호)
+     */
+    public static class KeyState {
+
+        @Getter
+        private final String key;
+
+        private LocalDate date = LocalDate.now(ZONE);
+        private long usedToday;
+        private long totalCalls;
+        private long cooldownUntil;
+        private long quotaErrors;
+
+        private KeyState(String key) {
+            this.key = key;
+        }
+
+        private void rollDate(LocalDate today) {
+            if (!today.equals(date)) {
+                date = today;
+                usedToday = 0;
+            }
+        }
+
+        public String getLabel() {
+            return key.length() > 4 ? key.substring(0, 4) + "***" : "***";
+        }
+    }
+}
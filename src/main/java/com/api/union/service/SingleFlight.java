@@ -0,0 +1,71 @@
+package com.api.union.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 동일 키 요청 병합 (single-flight)
+ * - 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과(CompletableFuture)를 함께 기다림
+ * - 호출이 끝나면 키를 제거하므로 결과를 보관(캐싱)하지는 않음
+ * - 직접 호출한 쪽과 뒤따라온 호출자 모두 copier로 복사한 값을 받음
+ *   (완료된 원본 값은 누구에게도 넘기지 않으므로 한 호출자의 수정이 다른 호출자에게 보이지 않음)
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copier;
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public SingleFlight(UnaryOperator<V> copier) {
+        this.copier = copier;
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            try {
+                return copier.apply(existing.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+        }
+
+        executions.incrementAndGet();
+        try {
+            V value = call.get();
+            mine.complete(value);
+            return copier.apply(value);
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
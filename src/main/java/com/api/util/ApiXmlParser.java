@@ -1,29 +1,32 @@
 package com.api.util;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
 
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
 import com.api.item.dto.ItemDetail;
 
 /**
  * 온비드 XML 응답을 ItemDetail DTO 리스트로 변환하는 유틸리티.
+ * StAX(pull parser)로 응답을 앞에서부터 한 번만 읽으며 DOM 트리를 만들지 않는다.
  */
 public final class ApiXmlParser {
 
@@ -37,6 +40,75 @@ public final class ApiXmlParser {
         DateTimeFormatter.ofPattern("yyyyMMdd", Locale.KOREA)
     };
 
+    private static final Pattern NON_NUMERIC = Pattern.compile("[^0-9\\-]");
+
+    // <item> 하위 태그 → 필드 인덱스
+    private static final int RNUM = 0;
+    private static final int PLNM_NO = 1;
+    private static final int LDNM_ADRS = 2;
+    private static final int NMRD_ADRS = 3;
+    private static final int ROAD_ADDR = 4;
+    private static final int APSL_ASES_AVG_AMT = 5;
+    private static final int MIN_BID_PRC = 6;
+    private static final int ORG_NM = 7;
+    private static final int PBCT_BEGN_DTM = 8;
+    private static final int PBCT_CLS_DTM = 9;
+    private static final int DPSL_MTD_NM = 10;
+    private static final int BID_MTD_NM = 11;
+    private static final int PBCT_NO = 12;
+    private static final int ORG_BASE_NO = 13;
+    private static final int CLTR_MNMT_NO = 14;
+    private static final int ROD_NM = 15;
+    private static final int BLD_NO = 16;
+    private static final int PBCT_CLTR_STAT_NM = 17;
+    private static final int IQRY_CNT = 18;
+    private static final int GOODS_NM = 19;
+    private static final int CTGR_FULL_NM = 20;
+    private static final int BID_MNMT_NO = 21;
+    private static final int FEE_RATE = 22;
+    private static final int JOINT_BID = 23;
+    private static final int ELEC_GUAR = 24;
+    private static final int AGENT_BID = 25;
+    private static final int FIELD_COUNT = 26;
+
+    private static final Map<String, Integer> FIELD_INDEX = new HashMap<>();
+    static {
+        FIELD_INDEX.put("RNUM", RNUM);
+        FIELD_INDEX.put("PLNM_NO", PLNM_NO);
+        FIELD_INDEX.put("LDNM_ADRS", LDNM_ADRS);
+        FIELD_INDEX.put("NMRD_ADRS", NMRD_ADRS);
+        FIELD_INDEX.put("ROAD_ADDR", ROAD_ADDR);
+        FIELD_INDEX.put("APSL_ASES_AVG_AMT", APSL_ASES_AVG_AMT);
+        FIELD_INDEX.put("MIN_BID_PRC", MIN_BID_PRC);
+        FIELD_INDEX.put("ORG_NM", ORG_NM);
+        FIELD_INDEX.put("PBCT_BEGN_DTM", PBCT_BEGN_DTM);
+        FIELD_INDEX.put("PBCT_CLS_DTM", PBCT_CLS_DTM);
+        FIELD_INDEX.put("DPSL_MTD_NM", DPSL_MTD_NM);
+        FIELD_INDEX.put("BID_MTD_NM", BID_MTD_NM);
+        FIELD_INDEX.put("PBCT_NO", PBCT_NO);
+        FIELD_INDEX.put("ORG_BASE_NO", ORG_BASE_NO);
+        FIELD_INDEX.put("CLTR_MNMT_NO", CLTR_MNMT_NO);
+        FIELD_INDEX.put("ROD_NM", ROD_NM);
+        FIELD_INDEX.put("BLD_NO", BLD_NO);
+        FIELD_INDEX.put("PBCT_CLTR_STAT_NM", PBCT_CLTR_STAT_NM);
+        FIELD_INDEX.put("IQRY_CNT", IQRY_CNT);
+        FIELD_INDEX.put("GOODS_NM", GOODS_NM);
+        FIELD_INDEX.put("CTGR_FULL_NM", CTGR_FULL_NM);
+        FIELD_INDEX.put("BID_MNMT_NO", BID_MNMT_NO);
+        FIELD_INDEX.put("FEE_RATE", FEE_RATE);
+        FIELD_INDEX.put("JOINT_BID", JOINT_BID);
+        FIELD_INDEX.put("ELEC_GUAR", ELEC_GUAR);
+        FIELD_INDEX.put("AGENT_BID", AGENT_BID);
+    }
+
+    // XXE 방지: DTD/외부 엔티티 비활성화 (팩토리는 설정 후 스레드 안전하게 재사용)
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+    static {
+        INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
     private ApiXmlParser() {
     }
 
@@ -45,113 +117,149 @@ public final class ApiXmlParser {
             log.warn("⚠️ XML 응답이 null이거나 비어있음");
             return List.of();
         }
+        return parsePage(new StringReader(xml)).getItems();
+    }
+
+    public static List<ItemDetail> parseNewItemDetails(InputStream in) {
+        return parsePage(in).getItems();
+    }
 
-        // API 에러 응답 확인
-        if (xml.contains("<resultCode>") || xml.contains("<resultMsg>") || xml.contains("<error>")) {
-            log.warn("⚠️ API 에러 응답 감지: {}", xml.length() > 500 ? xml.substring(0, 500) : xml);
+    /**
+     * 응답 스트림을 한 번만 읽으면서 헤더(resultCode)와 물건 목록을 함께 파싱
+     */
+    public static OnbidPage parsePage(InputStream in) {
+        if (in == null) {
+            log.warn("⚠️ XML 응답 스트림이 null");
+            return OnbidPage.empty();
         }
+        try {
+            return readPage(INPUT_FACTORY.createXMLStreamReader(in));
+        } catch (XMLStreamException ex) {
+            log.error("❌ Onbid XML 응답 파싱 실패: {}", ex.getMessage(), ex);
+            return OnbidPage.parseError(ex.getMessage(), List.of(), 0);
+        }
+    }
 
+    public static OnbidPage parsePage(Reader reader) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            factory.setExpandEntityReferences(false);
-
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new InputSource(new StringReader(xml)));
-
-            // XML 구조 확인을 위한 로깅
-            String rootElementName = document.getDocumentElement() != null ? document.getDocumentElement().getNodeName() : "unknown";
-            log.debug("📄 XML 루트 요소: {}", rootElementName);
-
-            NodeList nodes = document.getElementsByTagName("item");
-            log.debug("📄 XML에서 찾은 item 개수: {}", nodes.getLength());
-            
-            if (nodes.getLength() == 0) {
-                // 다른 태그명으로 시도
-                NodeList bodyNodes = document.getElementsByTagName("body");
-                if (bodyNodes.getLength() > 0) {
-                    Element body = (Element) bodyNodes.item(0);
-                    nodes = body.getElementsByTagName("item");
-                    log.debug("📄 body 내부에서 찾은 item 개수: {}", nodes.getLength());
-                }
-            }
-            
-            List<ItemDetail> results = new ArrayList<>(nodes.getLength());
-            for (int i = 0; i < nodes.getLength(); i++) {
-                Node node = nodes.item(i);
-                if (node.getNodeType() != Node.ELEMENT_NODE) {
-                    continue;
-                }
-                Element element = (Element) node;
-                ItemDetail detail = readItemDetail(element);
-                if (detail.getPlnmNo() != null) {
-                    results.add(detail);
-                }
-            }
-            
-            log.info("✅ XML 파싱 완료: 총 {}개 중 {}개 파싱 성공", nodes.getLength(), results.size());
-            return results;
-        } catch (Exception ex) {
+            return readPage(INPUT_FACTORY.createXMLStreamReader(reader));
+        } catch (XMLStreamException ex) {
             log.error("❌ Onbid XML 응답 파싱 실패: {}", ex.getMessage(), ex);
-            // XML의 일부를 로깅하여 디버깅에 도움
-            if (xml.length() > 500) {
-                log.error("❌ XML 응답 일부 (처음 500자): {}", xml.substring(0, 500));
-            } else {
-                log.error("❌ XML 응답 전체: {}", xml);
+            return OnbidPage.parseError(ex.getMessage(), List.of(), 0);
+        }
+    }
+
+    private static OnbidPage readPage(XMLStreamReader reader) throws XMLStreamException {
+        String resultCode = null;
+        String resultMsg = null;
+        Integer totalCount = null;
+        int rawItemCount = 0;
+        List<ItemDetail> results = new ArrayList<>();
+
+        // <item> 내부 필드값 (태그 순서와 무관하게 한 번에 수집 후 DTO 생성)
+        String[] fields = new String[FIELD_COUNT];
+        boolean inItem = false;
+
+        // 응답 중간에 XML이 깨지면 그때까지 파싱한 물건은 유지하고 에러 페이지로 반환 (데이터 끝으로 오인하지 않도록)
+        String parseError = null;
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (inItem) {
+                        Integer index = FIELD_INDEX.get(name);
+                        if (index != null) {
+                            fields[index] = trimToNull(reader.getElementText());
+                        }
+                        continue;
+                    }
+                    switch (name) {
+                        case "item" -> {
+                            inItem = true;
+                            Arrays.fill(fields, null);
+                        }
+                        case "resultCode", "returnReasonCode" -> resultCode = trimToNull(reader.getElementText());
+                        case "resultMsg", "returnAuthMsg", "errMsg" -> {
+                            String msg = trimToNull(reader.getElementText());
+                            resultMsg = resultMsg == null ? msg : resultMsg + " / " + msg;
+                        }
+                        case "totalCount" -> totalCount = toInteger(trimToNull(reader.getElementText()), name);
+                        default -> {
+                            // 그 외 태그는 무시
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && inItem && "item".equals(reader.getLocalName())) {
+                    inItem = false;
+                    rawItemCount++;
+                    ItemDetail detail = readItemDetail(fields);
+                    if (detail.getPlnmNo() != null) {
+                        results.add(detail);
+                    }
+                }
             }
-            return List.of();
+        } catch (XMLStreamException ex) {
+            log.error("❌ Onbid XML 응답 파싱 중단: {}번째 item 이후, error={}", rawItemCount, ex.getMessage(), ex);
+            parseError = ex.getMessage();
+        } finally {
+            reader.close();
+        }
+
+        if (parseError != null) {
+            return OnbidPage.parseError(parseError, results, rawItemCount);
+        }
+
+        OnbidPage page = OnbidPage.builder()
+            .resultCode(resultCode)
+            .resultMsg(resultMsg)
+            .totalCount(totalCount)
+            .rawItemCount(rawItemCount)
+            .items(results)
+            .build();
+
+        if (page.isError()) {
+            log.warn("⚠️ API 에러 응답 감지: resultCode={}, resultMsg={}", resultCode, resultMsg);
         }
+        log.info("✅ XML 파싱 완료: 총 {}개 중 {}개 파싱 성공", rawItemCount, results.size());
+        return page;
     }
 
-    private static ItemDetail readItemDetail(Element element) {
+    private static ItemDetail readItemDetail(String[] f) {
         return ItemDetail.builder()
-            .rnum(getInteger(element, "RNUM"))
-            .plnmNo(getLong(element, "PLNM_NO"))
-            .address(firstNonBlank(
-                getText(element, "LDNM_ADRS"),
-                getText(element, "NMRD_ADRS"),
-                getText(element, "ROAD_ADDR")
-            ))
-            .appraisalAmountMin(getLong(element, "APSL_ASES_AVG_AMT"))
-            .appraisalAmountMax(getLong(element, "APSL_ASES_AVG_AMT"))
-            .minBidPriceMin(getLong(element, "MIN_BID_PRC"))
-            .minBidPriceMax(getLong(element, "MIN_BID_PRC"))
-            .orgName(getText(element, "ORG_NM"))
-            .bidStart(parseDateTime(element, "PBCT_BEGN_DTM"))
-            .bidEnd(parseDateTime(element, "PBCT_CLS_DTM"))
-            .disposalMethod(getText(element, "DPSL_MTD_NM"))
-            .bidMethod(getText(element, "BID_MTD_NM"))
-            .pbctNo(getLong(element, "PBCT_NO"))
-            .orgBaseNo(getLong(element, "ORG_BASE_NO"))
-            .cltrMnmtNo(getText(element, "CLTR_MNMT_NO"))
-            .nmrAddress(getText(element, "LDNM_ADRS"))
-            .roadName(firstNonBlank(
-                getText(element, "NMRD_ADRS"),
-                getText(element, "ROD_NM")
-            ))
-            .bldNo(getText(element, "BLD_NO"))
-            .bidStatus(getText(element, "PBCT_CLTR_STAT_NM"))
-            .viewCount(getInteger(element, "IQRY_CNT"))
-            .goodsDetail(getText(element, "GOODS_NM"))
-            .assetCategory(getText(element, "CTGR_FULL_NM"))
-            .bidRoundNo(getText(element, "BID_MNMT_NO"))
-            .feeRate(getText(element, "FEE_RATE"))
-            .jointBid(parseBoolean(element, "JOINT_BID"))
-            .electronicGuarantee(parseBoolean(element, "ELEC_GUAR"))
-            .agentBid(parseBoolean(element, "AGENT_BID"))
+            .rnum(toInteger(f[RNUM], "RNUM"))
+            .plnmNo(toLong(f[PLNM_NO], "PLNM_NO"))
+            .address(firstNonBlank(f[LDNM_ADRS], f[NMRD_ADRS], f[ROAD_ADDR]))
+            .appraisalAmountMin(toLong(f[APSL_ASES_AVG_AMT], "APSL_ASES_AVG_AMT"))
+            .appraisalAmountMax(toLong(f[APSL_ASES_AVG_AMT], "APSL_ASES_AVG_AMT"))
+            .minBidPriceMin(toLong(f[MIN_BID_PRC], "MIN_BID_PRC"))
+            .minBidPriceMax(toLong(f[MIN_BID_PRC], "MIN_BID_PRC"))
+            .orgName(f[ORG_NM])
+            .bidStart(toDateTime(f[PBCT_BEGN_DTM]))
+            .bidEnd(toDateTime(f[PBCT_CLS_DTM]))
+            .disposalMethod(f[DPSL_MTD_NM])
+            .bidMethod(f[BID_MTD_NM])
+            .pbctNo(toLong(f[PBCT_NO], "PBCT_NO"))
+            .orgBaseNo(toLong(f[ORG_BASE_NO], "ORG_BASE_NO"))
+            .cltrMnmtNo(f[CLTR_MNMT_NO])
+            .nmrAddress(f[LDNM_ADRS])
+            .roadName(firstNonBlank(f[NMRD_ADRS], f[ROD_NM]))
+            .bldNo(f[BLD_NO])
+            .bidStatus(f[PBCT_CLTR_STAT_NM])
+            .viewCount(toInteger(f[IQRY_CNT], "IQRY_CNT"))
+            .goodsDetail(f[GOODS_NM])
+            .assetCategory(f[CTGR_FULL_NM])
+            .bidRoundNo(f[BID_MNMT_NO])
+            .feeRate(f[FEE_RATE])
+            .jointBid(toBoolean(f[JOINT_BID]))
+            .electronicGuarantee(toBoolean(f[ELEC_GUAR]))
+            .agentBid(toBoolean(f[AGENT_BID]))
             .build();
     }
 
-    private static Boolean parseBoolean(Element element, String tagName) {
-        String value = getText(element, tagName);
+    private static Boolean toBoolean(String value) {
         if (value == null) {
             return null;
         }
-        value = value.trim();
-        if (value.isEmpty()) {
-            return null;
-        }
         if ("Y".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value)) {
             return Boolean.TRUE;
         }
@@ -161,15 +269,13 @@ public final class ApiXmlParser {
         return null;
     }
 
-    private static LocalDateTime parseDateTime(Element element, String tagName) {
-        String raw = getText(element, tagName);
-        if (raw == null || raw.isBlank()) {
+    private static LocalDateTime toDateTime(String raw) {
+        if (raw == null) {
             return null;
         }
-        String normalized = raw.trim();
         for (DateTimeFormatter formatter : DATE_TIME_FORMATS) {
             try {
-                return LocalDateTime.parse(normalized, formatter);
+                return LocalDateTime.parse(raw, formatter);
             } catch (Exception ignore) {
                 // next format
             }
@@ -177,7 +283,7 @@ public final class ApiXmlParser {
 
         for (DateTimeFormatter formatter : DATE_FORMATS) {
             try {
-                LocalDate date = LocalDate.parse(normalized, formatter);
+                LocalDate date = LocalDate.parse(raw, formatter);
                 return date.atStartOfDay();
             } catch (Exception ignore) {
                 // next format
@@ -186,17 +292,16 @@ public final class ApiXmlParser {
         return null;
     }
 
-    private static Integer getInteger(Element element, String tagName) {
-        Long value = getLong(element, tagName);
+    private static Integer toInteger(String text, String tagName) {
+        Long value = toLong(text, tagName);
         return value == null ? null : value.intValue();
     }
 
-    private static Long getLong(Element element, String tagName) {
-        String text = getText(element, tagName);
-        if (text == null || text.isBlank()) {
+    private static Long toLong(String text, String tagName) {
+        if (text == null) {
             return null;
         }
-        String normalized = text.replaceAll("[^0-9\\-]", "");
+        String normalized = NON_NUMERIC.matcher(text).replaceAll("");
         if (normalized.isBlank() || "-".equals(normalized)) {
             return null;
         }
@@ -208,17 +313,12 @@ public final class ApiXmlParser {
         }
     }
 
-    private static String getText(Element element, String tagName) {
-        NodeList nodeList = element.getElementsByTagName(tagName);
-        if (nodeList.getLength() == 0) {
-            return null;
-        }
-        Node node = nodeList.item(0);
-        if (node == null || node.getTextContent() == null) {
+    private static String trimToNull(String text) {
+        if (text == null) {
             return null;
         }
-        String text = node.getTextContent().trim();
-        return text.isEmpty() ? null : text;
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? null : trimmed;
     }
 
     private static String firstNonBlank(String... values) {
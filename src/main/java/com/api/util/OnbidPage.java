@@ -0,0 +1,89 @@
+package com.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.api.item.dto.ItemDetail;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 온비드 목록 API 한 페이지 파싱 결과 (헤더 + 물건 목록)
+ */
+@Getter
+@Builder
+public class OnbidPage {
+
+    public static final String PARSE_ERROR_CODE = "XML_PARSE_ERROR"; // 응답 XML 파싱 실패 (온비드 코드가 아닌 내부 코드)
+
+    private final String resultCode;   // header/resultCode 또는 returnReasonCode
+    private final String resultMsg;    // header/resultMsg 또는 returnAuthMsg/errMsg
+    private final Integer totalCount;  // body/totalCount
+    private final int rawItemCount;    // 응답의 <item> 개수 (PLNM_NO 없는 항목 포함)
+    private final List<ItemDetail> items;
+    private final boolean stale;       // 온비드 장애/회로 차단으로 마지막 정상 응답을 대신 돌려준 페이지 (수집/캐시에 쓰면 안 됨)
+
+    /**
+     * 온비드 에러 응답 여부 (정상 코드: 00)
+     */
+    public boolean isError() {
+        if (resultCode == null) {
+            return false;
+        }
+        String code = resultCode.trim();
+        return !code.isEmpty() && !code.chars().allMatch(c -> c == '0');
+    }
+
+    /**
+     * 물건 목록까지 복사한 사본 (여러 호출자가 같은 결과를 받을 때 서로의 수정이 섞이지 않도록)
+     */
+    public OnbidPage copy() {
+        List<ItemDetail> copied = new ArrayList<>(items != null ? items.size() : 0);
+        if (items != null) {
+            for (ItemDetail item : items) {
+                copied.add(item.toBuilder().build());
+            }
+        }
+        return OnbidPage.builder()
+            .resultCode(resultCode)
+            .resultMsg(resultMsg)
+            .totalCount(totalCount)
+            .rawItemCount(rawItemCount)
+            .items(copied)
+            .stale(stale)
+            .build();
+    }
+
+    /**
+     * 대체 응답용 사본 (stale 표시)
+     */
+    public OnbidPage asStale() {
+        OnbidPage copied = copy();
+        return OnbidPage.builder()
+            .resultCode(copied.resultCode)
+            .resultMsg(copied.resultMsg)
+            .totalCount(copied.totalCount)
+            .rawItemCount(copied.rawItemCount)
+            .items(copied.items)
+            .stale(true)
+            .build();
+    }
+
+    public static OnbidPage empty() {
+        return OnbidPage.builder().items(List.of()).build();
+    }
+
+    /**
+     * XML 파싱 실패 페이지 - isError()가 true이므로 호출하는 쪽에서 마지막 페이지로 오인하지 않음
+     * (items에는 실패 전까지 파싱한 물건이 들어 있음)
+     */
+    public static OnbidPage parseError(String message, List<ItemDetail> parsedItems, int rawItemCount) {
+        return OnbidPage.builder()
+            .resultCode(PARSE_ERROR_CODE)
+            .resultMsg(message)
+            .rawItemCount(rawItemCount)
+            .items(parsedItems)
+            .build();
+    }
+}
@@ -15,6 +15,15 @@ CREATE TABLE item_basic (
     bid_count INT DEFAULT 1           -- 입찰 횟수
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- 목록 keyset 페이지네이션용 인덱스
+-- 전체/서울: ORDER BY bid_end ASC, plnm_no ASC (정방향 스캔)
+CREATE INDEX idx_item_basic_bid_end ON item_basic (bid_end, plnm_no);
+-- 신물건: ORDER BY bid_start DESC, plnm_no DESC (역방향 스캔)
+CREATE INDEX idx_item_basic_bid_start ON item_basic (bid_start, plnm_no);
+
+-- 내용 지문 (가격/일정/상태 등으로 계산, 같으면 재수집 시 upsert 생략)
+ALTER TABLE item_basic ADD COLUMN content_hash BIGINT NULL AFTER bid_count;
+
 -- rnum 업데이트는 나중에 데이터가 있을 때 실행
 -- SET @num := 0;
 -- UPDATE item_basic SET rnum = (@num := @num + 1) ORDER BY bid_start;
@@ -41,6 +50,9 @@ ALTER TABLE item_detail DROP COLUMN joint_bid;
 ALTER TABLE item_detail DROP COLUMN electronic_guarantee;
 ALTER TABLE item_detail DROP COLUMN agent_bid;
 
+-- 관리번호로 물건 조회 (상세 조회, 내 결제 내역에서 item_id 없는 결제의 물건 연결)
+CREATE INDEX idx_item_detail_cltr_mnmt_no ON item_detail (cltr_mnmt_no);
+
 
 SELECT 
     b.rnum,
@@ -131,6 +143,16 @@ CREATE TABLE IF NOT EXISTS PriceAlert (
     INDEX idx_created_date (created_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- 가격 모니터링 기준 가격 (관심 물건별 직전 회차 최저입찰가)
+CREATE TABLE IF NOT EXISTS price_watch (
+    item_plnm_no BIGINT PRIMARY KEY COMMENT '물건번호',
+    min_bid_price BIGINT COMMENT '직전 모니터링 시점 최저입찰가',
+    checked_at TIMESTAMP NULL COMMENT '모니터링 시각',
+    
+    CONSTRAINT fk_pricewatch_item FOREIGN KEY (item_plnm_no)
+        REFERENCES item_basic(plnm_no) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 
 -----------------------------
 
@@ -253,3 +275,76 @@ CREATE TABLE IF NOT EXISTS reply (
     INDEX idx_id (id),
     INDEX idx_reg_date (reg_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT '댓글';
+
+-- =====================================================
+-- 메일 발송 대기열 (outbox)
+-- =====================================================
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '메일 ID',
+    to_email VARCHAR(255) NOT NULL COMMENT '받는 사람',
+    subject VARCHAR(500) NOT NULL COMMENT '제목',
+    body TEXT NOT NULL COMMENT '본문',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING/SENDING/SENT/FAILED',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '전송 시도 횟수',
+    next_attempt_at TIMESTAMP NULL COMMENT '다음 전송 가능 시각',
+    claim_token VARCHAR(36) NULL COMMENT '전송을 맡은 디스패처 실행 식별자',
+    locked_until TIMESTAMP NULL COMMENT 'SENDING 점유 만료 시각',
+    last_error VARCHAR(500) NULL COMMENT '마지막 실패 사유',
+    sent_at TIMESTAMP NULL COMMENT '전송 완료 시각',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '등록일',
+    
+    INDEX idx_outbox_status_next (status, next_attempt_at),
+    INDEX idx_outbox_claim (claim_token)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT '메일 발송 대기열';
+
+-- =====================================================
+-- 온비드 일괄 수집 작업 (페이지 단위 체크포인트)
+-- =====================================================
+CREATE TABLE IF NOT EXISTS ingestion_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '작업 ID',
+    feed VARCHAR(20) NOT NULL COMMENT '목록 종류 (NEW/DISCOUNT/USAGE)',
+    sido VARCHAR(50) NOT NULL COMMENT '시도',
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED' COMMENT 'QUEUED/RUNNING/CANCEL_REQUESTED/COMPLETED/FAILED/CANCELLED',
+    last_page INT NOT NULL DEFAULT 0 COMMENT '마지막으로 저장한 페이지',
+    max_pages INT NOT NULL COMMENT '조회할 최대 페이지',
+    pages_fetched INT NOT NULL DEFAULT 0 COMMENT '저장된 페이지 수',
+    saved_count INT NOT NULL DEFAULT 0 COMMENT '저장된 물건 수',
+    error VARCHAR(500) NULL COMMENT '실패 사유',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '등록일',
+    started_at TIMESTAMP NULL COMMENT '최초 실행 시각',
+    updated_at TIMESTAMP NULL COMMENT '마지막 진행 기록 시각',
+    finished_at TIMESTAMP NULL COMMENT '종료 시각',
+    active_key VARCHAR(80) AS (CASE WHEN status IN ('QUEUED', 'RUNNING', 'CANCEL_REQUESTED') THEN CONCAT(feed, '|', sido) END) PERSISTENT
+        COMMENT '진행 중인 작업만 값을 가짐 (종류/시도별 진행 중 작업 1건 보장)',
+    
+    INDEX idx_job_feed_sido (feed, sido, id),
+    INDEX idx_job_status (status, updated_at),
+    UNIQUE KEY uk_job_active (active_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT '온비드 일괄 수집 작업';
+
+-- 물건 변경 이벤트 로그 (수집 시 신규/가격/상태/회차 변경, 삭제를 순서대로 기록, 소비자는 id 오프셋으로 읽음)
+CREATE TABLE IF NOT EXISTS item_change_event (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '로그 오프셋',
+    plnm_no BIGINT NOT NULL COMMENT '물건번호',
+    event_type VARCHAR(10) NOT NULL COMMENT 'NEW/PRICE/STATUS/ROUND/REMOVED',
+    old_value VARCHAR(100) NULL COMMENT '변경 전 값',
+    new_value VARCHAR(100) NULL COMMENT '변경 후 값',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '기록 시각',
+    
+    INDEX idx_change_plnm (plnm_no, id),
+    INDEX idx_change_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT '물건 변경 이벤트 로그';
+
+-- 물건별 입찰 회차 이력 (같은 물건의 이전 회차 가격/일정 보관, 물건 삭제와 무관하게 유지)
+CREATE TABLE IF NOT EXISTS item_bid_round (
+    plnm_no BIGINT NOT NULL COMMENT '물건번호',
+    bid_start DATETIME NOT NULL COMMENT '회차 입찰 시작',
+    bid_end DATETIME NULL COMMENT '회차 입찰 종료',
+    pbct_no BIGINT NULL COMMENT '입찰번호',
+    bid_round_no VARCHAR(20) NULL COMMENT '입찰회차',
+    min_bid_price BIGINT NULL COMMENT '회차 최저입찰가',
+    appraisal_amount BIGINT NULL COMMENT '감정가',
+    recorded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '마지막 기록 시각',
+    
+    PRIMARY KEY (plnm_no, bid_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT '물건 입찰 회차 이력';
@@ -0,0 +1,117 @@
+package com.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 HTTP 서버로 RestTemplate 커넥션 풀 동작 확인 (keep-alive 재사용, gzip 해제, 풀 통계)
+ */
+class RestTemplateConfigTest {
+
+    private static final String BODY = "<response><header><resultCode>00</resultCode></header></response>";
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final List<String> acceptEncodings = new CopyOnWriteArrayList<>();
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/onbid", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            acceptEncodings.add(acceptEncoding != null ? acceptEncoding : "");
+
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = gzip(body);
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/xml; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        RestTemplateConfig config = new RestTemplateConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 10);
+        ReflectionTestUtils.setField(config, "maxPerRoute", 4);
+        ReflectionTestUtils.setField(config, "idleEvictSeconds", 30L);
+        connectionManager = config.httpConnectionManager();
+        httpClient = config.httpClient(connectionManager);
+        restTemplate = config.restTemplate(new RestTemplateBuilder(), httpClient);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void reusesOneKeepAliveConnectionForSequentialCalls() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(BODY, restTemplate.getForObject(url(), String.class));
+        }
+
+        assertEquals(1, clientPorts.size(), "순차 호출은 TCP 연결 1개를 재사용");
+        PoolStats stats = connectionManager.getTotalStats();
+        assertEquals(0, stats.getLeased(), "응답을 다 읽으면 연결을 풀에 반납");
+        assertEquals(1, stats.getAvailable());
+    }
+
+    @Test
+    void negotiatesAndDecodesGzip() {
+        assertEquals(BODY, restTemplate.getForObject(url(), String.class), "압축 응답은 자동으로 해제");
+
+        assertEquals(1, acceptEncodings.size());
+        assertTrue(acceptEncodings.get(0).contains("gzip"), "Accept-Encoding: " + acceptEncodings.get(0));
+    }
+
+    @Test
+    void appliesConfiguredPoolLimits() {
+        assertEquals(10, connectionManager.getMaxTotal());
+        assertEquals(4, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/onbid";
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,127 @@
+package com.api.item.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class ItemCursorTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 31, 10, 0);
+
+    // apiMapper.xml itemListOrder / findItemPage keyset 조건과 같은 기준
+    private static final Comparator<ItemDetail> BY_BID_END = Comparator
+        .comparing(ItemDetail::getBidEnd)
+        .thenComparing(ItemDetail::getPlnmNo);
+    private static final Comparator<ItemDetail> BY_BID_START_DESC = Comparator
+        .comparing(ItemDetail::getBidStart)
+        .thenComparing(ItemDetail::getPlnmNo)
+        .reversed();
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        ItemCursor cursor = new ItemCursor(BASE, 754512L);
+
+        assertEquals("2025-01-31T10:00_754512", cursor.encode());
+
+        ItemCursor decoded = ItemCursor.decode(cursor.encode());
+        assertEquals(BASE, decoded.getSortTime());
+        assertEquals(754512L, decoded.getPlnmNo());
+    }
+
+    @Test
+    void decodeRejectsMalformedCursor() {
+        assertNull(ItemCursor.decode(null));
+        assertNull(ItemCursor.decode("  "));
+        assertNull(ItemCursor.decode("754512"));
+        assertNull(ItemCursor.decode("_754512"));
+        assertNull(ItemCursor.decode("2025-01-31T10:00_abc"));
+        assertNull(ItemCursor.decode("not-a-time_754512"));
+    }
+
+    @Test
+    void lastUsesFinalRowOrNullWhenUnusable() {
+        ItemDetail first = item(1L, BASE, BASE.plusDays(1));
+        ItemDetail last = item(2L, BASE, BASE.plusDays(2));
+
+        ItemCursor cursor = ItemCursor.last(List.of(first, last), ItemDetail::getBidEnd);
+        assertEquals(BASE.plusDays(2), cursor.getSortTime());
+        assertEquals(2L, cursor.getPlnmNo());
+
+        assertNull(ItemCursor.last(null, ItemDetail::getBidEnd));
+        assertNull(ItemCursor.last(List.of(), ItemDetail::getBidEnd));
+        assertNull(ItemCursor.last(List.of(first, item(3L, BASE, null)), ItemDetail::getBidEnd));
+        assertNull(ItemCursor.last(List.of(item(null, BASE, BASE)), ItemDetail::getBidEnd));
+    }
+
+    @Test
+    void bidEndKeysetPagesWithoutGapsOrDuplicates() {
+        // 같은 마감 시각이 페이지 경계에 걸치도록 구성
+        List<ItemDetail> rows = new ArrayList<>();
+        for (long plnmNo = 1; plnmNo <= 10; plnmNo++) {
+            rows.add(item(plnmNo, BASE, BASE.plusHours(plnmNo % 3)));
+        }
+
+        List<ItemDetail> paged = pageAll(rows, BY_BID_END, ItemDetail::getBidEnd,
+            cursor -> row -> row.getBidEnd().isAfter(cursor.getSortTime())
+                || (row.getBidEnd().equals(cursor.getSortTime()) && row.getPlnmNo() > cursor.getPlnmNo()));
+
+        assertEquals(sorted(rows, BY_BID_END), paged);
+    }
+
+    @Test
+    void bidStartKeysetPagesWithoutGapsOrDuplicates() {
+        List<ItemDetail> rows = new ArrayList<>();
+        for (long plnmNo = 1; plnmNo <= 10; plnmNo++) {
+            rows.add(item(plnmNo, BASE.minusDays(plnmNo % 4), BASE));
+        }
+
+        List<ItemDetail> paged = pageAll(rows, BY_BID_START_DESC, ItemDetail::getBidStart,
+            cursor -> row -> row.getBidStart().isBefore(cursor.getSortTime())
+                || (row.getBidStart().equals(cursor.getSortTime()) && row.getPlnmNo() < cursor.getPlnmNo()));
+
+        assertEquals(sorted(rows, BY_BID_START_DESC), paged);
+    }
+
+    // 3건씩 커서 문자열을 주고받으며 끝까지 조회
+    private static List<ItemDetail> pageAll(List<ItemDetail> rows, Comparator<ItemDetail> order,
+                                            Function<ItemDetail, LocalDateTime> sortTime,
+                                            Function<ItemCursor, Predicate<ItemDetail>> after) {
+        List<ItemDetail> result = new ArrayList<>();
+        String encoded = null;
+        for (int guard = 0; guard < rows.size() + 1; guard++) {
+            ItemCursor cursor = ItemCursor.decode(encoded);
+            List<ItemDetail> page = rows.stream()
+                .filter(cursor != null ? after.apply(cursor) : row -> true)
+                .sorted(order)
+                .limit(3)
+                .toList();
+            result.addAll(page);
+            ItemCursor next = ItemCursor.last(page, sortTime);
+            if (next == null) {
+                return result;
+            }
+            encoded = next.encode();
+        }
+        fail("paging did not terminate");
+        return result;
+    }
+
+    private static List<ItemDetail> sorted(List<ItemDetail> rows, Comparator<ItemDetail> order) {
+        return rows.stream().sorted(order).toList();
+    }
+
+    private static ItemDetail item(Long plnmNo, LocalDateTime bidStart, LocalDateTime bidEnd) {
+        return ItemDetail.builder()
+            .plnmNo(plnmNo)
+            .bidStart(bidStart)
+            .bidEnd(bidEnd)
+            .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.api.item.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * itemReloadMapper.xml 삭제/유지 범위 확인 (DB 없이 SQL만 생성)
+ * - 삭제는 재적재가 끝난 시도 범위 안에서 참조가 없는 물건만, 유지 복사는 그 반대
+ */
+class ItemReloadScopeSqlTest {
+
+    private static final String NAMESPACE = "com.api.item.mapper.ItemReloadMapper.";
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void loadMapper() throws IOException {
+        configuration = new Configuration();
+        String resource = "mapper/itemReloadMapper.xml";
+        try (InputStream in = ItemReloadScopeSqlTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in, "itemReloadMapper.xml not found");
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    @Test
+    void deleteIsLimitedToReloadedSidosAndUnreferencedItems() {
+        BoundSql sql = bind("deleteMissingBasicChunk", List.of("서울특별시", "부산광역시"));
+        String text = normalize(sql.getSql());
+
+        assertTrue(text.startsWith("DELETE b FROM item_basic b"), text);
+        assertTrue(text.contains("s.plnm_no IS NULL"), "재적재 결과에 없는 행만");
+        assertTrue(text.contains("(b.address LIKE CONCAT(?, '%') OR b.address LIKE CONCAT(?, '%'))"), text);
+        assertReferencesExcluded(text);
+        assertEquals(List.of(0L, 2000L, "서울특별시", "부산광역시"), values(sql));
+    }
+
+    @Test
+    void keptCopyIsTheComplementOfDeleteScope() {
+        BoundSql sql = bind("copyKeptDetailChunk", List.of("서울특별시"));
+        String text = normalize(sql.getSql());
+
+        assertTrue(text.startsWith("INSERT IGNORE INTO item_detail_shadow"), text);
+        assertTrue(text.contains("AND NOT ((b.address LIKE CONCAT(?, '%'))"), text);
+        assertReferencesExcluded(text);
+    }
+
+    @Test
+    void keptCopyWithoutRemovableSidosKeepsEveryMissingRow() {
+        BoundSql sql = bind("copyKeptDetailChunk", List.of());
+        String text = normalize(sql.getSql());
+
+        // 삭제 가능한 시도가 없으면 재적재 결과에 없는 운영 상세 정보를 모두 유지
+        assertFalse(text.contains("address LIKE"), text);
+        assertFalse(text.contains("NOT EXISTS"), text);
+        assertTrue(text.endsWith("AND s.plnm_no IS NULL"), text);
+    }
+
+    private static void assertReferencesExcluded(String text) {
+        assertTrue(text.contains("NOT EXISTS (SELECT 1 FROM favorite f WHERE f.item_plnm_no = b.plnm_no)"), "관심 물건 보호");
+        assertTrue(text.contains("NOT EXISTS (SELECT 1 FROM payment_base p WHERE p.item_id = b.plnm_no)"), "결제 물건 보호");
+        assertTrue(text.contains("NOT EXISTS (SELECT 1 FROM PriceAlert a WHERE a.item_plnm_no = b.plnm_no)"), "알림 물건 보호");
+        assertTrue(text.contains("NOT EXISTS (SELECT 1 FROM price_watch w WHERE w.item_plnm_no = b.plnm_no)"), "가격 모니터링 물건 보호");
+    }
+
+    private static BoundSql bind(String id, List<String> sidos) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("after", 0L);
+        params.put("upTo", 2000L);
+        params.put("sidos", sidos);
+        return configuration.getMappedStatement(NAMESPACE + id).getBoundSql(params);
+    }
+
+    // 바인딩 순서대로 값 (foreach 값은 추가 파라미터)
+    private static List<Object> values(BoundSql sql) {
+        List<Object> result = new ArrayList<>();
+        Map<?, ?> params = (Map<?, ?>) sql.getParameterObject();
+        for (ParameterMapping mapping : sql.getParameterMappings()) {
+            String name = mapping.getProperty();
+            result.add(sql.hasAdditionalParameter(name) ? sql.getAdditionalParameter(name) : params.get(name));
+        }
+        return result;
+    }
+
+    private static String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ").replace("( ", "(").replace(" )", ")").trim();
+    }
+}
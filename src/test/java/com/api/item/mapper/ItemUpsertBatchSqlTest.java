@@ -0,0 +1,135 @@
+package com.api.item.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.api.item.dto.ItemBasic;
+import com.api.item.dto.ItemDetail;
+
+/**
+ * apiMapper.xml 다건 upsert가 페이지 전체를 multi-row INSERT 한 문장으로 만드는지 확인 (DB 없이 SQL만 생성)
+ */
+class ItemUpsertBatchSqlTest {
+
+    private static final String NAMESPACE = "com.api.item.mapper.ItemMapper.";
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void loadMapper() throws IOException {
+        configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        String resource = "mapper/apiMapper.xml";
+        try (InputStream in = ItemUpsertBatchSqlTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in, "apiMapper.xml not found");
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    @Test
+    void basicBatchIsOneMultiRowUpsert() {
+        List<ItemBasic> items = List.of(basic(1L, 3), basic(2L, null), basic(3L, 0));
+
+        BoundSql sql = bind("upsertItemBasicBatch", items);
+        String text = normalize(sql.getSql());
+
+        assertTrue(text.startsWith("INSERT INTO item_basic ("), text);
+        assertEquals(1, count(text, "INSERT INTO"), "페이지 전체가 한 문장");
+        assertEquals(3, count(text, "(?, ?, ?,"), "행마다 VALUES 튜플 1개");
+        assertEquals(3 * 14, sql.getParameterMappings().size());
+        assertTrue(text.contains("ON DUPLICATE KEY UPDATE"));
+        // 그룹화되지 않은 수집 경로(bidCount=null)가 저장된 유찰 횟수를 덮어쓰지 않음
+        assertTrue(text.contains("bid_count = COALESCE(VALUES(bid_count), bid_count)"), text);
+        assertTrue(text.contains("content_hash = VALUES(content_hash)"));
+        assertFalse(text.contains("plnm_no = VALUES(plnm_no)"), "PK는 갱신하지 않음");
+
+        // 바인딩 순서가 입력 순서와 같음
+        assertEquals(List.of(1L, 2L, 3L), values(sql, "plnmNo"));
+        assertEquals(Arrays.asList(3, null, 0), values(sql, "bidCount"));
+    }
+
+    @Test
+    void detailBatchIsOneMultiRowUpsert() {
+        List<ItemDetail> items = List.of(detail(10L), detail(11L));
+
+        BoundSql sql = bind("upsertItemDetailBatch", items);
+        String text = normalize(sql.getSql());
+
+        assertTrue(text.startsWith("INSERT INTO item_detail ("), text);
+        assertEquals(1, count(text, "INSERT INTO"));
+        assertEquals(2, count(text, "(?, ?, ?,"));
+        assertEquals(2 * 13, sql.getParameterMappings().size());
+        assertTrue(text.contains("ON DUPLICATE KEY UPDATE"));
+        assertTrue(text.contains("cltr_mnmt_no = VALUES(cltr_mnmt_no)"));
+        assertEquals(List.of(10L, 11L), values(sql, "plnmNo"));
+        assertEquals(List.of("2025-10", "2025-11"), values(sql, "cltrMnmtNo"));
+    }
+
+    private static BoundSql bind(String id, List<?> items) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("items", items);
+        params.put("param1", items);
+        return configuration.getMappedStatement(NAMESPACE + id).getBoundSql(params);
+    }
+
+    // foreach 바인딩 값 중 해당 속성만 순서대로
+    private static List<Object> values(BoundSql sql, String property) {
+        List<Object> result = new ArrayList<>();
+        for (ParameterMapping mapping : sql.getParameterMappings()) {
+            String name = mapping.getProperty();
+            if (name.endsWith("." + property)) {
+                result.add(sql.getAdditionalParameter(name));
+            }
+        }
+        return result;
+    }
+
+    private static String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ").replace("( ", "(").replace(" )", ")").trim();
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static ItemBasic basic(Long plnmNo, Integer bidCount) {
+        return ItemBasic.builder()
+            .plnmNo(plnmNo)
+            .address("서울특별시 " + plnmNo)
+            .appraisalAmountMin(1_000_000L)
+            .minBidPriceMin(900_000L)
+            .bidStart(BASE)
+            .bidEnd(BASE.plusDays(2))
+            .bidCount(bidCount)
+            .contentHash(plnmNo * 31)
+            .build();
+    }
+
+    private static ItemDetail detail(Long plnmNo) {
+        return ItemDetail.builder()
+            .plnmNo(plnmNo)
+            .cltrMnmtNo("2025-" + plnmNo)
+            .bidStart(BASE)
+            .build();
+    }
+}
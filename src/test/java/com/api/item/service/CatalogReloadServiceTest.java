@@ -0,0 +1,186 @@
+package com.api.item.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.api.item.dto.ItemDetail;
+import com.api.item.mapper.ItemMapper;
+import com.api.item.mapper.ItemReloadMapper;
+import com.api.union.service.ItemFetchService;
+import com.api.union.service.OnbidCallBudget;
+import com.api.union.service.OnbidFeed;
+import com.api.union.service.PageIngestionEngine;
+import com.api.union.service.ServiceKeyPool;
+import com.api.util.OnbidPage;
+
+class CatalogReloadServiceTest {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int MAX_PAGES = 2;
+    private static final String SEOUL = "서울특별시";
+    private static final String BUSAN = "부산광역시";
+
+    private ItemReloadMapper reloadMapper;
+    private ItemFetchService itemFetchService;
+    private ItemCatalogIndex catalogIndex;
+    private CatalogReloadService service;
+
+    // 마지막 페이지까지 받지 못하는(최대 페이지를 넘는) 목록/시도
+    private String endlessKey;
+
+    @BeforeEach
+    void setUp() {
+        reloadMapper = mock(ItemReloadMapper.class);
+        // PK 구간은 한 번만 (after=0 → 100, 그다음 없음)
+        when(reloadMapper.findShadowChunkEnd(anyLong(), anyInt())).thenAnswer(inv -> (long) inv.getArgument(0) == 0 ? 100L : null);
+        when(reloadMapper.findLiveChunkEnd(anyLong(), anyInt())).thenAnswer(inv -> (long) inv.getArgument(0) == 0 ? 100L : null);
+        when(reloadMapper.countBasicShadow()).thenReturn(10L);
+
+        itemFetchService = mock(ItemFetchService.class);
+        when(itemFetchService.fetchPageOrThrow(any(), anyInt(), anyString())).thenAnswer(inv -> {
+            OnbidFeed feed = inv.getArgument(0);
+            int page = inv.getArgument(1);
+            String sido = inv.getArgument(2);
+            boolean endless = (feed + "|" + sido).equals(endlessKey);
+            return page(page, endless || page == 1 ? PAGE_SIZE : 10);
+        });
+
+        ItemMapper itemMapper = mock(ItemMapper.class);
+        catalogIndex = new ItemCatalogIndex(1000);
+        service = new CatalogReloadService(
+            reloadMapper,
+            itemFetchService,
+            new PageIngestionEngine(Runnable::run, budget(), 1000),
+            new ItemFingerprintStore(itemMapper, 1000),
+            catalogIndex,
+            new DuplicateItemGrouper(),
+            Runnable::run,
+            MAX_PAGES);
+    }
+
+    @Test
+    void fullyLoadedSidoDeletesMissingRowsOnlyInThatScope() {
+        catalogIndex.put(ItemDetail.builder().plnmNo(1L).build());
+
+        assertTrue(service.start(List.of(OnbidFeed.values()), List.of(SEOUL)));
+
+        assertEquals("COMPLETED", lastStatus());
+        verify(reloadMapper).insertReloadEvents(List.of(SEOUL));
+        verify(reloadMapper).copyKeptDetailChunk(0L, 100L, List.of(SEOUL));
+        verify(reloadMapper).deleteMissingBasicChunk(0L, 100L, List.of(SEOUL));
+        assertEquals(0, catalogIndex.size(), "교체 후 인덱스 비움");
+    }
+
+    @Test
+    void subsetOfFeedsNeverDeletes() {
+        assertTrue(service.start(List.of(OnbidFeed.NEW), List.of(SEOUL)));
+
+        assertEquals("COMPLETED", lastStatus());
+        // 일부 목록만 받은 경우 없어진 물건을 판단할 수 없으므로 삭제하지 않고 상세 정보는 모두 유지
+        verify(reloadMapper).insertReloadEvents(List.of());
+        verify(reloadMapper).copyKeptDetailChunk(0L, 100L, List.of());
+        verify(reloadMapper, never()).deleteMissingBasicChunk(anyLong(), anyLong(), anyList());
+        verify(reloadMapper).swapDetailTables();
+    }
+
+    @Test
+    void sidoStoppedAtMaxPagesIsExcludedFromDeletes() {
+        endlessKey = OnbidFeed.USAGE + "|" + BUSAN;
+
+        assertTrue(service.start(List.of(OnbidFeed.values()), List.of(SEOUL, BUSAN)));
+
+        assertEquals("COMPLETED", lastStatus());
+        verify(itemFetchService, never()).fetchPageOrThrow(eq(OnbidFeed.USAGE), eq(MAX_PAGES + 1), eq(BUSAN));
+        verify(reloadMapper).insertReloadEvents(List.of(SEOUL));
+        verify(reloadMapper).copyKeptDetailChunk(0L, 100L, List.of(SEOUL));
+        verify(reloadMapper).deleteMissingBasicChunk(0L, 100L, List.of(SEOUL));
+    }
+
+    @Test
+    void fetchFailureLeavesLiveTablesUntouched() {
+        when(itemFetchService.fetchPageOrThrow(eq(OnbidFeed.DISCOUNT), anyInt(), eq(SEOUL)))
+            .thenThrow(new IllegalStateException("온비드 오류"));
+
+        assertTrue(service.start(List.of(OnbidFeed.values()), List.of(SEOUL)));
+
+        assertEquals("FAILED", lastStatus());
+        verify(reloadMapper, never()).mergeBasicChunk(anyLong(), anyLong());
+        verify(reloadMapper, never()).swapDetailTables();
+        verify(reloadMapper, never()).deleteMissingBasicChunk(anyLong(), anyLong(), anyList());
+        // 시작 시 1번 + 실패 정리 1번
+        verify(reloadMapper, times(2)).dropShadowTables();
+    }
+
+    @Test
+    void emptyLoadDoesNotSwap() {
+        when(reloadMapper.countBasicShadow()).thenReturn(0L);
+
+        assertTrue(service.start(List.of(OnbidFeed.values()), List.of(SEOUL)));
+
+        assertEquals("FAILED", lastStatus());
+        verify(reloadMapper, never()).swapDetailTables();
+        verify(reloadMapper, never()).deleteMissingBasicChunk(anyLong(), anyLong(), anyList());
+    }
+
+    @Test
+    void buildsIndexesBeforeSwapAndDeletesAfterIt() {
+        assertTrue(service.start(List.of(OnbidFeed.values()), List.of(SEOUL)));
+
+        InOrder order = inOrder(reloadMapper);
+        order.verify(reloadMapper).dropDetailShadowSecondaryIndexes();
+        order.verify(reloadMapper, atLeastOnce()).insertDetailShadow(anyList());
+        order.verify(reloadMapper).mergeBasicChunk(0L, 100L);
+        order.verify(reloadMapper).copyKeptDetailChunk(0L, 100L, List.of(SEOUL));
+        order.verify(reloadMapper).createDetailShadowSecondaryIndexes();
+        order.verify(reloadMapper).swapDetailTables();
+        order.verify(reloadMapper).deleteMissingBasicChunk(0L, 100L, List.of(SEOUL));
+    }
+
+    @Test
+    void rejectsSecondStartWhileRunning() {
+        List<Runnable> queued = new ArrayList<>();
+        CatalogReloadService queuedService = new CatalogReloadService(reloadMapper, itemFetchService,
+            new PageIngestionEngine(Runnable::run, budget(), 1000), new ItemFingerprintStore(mock(ItemMapper.class), 1000),
+            catalogIndex, new DuplicateItemGrouper(), queued::add, MAX_PAGES);
+
+        assertTrue(queuedService.start(List.of(OnbidFeed.NEW), List.of(SEOUL)));
+        assertFalse(queuedService.start(List.of(OnbidFeed.NEW), List.of(SEOUL)), "실행 중에는 다시 시작하지 않음");
+
+        queued.get(0).run();
+        assertTrue(queuedService.start(List.of(OnbidFeed.NEW), List.of(SEOUL)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String lastStatus() {
+        Map<String, Object> last = (Map<String, Object>) service.getStatus().get("last");
+        return (String) last.get("status");
+    }
+
+    // rawItemCount건 응답 중 물건 1건 (plnmNo는 페이지마다 다르게)
+    private static OnbidPage page(int page, int rawItemCount) {
+        return OnbidPage.builder()
+            .resultCode("00")
+            .rawItemCount(rawItemCount)
+            .items(List.of(ItemDetail.builder().plnmNo(1000L + page).cltrMnmtNo("2025-" + page).build()))
+            .build();
+    }
+
+    private static OnbidCallBudget budget() {
+        ServiceKeyPool keys = new ServiceKeyPool(new String[] {"test-key"}, new String[] {"22"}, 60, 0);
+        return new OnbidCallBudget(1000, 1000, 0, keys, 0.2, 0.5, 0.2, 1000, 1000, 1000);
+    }
+}
@@ -0,0 +1,123 @@
+package com.api.item.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.item.dto.ItemDetail;
+
+class DuplicateItemGrouperTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private final DuplicateItemGrouper grouper = new DuplicateItemGrouper();
+
+    @Test
+    void keepsLatestRoundPerPlnmNoInFirstSeenOrder() {
+        ItemDetail a1 = item(1L, null, BASE);
+        ItemDetail b1 = item(2L, null, BASE);
+        ItemDetail a2 = item(1L, null, BASE.plusDays(7));
+
+        List<ItemDetail> result = grouper.group(List.of(a1, b1, a2));
+
+        assertEquals(2, result.size());
+        assertSame(a2, result.get(0));
+        assertSame(b1, result.get(1));
+        assertEquals(1, a2.getBidCount());
+        assertEquals(0, b1.getBidCount());
+    }
+
+    @Test
+    void bidStartTieKeepsFirstRow() {
+        ItemDetail first = item(1L, null, BASE);
+        ItemDetail second = item(1L, null, BASE);
+
+        List<ItemDetail> result = grouper.group(List.of(first, second));
+
+        assertEquals(1, result.size());
+        assertSame(first, result.get(0));
+        assertEquals(1, first.getBidCount());
+    }
+
+    @Test
+    void nullBidStartNeverReplacesDatedRow() {
+        ItemDetail dated = item(1L, null, BASE);
+        ItemDetail undated = item(1L, null, null);
+
+        assertSame(dated, grouper.group(List.of(dated, undated)).get(0));
+
+        // 입찰 시작일 없는 행이 먼저 나와도 날짜 있는 행으로 교체
+        ItemDetail undatedFirst = item(2L, null, null);
+        ItemDetail datedLater = item(2L, null, BASE);
+        assertSame(datedLater, grouper.group(List.of(undatedFirst, datedLater)).get(0));
+
+        // 모두 날짜가 없으면 먼저 나온 행
+        ItemDetail onlyUndated = item(3L, null, null);
+        assertSame(onlyUndated, grouper.group(List.of(onlyUndated, item(3L, null, null))).get(0));
+    }
+
+    @Test
+    void groupsByTrimmedCltrMnmtNoWhenPlnmNoMissing() {
+        ItemDetail first = item(null, "2025-0001", BASE);
+        ItemDetail padded = item(null, " 2025-0001 ", BASE.plusDays(7));
+        ItemDetail other = item(null, "2025-0002", BASE);
+
+        List<ItemDetail> result = grouper.group(List.of(first, padded, other));
+
+        assertEquals(2, result.size());
+        assertSame(padded, result.get(0));
+        assertEquals(1, padded.getBidCount());
+        assertSame(other, result.get(1));
+    }
+
+    @Test
+    void rowsWithoutKeysAreKeptAndNullsSkipped() {
+        ItemDetail blank = item(null, "  ", BASE);
+        ItemDetail none = item(null, null, BASE);
+
+        List<ItemDetail> result = grouper.group(Arrays.asList(blank, null, none));
+
+        assertEquals(List.of(blank, none), result);
+    }
+
+    @Test
+    void accumulatesExistingBidCount() {
+        ItemDetail old1 = item(1L, null, BASE);
+        ItemDetail old2 = item(1L, null, BASE.plusDays(7));
+        ItemDetail latest = item(1L, null, BASE.plusDays(14));
+        latest.setBidCount(2);
+
+        grouper.group(List.of(old1, old2, latest));
+
+        // 최신 행 제외 2건 + 기존 유찰 횟수 2
+        assertEquals(4, latest.getBidCount());
+    }
+
+    @Test
+    void singleRowKeepsExistingBidCount() {
+        ItemDetail counted = item(1L, null, BASE);
+        counted.setBidCount(3);
+        ItemDetail fresh = item(2L, null, BASE);
+
+        grouper.group(List.of(counted, fresh));
+
+        assertEquals(3, counted.getBidCount());
+        assertEquals(0, fresh.getBidCount());
+        // 이미 그룹화된 결과를 다시 넣어도 값이 바뀌지 않음
+        grouper.group(List.of(counted, fresh));
+        assertEquals(3, counted.getBidCount());
+        assertEquals(0, fresh.getBidCount());
+    }
+
+    private static ItemDetail item(Long plnmNo, String cltrMnmtNo, LocalDateTime bidStart) {
+        return ItemDetail.builder()
+            .plnmNo(plnmNo)
+            .cltrMnmtNo(cltrMnmtNo)
+            .bidStart(bidStart)
+            .build();
+    }
+}
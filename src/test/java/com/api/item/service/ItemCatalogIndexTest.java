@@ -0,0 +1,93 @@
+package com.api.item.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.item.dto.ItemDetail;
+
+class ItemCatalogIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private final ItemCatalogIndex index = new ItemCatalogIndex(1000);
+
+    @Test
+    void returnsCopiesInsteadOfSharedInstances() {
+        ItemDetail original = item(1L, "2025-0001", BASE, 1000L);
+        index.put(original);
+
+        // 넣은 뒤 원본을 수정해도 인덱스에는 영향 없음
+        original.setMinBidPriceMin(1L);
+        ItemDetail first = index.get(1L);
+        assertEquals(1000L, first.getMinBidPriceMin());
+        assertNotSame(original, first);
+
+        // 꺼낸 값을 수정해도 다음 조회에는 영향 없음
+        first.setMinBidPriceMin(2L);
+        ItemDetail second = index.get(1L);
+        assertEquals(1000L, second.getMinBidPriceMin());
+        assertNotSame(first, second);
+
+        ItemDetail byCltr = index.getByCltrMnmtNo(" 2025-0001 ");
+        assertEquals(1000L, byCltr.getMinBidPriceMin());
+        assertNotSame(second, byCltr);
+    }
+
+    @Test
+    void keepsNewerRoundForSamePlnmNo() {
+        index.put(item(1L, "2025-0001", BASE.plusDays(7), 900L));
+        index.put(item(1L, "2025-0001", BASE, 1000L));
+
+        assertEquals(900L, index.get(1L).getMinBidPriceMin());
+
+        index.putAll(List.of(item(1L, "2025-0001", BASE.plusDays(14), 800L)));
+        assertEquals(800L, index.get(1L).getMinBidPriceMin());
+    }
+
+    @Test
+    void ignoresCltrMappingAfterManagementNumberChanges() {
+        index.put(item(1L, "2025-0001", BASE, 1000L));
+        index.put(item(1L, "2025-0002", BASE.plusDays(7), 900L));
+
+        // 예전 관리번호로는 더 이상 조회되지 않음
+        assertNull(index.getByCltrMnmtNo("2025-0001"));
+        assertEquals(1L, index.getByCltrMnmtNo("2025-0002").getPlnmNo());
+    }
+
+    @Test
+    void removeDropsBothKeys() {
+        index.put(item(1L, "2025-0001", BASE, 1000L));
+        index.put(item(2L, "2025-0002", BASE, 2000L));
+
+        index.remove(1L);
+        assertNull(index.get(1L));
+        assertNull(index.getByCltrMnmtNo("2025-0001"));
+
+        index.removeByCltrMnmtNo("2025-0002");
+        assertNull(index.get(2L));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void skipsItemsWithoutPlnmNo() {
+        index.put(null);
+        index.put(item(null, "2025-0001", BASE, 1000L));
+
+        assertEquals(0, index.size());
+        assertNull(index.get(null));
+        assertNull(index.getByCltrMnmtNo("2025-0001"));
+    }
+
+    private static ItemDetail item(Long plnmNo, String cltrMnmtNo, LocalDateTime bidStart, Long minBidPrice) {
+        return ItemDetail.builder()
+            .plnmNo(plnmNo)
+            .cltrMnmtNo(cltrMnmtNo)
+            .bidStart(bidStart)
+            .minBidPriceMin(minBidPrice)
+            .build();
+    }
+}
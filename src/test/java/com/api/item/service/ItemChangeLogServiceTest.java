@@ -0,0 +1,94 @@
+package com.api.item.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.item.dto.ItemChangeEvent;
+import com.api.item.dto.ItemDetail;
+
+class ItemChangeLogServiceTest {
+
+    @Test
+    void missingPreviousRowIsNew() {
+        List<ItemChangeEvent> events = ItemChangeLogService.diff(Map.of(), List.of(item(1L, 100_000L, "입찰준비중", "1")));
+
+        assertEquals(1, events.size());
+        assertEvent(events.get(0), 1L, ItemChangeEvent.TYPE_NEW, null, "100000");
+    }
+
+    @Test
+    void unchangedRowHasNoEvents() {
+        ItemDetail before = item(1L, 100_000L, "입찰준비중", "1");
+
+        assertTrue(ItemChangeLogService.diff(Map.of(1L, before), List.of(before.toBuilder().viewCount(10).build())).isEmpty());
+    }
+
+    @Test
+    void emitsPriceStatusAndRoundChanges() {
+        ItemDetail before = item(1L, 100_000L, "입찰준비중", "1");
+        ItemDetail after = item(1L, 90_000L, "인터넷입찰진행중", "2");
+
+        List<ItemChangeEvent> events = ItemChangeLogService.diff(Map.of(1L, before), List.of(after));
+
+        assertEquals(3, events.size());
+        assertEvent(events.get(0), 1L, ItemChangeEvent.TYPE_PRICE, "100000", "90000");
+        assertEvent(events.get(1), 1L, ItemChangeEvent.TYPE_STATUS, "입찰준비중", "인터넷입찰진행중");
+        assertEvent(events.get(2), 1L, ItemChangeEvent.TYPE_ROUND, "1", "2");
+    }
+
+    @Test
+    void priceUsesMaxBeforeMin() {
+        ItemDetail before = item(1L, 100_000L, "입찰준비중", "1").toBuilder().minBidPriceMax(120_000L).build();
+        // 최저가(min)만 바뀌고 max가 같으면 가격 변경 아님
+        ItemDetail sameMax = before.toBuilder().minBidPriceMin(80_000L).build();
+        ItemDetail lowerMax = before.toBuilder().minBidPriceMax(110_000L).build();
+
+        assertTrue(ItemChangeLogService.diff(Map.of(1L, before), List.of(sameMax)).isEmpty());
+
+        List<ItemChangeEvent> events = ItemChangeLogService.diff(Map.of(1L, before), List.of(lowerMax));
+        assertEquals(1, events.size());
+        assertEvent(events.get(0), 1L, ItemChangeEvent.TYPE_PRICE, "120000", "110000");
+    }
+
+    @Test
+    void nullValuesAreCompared() {
+        ItemDetail before = item(1L, null, null, null);
+        ItemDetail after = item(1L, 50_000L, "유찰", null);
+
+        List<ItemChangeEvent> events = ItemChangeLogService.diff(Map.of(1L, before), List.of(after));
+
+        assertEquals(2, events.size());
+        assertEvent(events.get(0), 1L, ItemChangeEvent.TYPE_PRICE, null, "50000");
+        assertEvent(events.get(1), 1L, ItemChangeEvent.TYPE_STATUS, null, "유찰");
+    }
+
+    @Test
+    void longValuesAreTruncated() {
+        ItemDetail before = item(1L, 100_000L, "입찰준비중", "1");
+        ItemDetail after = before.toBuilder().bidStatus("가".repeat(150)).build();
+
+        List<ItemChangeEvent> events = ItemChangeLogService.diff(Map.of(1L, before), List.of(after));
+
+        assertEquals(100, events.get(0).getNewValue().length());
+    }
+
+    private static void assertEvent(ItemChangeEvent event, Long plnmNo, String type, String oldValue, String newValue) {
+        assertEquals(plnmNo, event.getPlnmNo());
+        assertEquals(type, event.getEventType());
+        assertEquals(oldValue, event.getOldValue());
+        assertEquals(newValue, event.getNewValue());
+    }
+
+    private static ItemDetail item(Long plnmNo, Long minBidPrice, String bidStatus, String bidRoundNo) {
+        return ItemDetail.builder()
+            .plnmNo(plnmNo)
+            .minBidPriceMin(minBidPrice)
+            .bidStatus(bidStatus)
+            .bidRoundNo(bidRoundNo)
+            .build();
+    }
+}
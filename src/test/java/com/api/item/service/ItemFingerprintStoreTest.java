@@ -0,0 +1,119 @@
+package com.api.item.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.api.item.dto.ItemBasic;
+import com.api.item.dto.ItemDetail;
+import com.api.item.mapper.ItemMapper;
+
+class ItemFingerprintStoreTest {
+
+    private ItemMapper mapper;
+    private ItemFingerprintStore store;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(ItemMapper.class);
+        when(mapper.findContentHashes(anyCollection())).thenReturn(List.of());
+        store = new ItemFingerprintStore(mapper, 1000);
+    }
+
+    @Test
+    void fingerprintIgnoresRnumAndViewCount() {
+        ItemDetail item = item(1L, 100_000L);
+        ItemDetail sameContent = item.toBuilder().rnum(99).viewCount(12345).build();
+
+        assertEquals(ItemFingerprintStore.fingerprint(item), ItemFingerprintStore.fingerprint(sameContent));
+    }
+
+    @Test
+    void fingerprintChangesWithStoredFields() {
+        ItemDetail item = item(1L, 100_000L);
+
+        assertNotEquals(ItemFingerprintStore.fingerprint(item), ItemFingerprintStore.fingerprint(item(1L, 90_000L)));
+        assertNotEquals(ItemFingerprintStore.fingerprint(item),
+            ItemFingerprintStore.fingerprint(item.toBuilder().bidCount(2).build()));
+        // null과 빈 문자열 구분
+        assertNotEquals(ItemFingerprintStore.fingerprint(item.toBuilder().bidStatus(null).build()),
+            ItemFingerprintStore.fingerprint(item.toBuilder().bidStatus("").build()));
+    }
+
+    @Test
+    void newItemsAreChanged() {
+        Map<Long, Long> changed = store.filterChanged(List.of(item(1L, 100_000L), item(2L, 200_000L)));
+
+        assertEquals(List.of(1L, 2L), List.copyOf(changed.keySet()));
+        assertEquals(ItemFingerprintStore.fingerprint(item(1L, 100_000L)), changed.get(1L));
+    }
+
+    @Test
+    void storedHashFromDbSkipsUnchangedRows() {
+        ItemDetail unchanged = item(1L, 100_000L);
+        ItemDetail changedItem = item(2L, 150_000L);
+        when(mapper.findContentHashes(anyCollection())).thenReturn(List.of(
+            hash(1L, ItemFingerprintStore.fingerprint(unchanged)),
+            hash(2L, ItemFingerprintStore.fingerprint(item(2L, 200_000L)))));
+
+        Map<Long, Long> changed = store.filterChanged(List.of(unchanged, changedItem));
+
+        assertEquals(Map.of(2L, ItemFingerprintStore.fingerprint(changedItem)), changed);
+    }
+
+    @Test
+    void rememberedHashesAreServedFromCache() {
+        ItemDetail item = item(1L, 100_000L);
+        Map<Long, Long> changed = store.filterChanged(List.of(item));
+        store.remember(changed);
+
+        assertTrue(store.filterChanged(List.of(item)).isEmpty());
+        // 두 번째 비교는 캐시에서 처리
+        verify(mapper, times(1)).findContentHashes(anyCollection());
+    }
+
+    @Test
+    void rowWithoutStoredHashIsRewritten() {
+        when(mapper.findContentHashes(anyCollection())).thenReturn(List.of(hash(1L, null)));
+
+        assertEquals(1, store.filterChanged(List.of(item(1L, 100_000L))).size());
+    }
+
+    @Test
+    void forgetAndClearDropCachedHashes() {
+        ItemDetail first = item(1L, 100_000L);
+        ItemDetail second = item(2L, 200_000L);
+        store.remember(store.filterChanged(List.of(first, second)));
+
+        store.forget(1L);
+        assertEquals(List.of(1L), List.copyOf(store.filterChanged(List.of(first, second)).keySet()));
+
+        store.clear();
+        assertEquals(2, store.filterChanged(List.of(first, second)).size());
+    }
+
+    private static ItemDetail item(Long plnmNo, Long minBidPrice) {
+        return ItemDetail.builder()
+            .plnmNo(plnmNo)
+            .cltrMnmtNo("2025-" + plnmNo)
+            .address("서울특별시 강남구")
+            .minBidPriceMin(minBidPrice)
+            .bidStart(LocalDateTime.of(2025, 1, 1, 10, 0))
+            .bidStatus("입찰준비중")
+            .bidCount(0)
+            .build();
+    }
+
+    private static ItemBasic hash(Long plnmNo, Long contentHash) {
+        ItemBasic row = ItemBasic.builder().plnmNo(plnmNo).build();
+        row.setContentHash(contentHash);
+        return row;
+    }
+}
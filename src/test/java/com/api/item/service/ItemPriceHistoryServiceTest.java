@@ -0,0 +1,165 @@
+package com.api.item.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.api.item.dto.ItemBidRound;
+import com.api.item.dto.ItemDetail;
+import com.api.item.dto.ItemPriceHistory;
+import com.api.item.mapper.ItemBidRoundMapper;
+
+class ItemPriceHistoryServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 6, 10, 0);
+
+    private ItemBidRoundMapper roundMapper;
+    private ItemPriceHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        roundMapper = mock(ItemBidRoundMapper.class);
+        service = new ItemPriceHistoryService(roundMapper, 1000);
+    }
+
+    @Test
+    void historyIsBasePlusDeltaSeries() {
+        when(roundMapper.findByPlnmNo(1L)).thenReturn(List.of(
+            round(BASE, 1_000_000L, 2_000_000L),
+            round(BASE.plusDays(7), 900_000L, 2_000_000L),
+            round(BASE.plusDays(14), 810_000L, null),
+            round(BASE.plusDays(21), 729_000L, 2_000_000L)));
+
+        ItemPriceHistory history = service.getHistory(1L);
+
+        assertEquals(1L, history.getPlnmNo());
+        assertEquals(4, history.getRounds().size());
+        assertEquals(1_000_000L, history.getMinBidPriceBase());
+        assertEquals(List.of(-100_000L, -90_000L, -81_000L), history.getMinBidPriceDeltas(), "직전 회차 대비 차이");
+        assertEquals(2_000_000L, history.getAppraisalAmountBase());
+        assertEquals(Arrays.asList(0L, null, null), history.getAppraisalAmountDeltas(), "한쪽 값이 없으면 null");
+
+        // 첫 값 + 차이로 원래 가격 복원
+        long price = history.getMinBidPriceBase();
+        for (int i = 0; i < history.getMinBidPriceDeltas().size(); i++) {
+            price += history.getMinBidPriceDeltas().get(i);
+            assertEquals(history.getRounds().get(i + 1).getMinBidPrice(), price);
+        }
+    }
+
+    @Test
+    void historyWithoutRoundsHasNoSeries() {
+        when(roundMapper.findByPlnmNo(1L)).thenReturn(List.of());
+
+        ItemPriceHistory history = service.getHistory(1L);
+
+        assertNull(history.getMinBidPriceBase());
+        assertTrue(history.getMinBidPriceDeltas().isEmpty());
+
+        when(roundMapper.findByPlnmNo(2L)).thenReturn(List.of(round(BASE, 1_000_000L, null)));
+        ItemPriceHistory single = service.getHistory(2L);
+        assertEquals(1_000_000L, single.getMinBidPriceBase());
+        assertNull(single.getAppraisalAmountBase());
+        assertTrue(single.getMinBidPriceDeltas().isEmpty(), "회차가 하나면 차이 없음");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void recordsEveryRawRoundOnceAndOnlyChangesAfterwards() {
+        List<ItemDetail> raw = List.of(
+            item(1L, BASE, 1_000_000L),
+            item(1L, BASE.plusDays(7), 900_000L),
+            item(2L, BASE, 500_000L),
+            item(null, BASE, 1L),
+            item(3L, null, 1L));
+
+        assertEquals(3, service.record(raw), "중복 제거 전 회차를 모두 기록 (키 없는 행 제외)");
+        ArgumentCaptor<List<ItemBidRound>> captor = ArgumentCaptor.forClass(List.class);
+        verify(roundMapper).upsertRounds(captor.capture());
+        List<ItemBidRound> written = captor.getValue();
+        assertEquals(List.of(1_000_000L, 900_000L, 500_000L), written.stream().map(ItemBidRound::getMinBidPrice).toList());
+
+        // 같은 회차를 같은 값으로 다시 받으면 DB에 쓰지 않음
+        assertEquals(0, service.record(raw));
+        verify(roundMapper, times(1)).upsertRounds(anyList());
+
+        // 바뀐 회차만 다시 기록
+        assertEquals(1, service.record(List.of(item(1L, BASE, 1_000_000L), item(1L, BASE.plusDays(7), 850_000L))));
+        verify(roundMapper, times(2)).upsertRounds(captor.capture());
+        assertEquals(850_000L, captor.getValue().get(0).getMinBidPrice());
+    }
+
+    @Test
+    void recordWritesInChunks() {
+        List<ItemDetail> raw = new ArrayList<>();
+        for (long plnmNo = 1; plnmNo <= 1200; plnmNo++) {
+            raw.add(item(plnmNo, BASE, plnmNo * 1000));
+        }
+
+        assertEquals(1200, service.record(raw));
+        verify(roundMapper, times(3)).upsertRounds(anyList());
+    }
+
+    @Test
+    void failedRecordIsSwallowedAndRetriedNextTime() {
+        when(roundMapper.upsertRounds(anyList())).thenThrow(new IllegalStateException("DB 오류")).thenReturn(1);
+        List<ItemDetail> raw = List.of(item(1L, BASE, 1_000_000L));
+
+        assertEquals(0, service.record(raw), "기록 실패는 수집을 막지 않음");
+        assertEquals(1, service.record(raw), "실패한 회차는 기록된 것으로 보지 않음");
+    }
+
+    @Test
+    void previousRoundPriceIsLatestRoundBeforeCurrentStart() {
+        // 물건별 입찰 시작일 내림차순 (findRecentRounds)
+        when(roundMapper.findRecentRounds(anyCollection())).thenReturn(List.of(
+            round(1L, BASE.plusDays(7), 900_000L),
+            round(1L, BASE, 1_000_000L),
+            round(2L, BASE.plusDays(7), 450_000L),
+            round(3L, BASE, 700_000L)));
+
+        Map<Long, Long> previous = service.getPreviousRoundPrices(Map.of(
+            1L, item(1L, BASE.plusDays(7), 900_000L),   // 현재 회차는 건너뛰고 직전 회차
+            2L, item(2L, BASE.plusDays(7), 450_000L),   // 이전 회차 없음
+            3L, item(3L, BASE.plusDays(7), 630_000L))); // 기록된 회차가 직전 회차
+
+        assertEquals(Map.of(1L, 1_000_000L, 3L, 700_000L), previous);
+    }
+
+    private static ItemBidRound round(LocalDateTime bidStart, Long minBidPrice, Long appraisalAmount) {
+        return ItemBidRound.builder()
+            .plnmNo(1L)
+            .bidStart(bidStart)
+            .minBidPrice(minBidPrice)
+            .appraisalAmount(appraisalAmount)
+            .build();
+    }
+
+    private static ItemBidRound round(Long plnmNo, LocalDateTime bidStart, Long minBidPrice) {
+        return ItemBidRound.builder()
+            .plnmNo(plnmNo)
+            .bidStart(bidStart)
+            .minBidPrice(minBidPrice)
+            .build();
+    }
+
+    private static ItemDetail item(Long plnmNo, LocalDateTime bidStart, Long minBidPrice) {
+        return ItemDetail.builder()
+            .plnmNo(plnmNo)
+            .bidStart(bidStart)
+            .bidEnd(bidStart != null ? bidStart.plusDays(2) : null)
+            .minBidPriceMin(minBidPrice)
+            .build();
+    }
+}
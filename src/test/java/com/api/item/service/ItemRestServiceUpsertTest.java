@@ -0,0 +1,131 @@
+package com.api.item.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.api.item.dto.ItemBasic;
+import com.api.item.dto.ItemDetail;
+import com.api.item.mapper.ItemMapper;
+
+class ItemRestServiceUpsertTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private ItemMapper mapper;
+    private PlatformTransactionManager transactionManager;
+    private ItemCatalogIndex catalogIndex;
+    private ItemRestService service;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(ItemMapper.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        catalogIndex = new ItemCatalogIndex(10_000);
+        service = new ItemRestService(
+            mapper,
+            mock(ItemApiPageService.class),
+            catalogIndex,
+            new ItemFingerprintStore(mapper, 10_000),
+            mock(ItemChangeLogService.class),
+            mock(ItemPriceHistoryService.class),
+            new DuplicateItemGrouper(),
+            new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void pageIsWrittenInOneTransactionWithChunkedMultiRowStatements() {
+        List<ItemDetail> page = new ArrayList<>();
+        for (long plnmNo = 1; plnmNo <= 1200; plnmNo++) {
+            page.add(item(plnmNo, BASE, 1_000_000L));
+        }
+
+        assertEquals(1200, service.upsertItems(page));
+
+        // 행마다가 아니라 500행 단위 multi-row 문장, 전체가 트랜잭션 1개
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertEquals(List.of(500, 500, 200), basicBatchSizes(3));
+        verify(mapper, times(3)).upsertItemDetailBatch(anyList());
+        verify(mapper, never()).upsertItemBasic(any());
+        verify(mapper, never()).upsertItemDetail(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void writesNewestRoundOncePerItemWithBidCount() {
+        List<ItemDetail> page = List.of(
+            item(1L, BASE.plusDays(7), 900_000L),
+            item(1L, BASE, 1_000_000L),
+            item(1L, BASE.plusDays(14), 810_000L),
+            item(2L, BASE, 500_000L));
+
+        assertEquals(2, service.upsertItems(page));
+
+        ArgumentCaptor<List<ItemBasic>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mapper).upsertItemBasicBatch(captor.capture());
+        List<ItemBasic> written = captor.getValue();
+        assertEquals(2, written.size(), "같은 물건은 한 행만 저장");
+
+        ItemBasic latest = written.stream().filter(b -> b.getPlnmNo() == 1L).findFirst().orElseThrow();
+        assertEquals(810_000L, latest.getMinBidPriceMin(), "입찰 시작일이 가장 늦은 회차");
+        assertEquals(2, latest.getBidCount(), "이전 회차 수");
+        assertNotNull(latest.getContentHash());
+
+        // 인덱스와 DB가 같은 회차를 가짐
+        assertEquals(810_000L, catalogIndex.get(1L).getMinBidPriceMin());
+    }
+
+    @Test
+    void unchangedPageSkipsTheWrite() {
+        List<ItemDetail> page = List.of(item(1L, BASE, 1_000_000L), item(2L, BASE, 2_000_000L));
+        assertEquals(2, service.upsertItems(page));
+
+        // 같은 내용을 다시 받으면 트랜잭션도 열지 않음
+        List<ItemDetail> again = List.of(item(1L, BASE, 1_000_000L), item(2L, BASE, 2_000_000L));
+        assertEquals(0, service.upsertItems(again));
+        verify(transactionManager, times(1)).getTransaction(any());
+
+        // 한 건만 바뀌면 그 행만 저장
+        List<ItemDetail> changed = List.of(item(1L, BASE, 1_000_000L), item(2L, BASE, 1_500_000L));
+        assertEquals(1, service.upsertItems(changed));
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    @Test
+    void ignoresEmptyInputAndRowsWithoutPlnmNo() {
+        assertEquals(0, service.upsertItems(null));
+        assertEquals(0, service.upsertItems(List.of()));
+        assertEquals(0, service.upsertItems(List.of(item(null, BASE, 1L))));
+        verifyNoInteractions(transactionManager);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Integer> basicBatchSizes(int calls) {
+        ArgumentCaptor<List<ItemBasic>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mapper, times(calls)).upsertItemBasicBatch(captor.capture());
+        return captor.getAllValues().stream().map(List::size).toList();
+    }
+
+    private static ItemDetail item(Long plnmNo, LocalDateTime bidStart, Long minBidPrice) {
+        return ItemDetail.builder()
+            .plnmNo(plnmNo)
+            .cltrMnmtNo(plnmNo != null ? "2025-" + plnmNo : null)
+            .bidStart(bidStart)
+            .bidEnd(bidStart.plusDays(2))
+            .minBidPriceMin(minBidPrice)
+            .minBidPriceMax(minBidPrice)
+            .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.api.item.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.api.item.dto.ItemDetail;
+import com.api.item.service.ItemService.MainPageSnapshot;
+import com.api.union.service.OnbidCallBudget;
+import com.api.union.service.ServiceKeyPool;
+
+class MainPageSnapshotServiceTest {
+
+    private static final LocalDateTime TODAY = LocalDateTime.now().withHour(15).withMinute(0).withSecond(0).withNano(0);
+
+    private ItemRestService itemRestService;
+    private MainPageSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        itemRestService = mock(ItemRestService.class);
+        snapshotService = new MainPageSnapshotService(new ItemService(itemRestService), budget());
+    }
+
+    @Test
+    void startsEmptyAndSwapsInBuiltSnapshot() {
+        assertTrue(snapshotService.getSnapshot().isEmpty());
+        stubAll("1차");
+
+        snapshotService.refresh();
+
+        MainPageSnapshot snapshot = snapshotService.getSnapshot();
+        assertFalse(snapshot.isEmpty());
+        assertEquals("1차 신규", snapshot.getNotices().get(0).getTitle());
+        assertEquals("1차 체감", snapshot.getDiscountList().get(0).getName());
+        assertEquals("1차 용도", snapshot.getScheduleList().get(0).getRegion());
+        assertEquals("근린생활시설", snapshot.getCategoryStats().get(0).getName());
+        assertEquals(5, snapshot.getNotices().size(), "공지는 최대 5건");
+    }
+
+    @Test
+    void failedSectionKeepsPreviousValueWhileOthersRefresh() {
+        stubAll("1차");
+        snapshotService.refresh();
+
+        stubAll("2차");
+        when(itemRestService.fetchNewItemsFromApi(anyInt(), anyString()))
+            .thenThrow(new IllegalStateException("온비드 장애"));
+        snapshotService.refresh();
+
+        MainPageSnapshot snapshot = snapshotService.getSnapshot();
+        assertEquals("1차 신규", snapshot.getNotices().get(0).getTitle(), "실패한 구역은 이전 값 유지");
+        assertEquals("2차 체감", snapshot.getDiscountList().get(0).getName());
+        assertEquals("2차 용도", snapshot.getScheduleList().get(0).getRegion());
+    }
+
+    @Test
+    void emptySectionKeepsPreviousValue() {
+        stubAll("1차");
+        snapshotService.refresh();
+
+        stubAll("2차");
+        when(itemRestService.fetchDiscountItemsFromApi(anyInt(), anyString())).thenReturn(List.of());
+        snapshotService.refresh();
+
+        MainPageSnapshot snapshot = snapshotService.getSnapshot();
+        assertEquals("1차 체감", snapshot.getDiscountList().get(0).getName(), "빈 응답은 실패로 보고 이전 값 유지");
+        assertEquals("2차 신규", snapshot.getNotices().get(0).getTitle());
+    }
+
+    @Test
+    void usageFailureOnLaterPageKeepsPreviousStatsAndSchedule() {
+        stubAll("1차");
+        snapshotService.refresh();
+        MainPageSnapshot first = snapshotService.getSnapshot();
+
+        // 1페이지는 성공, 2페이지에서 실패 → 일부 페이지만으로 통계를 만들지 않음
+        stubAll("2차");
+        when(itemRestService.fetchUsageItemsFromApi(eq(2), anyString()))
+            .thenThrow(new IllegalStateException("온비드 장애"));
+        snapshotService.refresh();
+
+        MainPageSnapshot snapshot = snapshotService.getSnapshot();
+        assertEquals(first.getCategoryStats().get(0).getCount(), snapshot.getCategoryStats().get(0).getCount());
+        assertEquals("1차 용도", snapshot.getScheduleList().get(0).getRegion());
+        assertEquals("2차 신규", snapshot.getNotices().get(0).getTitle());
+    }
+
+    @Test
+    void totalOutageKeepsWholePreviousSnapshot() {
+        stubAll("1차");
+        snapshotService.refresh();
+        MainPageSnapshot first = snapshotService.getSnapshot();
+
+        IllegalStateException outage = new IllegalStateException("온비드 장애");
+        when(itemRestService.fetchNewItemsFromApi(anyInt(), anyString())).thenThrow(outage);
+        when(itemRestService.fetchDiscountItemsFromApi(anyInt(), anyString())).thenThrow(outage);
+        when(itemRestService.fetchUsageItemsFromApi(anyInt(), anyString())).thenThrow(outage);
+        snapshotService.refresh();
+
+        MainPageSnapshot snapshot = snapshotService.getSnapshot();
+        assertEquals(first.getNotices().get(0).getTitle(), snapshot.getNotices().get(0).getTitle());
+        assertEquals(first.getDiscountList().size(), snapshot.getDiscountList().size());
+        assertEquals(first.getCategoryStats().size(), snapshot.getCategoryStats().size());
+        assertEquals(first.getScheduleList().size(), snapshot.getScheduleList().size());
+    }
+
+    // 모든 원본 조회가 label을 붙인 물건을 돌려주도록 설정 (용도별은 1, 2페이지 후 빈 페이지)
+    private void stubAll(String label) {
+        when(itemRestService.fetchNewItemsFromApi(anyInt(), anyString())).thenReturn(items(label + " 신규", 8));
+        when(itemRestService.fetchDiscountItemsFromApi(anyInt(), anyString())).thenReturn(items(label + " 체감", 8));
+        when(itemRestService.fetchUsageItemsFromApi(anyInt(), anyString())).thenReturn(List.of());
+        when(itemRestService.fetchUsageItemsFromApi(eq(1), anyString())).thenReturn(items(label + " 용도", 3));
+        when(itemRestService.fetchUsageItemsFromApi(eq(2), anyString())).thenReturn(items(label + " 용도", 2));
+    }
+
+    private static List<ItemDetail> items(String address, int count) {
+        List<ItemDetail> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(ItemDetail.builder()
+                .plnmNo((long) i + 1)
+                .cltrMnmtNo("2025-" + i)
+                .address(address)
+                .nmrAddress(address)
+                .assetCategory("상가용및업무용건물 / 근린생활시설")
+                .bidStart(TODAY.minusDays(3))
+                .bidEnd(TODAY)
+                .minBidPriceMin(500_000L)
+                .appraisalAmountMax(1_000_000L)
+                .build());
+        }
+        return items;
+    }
+
+    private static OnbidCallBudget budget() {
+        ServiceKeyPool keys = new ServiceKeyPool(new String[] {"test-key"}, new String[] {"22"}, 60, 0);
+        return new OnbidCallBudget(1000, 1000, 0, keys, 0.2, 0.5, 0.2, 1000, 1000, 1000);
+    }
+}
@@ -0,0 +1,220 @@
+package com.api.mail.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import com.api.config.MailStubConfig;
+import com.api.mail.domain.EmailOutbox;
+import com.api.mail.mapper.EmailOutboxMapper;
+
+import jakarta.mail.internet.MimeMessage;
+
+class EmailDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final FakeOutboxMapper mapper = new FakeOutboxMapper();
+    private final MailStubConfig.StubMailSender stub = new MailStubConfig.StubMailSender();
+
+    @Test
+    void sendsPendingMailThroughStubAndMarksSent() throws Exception {
+        mapper.add(email(1L, EmailOutbox.STATUS_PENDING, 0));
+        mapper.add(email(2L, EmailOutbox.STATUS_PENDING, 0));
+        mapper.add(email(3L, EmailOutbox.STATUS_PENDING, 0));
+
+        dispatcher(stub).dispatch();
+
+        List<MimeMessage> sent = stub.getSentMessages();
+        assertEquals(3, sent.size());
+        assertEquals("제목 1", sent.get(0).getSubject());
+        for (long id = 1; id <= 3; id++) {
+            assertEquals(EmailOutbox.STATUS_SENT, mapper.get(id).getStatus());
+            assertEquals(1, mapper.get(id).getAttempts());
+        }
+    }
+
+    @Test
+    void reclaimedSendCountsAsAttempt() {
+        // 전송 도중 노드가 중단되어 점유가 만료된 메일
+        mapper.add(email(1L, EmailOutbox.STATUS_SENDING, 1));
+
+        dispatcher(stub).dispatch();
+
+        assertEquals(1, stub.getSentMessages().size());
+        EmailOutbox row = mapper.get(1L);
+        assertEquals(EmailOutbox.STATUS_SENT, row.getStatus());
+        // 재점유 1회 + 전송 1회
+        assertEquals(3, row.getAttempts());
+    }
+
+    @Test
+    void reclaimedMailAtMaxAttemptsIsFailedWithoutSending() {
+        mapper.add(email(1L, EmailOutbox.STATUS_SENDING, MAX_ATTEMPTS - 1));
+        mapper.add(email(2L, EmailOutbox.STATUS_PENDING, 0));
+
+        dispatcher(stub).dispatch();
+
+        // 재점유로 최대 시도 횟수에 도달한 메일은 다시 보내지 않음
+        List<MimeMessage> sent = stub.getSentMessages();
+        assertEquals(1, sent.size());
+        assertEquals(EmailOutbox.STATUS_FAILED, mapper.get(1L).getStatus());
+        assertEquals(MAX_ATTEMPTS, mapper.get(1L).getAttempts());
+        assertEquals(EmailOutbox.STATUS_SENT, mapper.get(2L).getStatus());
+    }
+
+    @Test
+    void failedSendIsRetriedWithBackoffThenFailed() {
+        MailStubConfig.StubMailSender failing = new MailStubConfig.StubMailSender() {
+            @Override
+            protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+                throw new MailSendException("SMTP 연결 실패");
+            }
+        };
+        mapper.add(email(1L, EmailOutbox.STATUS_PENDING, 0));
+
+        EmailDispatcher dispatcher = dispatcher(failing);
+        dispatcher.dispatch();
+
+        EmailOutbox row = mapper.get(1L);
+        assertEquals(EmailOutbox.STATUS_PENDING, row.getStatus());
+        assertEquals(1, row.getAttempts());
+        assertNotNull(row.getNextAttemptAt());
+        assertTrue(row.getNextAttemptAt().after(new Timestamp(System.currentTimeMillis())), "재시도는 백오프 이후");
+
+        // 대기 시간을 건너뛰고 최대 시도 횟수까지 반복
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            row.setNextAttemptAt(null);
+            dispatcher.dispatch();
+        }
+        assertEquals(EmailOutbox.STATUS_FAILED, row.getStatus());
+        assertEquals(MAX_ATTEMPTS, row.getAttempts());
+        assertEquals(1L, dispatcher.getStats().get("failed"));
+    }
+
+    @Test
+    void keepsQueueWhenMailSenderIsMissing() {
+        mapper.add(email(1L, EmailOutbox.STATUS_PENDING, 0));
+
+        dispatcher(null).dispatch();
+
+        assertEquals(EmailOutbox.STATUS_PENDING, mapper.get(1L).getStatus());
+        assertEquals(0, mapper.claimCalls);
+    }
+
+    @SuppressWarnings("unchecked")
+    private EmailDispatcher dispatcher(JavaMailSender sender) {
+        ObjectProvider<JavaMailSender> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(sender);
+        return new EmailDispatcher(mapper, provider, Runnable::run, 2, 2, MAX_ATTEMPTS, 30, 3600, 300);
+    }
+
+    private static EmailOutbox email(Long id, String status, int attempts) {
+        return EmailOutbox.builder()
+            .id(id)
+            .toEmail("user" + id + "@example.com")
+            .subject("제목 " + id)
+            .body("본문 " + id)
+            .status(status)
+            .attempts(attempts)
+            .build();
+    }
+
+    /**
+     * emailOutboxMapper.xml과 같은 규칙의 메모리 대기열
+     * - 점유 대상: 대기 시간이 지난 PENDING, 점유가 만료된 SENDING (여기서는 항상 만료로 간주)
+     * - SENDING 재점유 시 시도 횟수 1 증가
+     */
+    private static class FakeOutboxMapper implements EmailOutboxMapper {
+
+        private final List<EmailOutbox> rows = new ArrayList<>();
+        private final List<String> handledTokens = new ArrayList<>();
+        private int claimCalls;
+
+        void add(EmailOutbox email) {
+            rows.add(email);
+        }
+
+        EmailOutbox get(Long id) {
+            return rows.stream().filter(row -> row.getId().equals(id)).findFirst().orElseThrow();
+        }
+
+        @Override
+        public void insertEmail(EmailOutbox email) {
+            rows.add(email);
+        }
+
+        @Override
+        public int claimBatch(String claimToken, int limit, int leaseSeconds) {
+            claimCalls++;
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            int claimed = 0;
+            for (EmailOutbox row : rows) {
+                if (claimed >= limit) {
+                    break;
+                }
+                boolean pending = EmailOutbox.STATUS_PENDING.equals(row.getStatus())
+                    && (row.getNextAttemptAt() == null || !row.getNextAttemptAt().after(now));
+                // 이번 디스패치 실행에서 이미 점유한 행은 만료 전이므로 제외
+                boolean expired = EmailOutbox.STATUS_SENDING.equals(row.getStatus())
+                    && !handledTokens.contains(row.getClaimToken());
+                if (!pending && !expired) {
+                    continue;
+                }
+                if (expired) {
+                    row.setAttempts(row.getAttempts() + 1);
+                }
+                row.setStatus(EmailOutbox.STATUS_SENDING);
+                row.setClaimToken(claimToken);
+                claimed++;
+            }
+            handledTokens.add(claimToken);
+            return claimed;
+        }
+
+        @Override
+        public List<EmailOutbox> findByClaimToken(String claimToken) {
+            return rows.stream()
+                .filter(row -> EmailOutbox.STATUS_SENDING.equals(row.getStatus()))
+                .filter(row -> Objects.equals(claimToken, row.getClaimToken()))
+                .toList();
+        }
+
+        @Override
+        public int markSent(List<Long> ids) {
+            ids.forEach(id -> {
+                EmailOutbox row = get(id);
+                row.setStatus(EmailOutbox.STATUS_SENT);
+                row.setAttempts(row.getAttempts() + 1);
+            });
+            return ids.size();
+        }
+
+        @Override
+        public int markFailed(Long id, String status, int attempts, Timestamp nextAttemptAt, String lastError) {
+            EmailOutbox row = get(id);
+            row.setStatus(status);
+            row.setAttempts(attempts);
+            row.setNextAttemptAt(nextAttemptAt);
+            row.setLastError(lastError);
+            return 1;
+        }
+
+        @Override
+        public List<Map<String, Object>> countByStatus() {
+            return List.of();
+        }
+    }
+}
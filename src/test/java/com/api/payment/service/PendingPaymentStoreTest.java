@@ -0,0 +1,59 @@
+package com.api.payment.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.payment.domain.PaymentDetail;
+
+class PendingPaymentStoreTest {
+
+    private final PendingPaymentStore store = new PendingPaymentStore(30, 100);
+
+    @Test
+    void findsByMerchantUidAndId() {
+        PaymentDetail payment = payment(1L);
+        store.put("order-1", payment);
+
+        assertSame(payment, store.getByMerchantUid("order-1"));
+        assertSame(payment, store.getById(1L));
+        assertNull(store.getById(2L));
+        assertNull(store.getById(null));
+    }
+
+    @Test
+    void replacingWithDifferentIdDropsOldIdMapping() {
+        store.put("order-1", payment(1L));
+        PaymentDetail replacement = payment(2L);
+        store.put("order-1", replacement);
+
+        // 이전 id로는 교체된 결제 정보를 돌려주지 않음
+        assertNull(store.getById(1L));
+        assertSame(replacement, store.getById(2L));
+        assertSame(replacement, store.getByMerchantUid("order-1"));
+    }
+
+    @Test
+    void replacingWithSameIdKeepsMapping() {
+        store.put("order-1", payment(1L));
+        PaymentDetail updated = payment(1L);
+        store.put("order-1", updated);
+
+        assertSame(updated, store.getById(1L));
+    }
+
+    @Test
+    void removedPaymentIsNotFoundById() {
+        store.put("order-1", payment(1L));
+        store.remove("order-1");
+
+        assertNull(store.getByMerchantUid("order-1"));
+        assertNull(store.getById(1L));
+    }
+
+    private static PaymentDetail payment(Long id) {
+        PaymentDetail payment = new PaymentDetail();
+        payment.setId(id);
+        return payment;
+    }
+}
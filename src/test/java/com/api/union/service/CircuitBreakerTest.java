@@ -0,0 +1,73 @@
+package com.api.union.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("onbid", 3, 60_000);
+
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.isClosed());
+        assertEquals(1, breaker.getOpenCount());
+        // 대기 시간이 지나기 전에는 시험 호출 불가
+        assertFalse(breaker.tryAcquireProbe());
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker("onbid", 3, 60_000);
+
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(2, breaker.getConsecutiveFailures());
+    }
+
+    @Test
+    void halfOpenProbeSuccessCloses() {
+        CircuitBreaker breaker = openBreaker();
+
+        assertTrue(breaker.tryAcquireProbe());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        // 시험 호출은 1건만
+        assertFalse(breaker.tryAcquireProbe());
+
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.isClosed());
+        assertEquals(0, breaker.getConsecutiveFailures());
+    }
+
+    @Test
+    void halfOpenProbeFailureReopens() {
+        CircuitBreaker breaker = openBreaker();
+
+        assertTrue(breaker.tryAcquireProbe());
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpenCount());
+    }
+
+    // openMillis = 0 이므로 바로 시험 호출 가능
+    private static CircuitBreaker openBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("onbid", 2, 0);
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
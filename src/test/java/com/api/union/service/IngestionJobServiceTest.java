@@ -0,0 +1,352 @@
+package com.api.union.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import com.api.item.dto.ItemDetail;
+import com.api.item.service.ItemRestService;
+import com.api.union.dto.IngestionJob;
+import com.api.union.mapper.IngestionJobMapper;
+import com.api.util.OnbidPage;
+
+class IngestionJobServiceTest {
+
+    private static final int PAGE_SIZE = 200;
+    private static final String SIDO = "부산광역시";
+
+    private final FakeJobMapper jobMapper = new FakeJobMapper();
+    private final ItemFetchService itemFetchService = mock(ItemFetchService.class);
+    private final ItemRestService itemService = mock(ItemRestService.class);
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private final List<Integer> fetchedPages = new ArrayList<>();
+    private IntFunction<OnbidPage> pages;
+    private ToIntFunction<List<ItemDetail>> saver = List::size;
+    private boolean runInline = true;
+
+    private IngestionJobService service;
+
+    @BeforeEach
+    void setUp() {
+        when(itemFetchService.fetchPageOrThrow(any(), anyInt(), any())).thenAnswer(inv -> {
+            int page = inv.getArgument(1);
+            fetchedPages.add(page);
+            return pages.apply(page);
+        });
+        when(itemService.upsertItems(anyList())).thenAnswer(inv -> saver.applyAsInt(inv.getArgument(0)));
+
+        PageIngestionEngine engine = new PageIngestionEngine(Runnable::run, budget(), 1000);
+        // 작업 실행기: 기본은 호출 스레드에서 바로 실행, runInline=false면 대기열에만 넣음
+        Executor executor = task -> {
+            if (runInline) {
+                task.run();
+            } else {
+                queued.add(task);
+            }
+        };
+        service = new IngestionJobService(jobMapper, engine, itemFetchService, itemService, executor, 10, 900);
+    }
+
+    @Test
+    void runsJobToCompletion() {
+        pages = page -> page < 3 ? page(PAGE_SIZE) : page(10);
+
+        IngestionJob job = service.start(OnbidFeed.NEW, SIDO);
+
+        assertEquals(IngestionJob.STATUS_COMPLETED, job.getStatus());
+        assertEquals(3, job.getLastPage());
+        assertEquals(3, job.getPagesFetched());
+        assertEquals(List.of(1, 2, 3), fetchedPages);
+    }
+
+    @Test
+    void failedJobResumesFromPageAfterCheckpoint() {
+        boolean[] failing = {true};
+        pages = page -> {
+            if (page == 3 && failing[0]) {
+                throw new IllegalStateException("온비드 오류");
+            }
+            return page < 4 ? page(PAGE_SIZE) : page(10);
+        };
+
+        IngestionJob failed = service.start(OnbidFeed.NEW, SIDO);
+        assertEquals(IngestionJob.STATUS_FAILED, failed.getStatus());
+        assertEquals(2, failed.getLastPage());
+        assertEquals("온비드 오류", failed.getError());
+
+        failing[0] = false;
+        fetchedPages.clear();
+        // 재개 실행은 체크포인트 다음 페이지부터
+        IngestionJob resumed = service.start(OnbidFeed.NEW, SIDO);
+
+        assertEquals(failed.getId(), resumed.getId(), "새 작업이 아니라 실패한 작업을 이어서 실행");
+        assertEquals(IngestionJob.STATUS_COMPLETED, resumed.getStatus());
+        assertEquals(List.of(3, 4), fetchedPages, "마지막 저장 페이지 다음부터 조회");
+        assertEquals(4, resumed.getLastPage());
+        assertEquals(4, resumed.getPagesFetched());
+        assertNull(resumed.getError());
+    }
+
+    @Test
+    void cancelDuringRunStopsAtNextCheckpoint() {
+        pages = page -> page(PAGE_SIZE);
+        Long jobId = jobMapper.nextId();
+        int[] saves = {0};
+        saver = items -> {
+            // 2페이지 저장 중 취소 요청
+            if (++saves[0] == 2) {
+                service.cancel(jobId);
+            }
+            return items.size();
+        };
+
+        IngestionJob job = service.start(OnbidFeed.USAGE, SIDO);
+
+        assertEquals(jobId, job.getId());
+        assertEquals(IngestionJob.STATUS_CANCELLED, job.getStatus());
+        assertEquals(2, saves[0], "취소 요청 이후 페이지는 저장하지 않음");
+        assertEquals(1, job.getLastPage(), "취소 요청된 페이지는 체크포인트에 기록하지 않음 (재개 시 다시 저장)");
+    }
+
+    @Test
+    void cancelledJobResumesOnlyWhenStartedManually() {
+        runInline = false;
+        IngestionJob queuedJob = service.start(OnbidFeed.DISCOUNT, SIDO);
+        IngestionJob cancelled = service.cancel(queuedJob.getId());
+        assertEquals(IngestionJob.STATUS_CANCELLED, cancelled.getStatus(), "대기 중인 작업은 바로 취소");
+
+        // 스케줄러는 관리자가 취소한 작업을 이어서 실행하지 않고 새 작업 등록
+        IngestionJob scheduled = service.startScheduled(OnbidFeed.DISCOUNT, SIDO);
+        assertNotEquals(cancelled.getId(), scheduled.getId());
+        assertEquals(IngestionJob.STATUS_QUEUED, scheduled.getStatus());
+
+        service.cancel(scheduled.getId());
+        IngestionJob manual = service.start(OnbidFeed.DISCOUNT, SIDO);
+        assertEquals(scheduled.getId(), manual.getId(), "수동 시작은 취소된 작업을 재개");
+        assertEquals(IngestionJob.STATUS_QUEUED, manual.getStatus());
+    }
+
+    @Test
+    void startReturnsActiveJobInsteadOfCreatingAnother() {
+        runInline = false;
+        IngestionJob first = service.start(OnbidFeed.NEW, SIDO);
+        IngestionJob second = service.start(OnbidFeed.NEW, SIDO);
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1, jobMapper.jobs.size());
+        assertEquals(1, queued.size(), "같은 작업은 한 번만 제출");
+    }
+
+    @Test
+    void concurrentStartFallsBackToJobRegisteredFirst() {
+        runInline = false;
+        IngestionJob first = service.start(OnbidFeed.NEW, SIDO);
+
+        // 다른 노드가 조회와 등록 사이에 먼저 등록한 상황 (조회 시점에는 작업이 보이지 않음)
+        jobMapper.hideLatestOnce = true;
+        IngestionJob second = service.start(OnbidFeed.NEW, SIDO);
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1, jobMapper.jobs.size(), "중복 작업이 생기지 않음");
+    }
+
+    @Test
+    void finishDoesNotOverrideJobRequeuedByRecovery() {
+        pages = page -> page(PAGE_SIZE);
+        saver = items -> {
+            // 실행 중 진행 기록이 끊겨 다른 노드가 재개 대기로 돌린 상황
+            jobMapper.jobs.values().forEach(job -> job.setStatus(IngestionJob.STATUS_QUEUED));
+            return items.size();
+        };
+
+        IngestionJob job = service.start(OnbidFeed.NEW, SIDO);
+
+        assertEquals(IngestionJob.STATUS_QUEUED, job.getStatus(), "종료 상태로 덮어쓰지 않음");
+        assertNull(job.getFinishedAt());
+    }
+
+    private static OnbidPage page(int rawItemCount) {
+        return OnbidPage.builder()
+            .resultCode("00")
+            .rawItemCount(rawItemCount)
+            .items(List.of(ItemDetail.builder().plnmNo((long) rawItemCount).build()))
+            .build();
+    }
+
+    private static OnbidCallBudget budget() {
+        ServiceKeyPool keys = new ServiceKeyPool(new String[] {"test-key"}, new String[] {"22"}, 60, 0);
+        return new OnbidCallBudget(1000, 1000, 0, keys, 0.2, 0.5, 0.2, 1000, 1000, 1000);
+    }
+
+    /**
+     * ingestionJobMapper.xml의 상태 조건(claim/updateProgress/finish/requestCancel/requeue)과
+     * uk_job_active(종류/시도별 진행 중 작업 1건)를 메모리에서 재현
+     */
+    static class FakeJobMapper implements IngestionJobMapper {
+
+        private static final Set<String> ACTIVE = Set.of(
+            IngestionJob.STATUS_QUEUED, IngestionJob.STATUS_RUNNING, IngestionJob.STATUS_CANCEL_REQUESTED);
+
+        final Map<Long, IngestionJob> jobs = new LinkedHashMap<>();
+        boolean hideLatestOnce;
+        private long sequence;
+
+        Long nextId() {
+            return sequence + 1;
+        }
+
+        @Override
+        public void insertJob(IngestionJob job) {
+            checkActiveUnique(job.getFeed(), job.getSido(), null);
+            job.setId(++sequence);
+            job.setStatus(IngestionJob.STATUS_QUEUED);
+            jobs.put(job.getId(), copy(job));
+        }
+
+        @Override
+        public IngestionJob findById(Long id) {
+            return copy(jobs.get(id));
+        }
+
+        @Override
+        public IngestionJob findLatest(String feed, String sido) {
+            if (hideLatestOnce) {
+                hideLatestOnce = false;
+                return null;
+            }
+            IngestionJob latest = null;
+            for (IngestionJob job : jobs.values()) {
+                if (job.getFeed().equals(feed) && job.getSido().equals(sido)) {
+                    latest = job;
+                }
+            }
+            return copy(latest);
+        }
+
+        @Override
+        public List<IngestionJob> findRecent(int limit) {
+            return jobs.values().stream().map(FakeJobMapper::copy).limit(limit).toList();
+        }
+
+        @Override
+        public List<IngestionJob> findQueued() {
+            return jobs.values().stream()
+                .filter(job -> IngestionJob.STATUS_QUEUED.equals(job.getStatus()))
+                .map(FakeJobMapper::copy)
+                .toList();
+        }
+
+        @Override
+        public int claim(Long id) {
+            return transition(id, Set.of(IngestionJob.STATUS_QUEUED), IngestionJob.STATUS_RUNNING);
+        }
+
+        @Override
+        public int updateProgress(Long id, int lastPage, int pagesFetched, int savedCount) {
+            IngestionJob job = jobs.get(id);
+            if (job == null || !IngestionJob.STATUS_RUNNING.equals(job.getStatus())) {
+                return 0;
+            }
+            job.setLastPage(lastPage);
+            job.setPagesFetched(pagesFetched);
+            job.setSavedCount(savedCount);
+            return 1;
+        }
+
+        @Override
+        public int finish(Long id, String status, String error) {
+            IngestionJob job = jobs.get(id);
+            if (job == null || !Set.of(IngestionJob.STATUS_RUNNING, IngestionJob.STATUS_CANCEL_REQUESTED).contains(job.getStatus())) {
+                return 0;
+            }
+            job.setStatus(status);
+            job.setError(error);
+            job.setFinishedAt(new java.sql.Timestamp(System.currentTimeMillis()));
+            return 1;
+        }
+
+        @Override
+        public int requestCancel(Long id) {
+            IngestionJob job = jobs.get(id);
+            if (job == null) {
+                return 0;
+            }
+            return switch (job.getStatus()) {
+                case IngestionJob.STATUS_QUEUED -> transition(id, Set.of(IngestionJob.STATUS_QUEUED), IngestionJob.STATUS_CANCELLED);
+                case IngestionJob.STATUS_RUNNING -> transition(id, Set.of(IngestionJob.STATUS_RUNNING), IngestionJob.STATUS_CANCEL_REQUESTED);
+                default -> 0;
+            };
+        }
+
+        @Override
+        public int requeue(Long id) {
+            IngestionJob job = jobs.get(id);
+            if (job == null || !Set.of(IngestionJob.STATUS_FAILED, IngestionJob.STATUS_CANCELLED).contains(job.getStatus())) {
+                return 0;
+            }
+            checkActiveUnique(job.getFeed(), job.getSido(), id);
+            job.setStatus(IngestionJob.STATUS_QUEUED);
+            job.setError(null);
+            job.setFinishedAt(null);
+            return 1;
+        }
+
+        @Override
+        public int recoverStale(int staleSeconds) {
+            return 0;
+        }
+
+        private int transition(Long id, Set<String> from, String to) {
+            IngestionJob job = jobs.get(id);
+            if (job == null || !from.contains(job.getStatus())) {
+                return 0;
+            }
+            job.setStatus(to);
+            return 1;
+        }
+
+        private void checkActiveUnique(String feed, String sido, Long self) {
+            for (IngestionJob job : jobs.values()) {
+                if (!job.getId().equals(self) && job.getFeed().equals(feed) && job.getSido().equals(sido)
+                        && ACTIVE.contains(job.getStatus())) {
+                    throw new DuplicateKeyException("uk_job_active");
+                }
+            }
+        }
+
+        private static IngestionJob copy(IngestionJob job) {
+            if (job == null) {
+                return null;
+            }
+            return IngestionJob.builder()
+                .id(job.getId())
+                .feed(job.getFeed())
+                .sido(job.getSido())
+                .status(job.getStatus())
+                .lastPage(job.getLastPage())
+                .maxPages(job.getMaxPages())
+                .pagesFetched(job.getPagesFetched())
+                .savedCount(job.getSavedCount())
+                .error(job.getError())
+                .finishedAt(job.getFinishedAt())
+                .build();
+        }
+    }
+}
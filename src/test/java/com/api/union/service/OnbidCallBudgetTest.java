@@ -0,0 +1,108 @@
+package com.api.union.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.union.service.OnbidCallBudget.Priority;
+
+class OnbidCallBudgetTest {
+
+    private static final ServiceKeyPool ONE_KEY = new ServiceKeyPool(new String[] {"test-key"}, new String[] {"22"}, 60, 0);
+
+    @Test
+    void bulkLeavesBucketReserveForHigherPriorities() {
+        // 버킷 10개, 사실상 충전 없음, BULK는 절반(5개)을 남겨 둠
+        OnbidCallBudget budget = budget(0.001, 10, 0, 0.2, 0.5, 0.2, 50, 50, 50);
+
+        for (int i = 0; i < 5; i++) {
+            acquire(budget, Priority.BULK);
+        }
+        assertThrows(RuntimeException.class, () -> acquire(budget, Priority.BULK));
+
+        // MONITORING은 2개(20%)만 남기므로 3개 더 사용 가능
+        for (int i = 0; i < 3; i++) {
+            acquire(budget, Priority.MONITORING);
+        }
+        assertThrows(RuntimeException.class, () -> acquire(budget, Priority.MONITORING));
+
+        // INTERACTIVE는 남은 토큰을 모두 사용
+        acquire(budget, Priority.INTERACTIVE);
+        acquire(budget, Priority.INTERACTIVE);
+        assertThrows(RuntimeException.class, () -> acquire(budget, Priority.INTERACTIVE));
+    }
+
+    @Test
+    void bulkLeavesDailyReserveForInteractive() {
+        // 키 1개 × 일일 10건, BULK는 20%(2건)를 남겨 둠
+        OnbidCallBudget budget = budget(1000, 100, 10, 0.2, 0, 0.2, 50, 50, 50);
+
+        for (int i = 0; i < 8; i++) {
+            acquire(budget, Priority.BULK);
+        }
+        assertThrows(RuntimeException.class, () -> acquire(budget, Priority.BULK));
+
+        acquire(budget, Priority.INTERACTIVE);
+        acquire(budget, Priority.INTERACTIVE);
+        assertThrows(RuntimeException.class, () -> acquire(budget, Priority.INTERACTIVE));
+        assertEquals(10L, budget.getStats().get("usedToday"));
+    }
+
+    @Test
+    void bulkYieldsToWaitingInteractive() throws Exception {
+        // 버킷 2개를 먼저 비운 뒤 초당 20개(50ms마다 1개)씩 충전
+        OnbidCallBudget budget = budget(20, 2, 0, 0, 0, 0, 5_000, 5_000, 5_000);
+        acquire(budget, Priority.INTERACTIVE);
+        acquire(budget, Priority.INTERACTIVE);
+
+        List<Priority> order = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> interactive = CompletableFuture.runAsync(() -> {
+            acquire(budget, Priority.INTERACTIVE);
+            order.add(Priority.INTERACTIVE);
+        });
+        waitUntil(() -> ((Number) budget.getStats().get("interactiveWaiting")).intValue() == 1);
+
+        CompletableFuture<Void> bulk = CompletableFuture.runAsync(() -> {
+            acquire(budget, Priority.BULK);
+            order.add(Priority.BULK);
+        });
+
+        interactive.get(5, TimeUnit.SECONDS);
+        bulk.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(Priority.INTERACTIVE, Priority.BULK), order);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> bulkStats = (Map<String, Object>) budget.getStats().get("bulk");
+        assertEquals(1L, bulkStats.get("acquired"));
+    }
+
+    private static void acquire(OnbidCallBudget budget, Priority priority) {
+        budget.withPriority(priority, () -> {
+            budget.acquire("test");
+            return null;
+        });
+    }
+
+    private static OnbidCallBudget budget(double rps, int burst, long dailyQuota,
+                                          double monitoringReserve, double bulkReserve, double dailyReserve,
+                                          long interactiveWaitMs, long monitoringWaitMs, long bulkWaitMs) {
+        return new OnbidCallBudget(rps, burst, dailyQuota, ONE_KEY, monitoringReserve, bulkReserve, dailyReserve,
+            interactiveWaitMs, monitoringWaitMs, bulkWaitMs);
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 5s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
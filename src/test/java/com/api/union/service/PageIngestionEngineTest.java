@@ -0,0 +1,148 @@
+package com.api.union.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.item.dto.ItemDetail;
+import com.api.union.dto.IngestionResult;
+import com.api.util.OnbidPage;
+
+class PageIngestionEngineTest {
+
+    private static final int PAGE_SIZE = 200;
+
+    // 페이지 조회를 호출 스레드에서 바로 실행 (조회 순서 = 페이지 순서)
+    private final PageIngestionEngine engine = new PageIngestionEngine(Runnable::run, budget(), 1000);
+
+    private final List<Integer> fetchedPages = new ArrayList<>();
+    private final List<Integer> savedSizes = new ArrayList<>();
+
+    @Test
+    void stopsAtShortPage() {
+        IngestionResult result = engine.run("test", 1, 10,
+            pages(Map.of(1, page(PAGE_SIZE, null), 2, page(50, null))), this::save);
+
+        assertTrue(result.isCompleted());
+        assertFalse(result.isCancelled());
+        assertEquals(2, result.getPagesFetched());
+        assertEquals(2, result.getLastPage());
+        assertEquals(List.of(1, 2), fetchedPages, "짧은 페이지 이후는 조회하지 않음");
+    }
+
+    @Test
+    void stopsAtEmptyPageWithoutSaving() {
+        IngestionResult result = engine.run("test", 1, 10,
+            pages(Map.of(1, page(PAGE_SIZE, null), 2, page(0, null))), this::save);
+
+        assertTrue(result.isCompleted());
+        assertEquals(1, result.getPagesFetched());
+        assertEquals(1, result.getLastPage());
+        assertEquals(List.of(1), savedSizes);
+    }
+
+    @Test
+    void stopsWhenTotalCountReached() {
+        IngestionResult result = engine.run("test", 1, 10,
+            pages(Map.of(1, page(PAGE_SIZE, 400), 2, page(PAGE_SIZE, 400))), this::save);
+
+        assertTrue(result.isCompleted());
+        assertEquals(2, result.getPagesFetched());
+        assertEquals(List.of(1, 2), fetchedPages);
+    }
+
+    @Test
+    void continuesPastPageWhoseRowsWereAllDropped() {
+        // 응답에는 <item>이 200개 있지만 PLNM_NO가 없어 모두 빠진 페이지
+        OnbidPage dropped = OnbidPage.builder().rawItemCount(PAGE_SIZE).items(List.of()).build();
+        IngestionResult result = engine.run("test", 1, 10,
+            pages(Map.of(1, dropped, 2, page(10, null))), this::save);
+
+        assertTrue(result.isCompleted());
+        assertEquals(2, result.getPagesFetched());
+        assertEquals(List.of(1), savedSizes, "빈 물건 목록은 저장하지 않음");
+    }
+
+    @Test
+    void notCompletedAtMaxPages() {
+        IngestionResult result = engine.run("test", 1, 2,
+            pages(Map.of(1, page(PAGE_SIZE, null), 2, page(PAGE_SIZE, null), 3, page(PAGE_SIZE, null))), this::save);
+
+        assertFalse(result.isCompleted(), "최대 페이지에서 멈추면 완료가 아님");
+        assertEquals(2, result.getPagesFetched());
+        assertEquals(List.of(1, 2), fetchedPages);
+    }
+
+    @Test
+    void checkpointCancels() {
+        IngestionResult result = engine.run("test", 1, 10,
+            pages(Map.of(1, page(PAGE_SIZE, null), 2, page(PAGE_SIZE, null), 3, page(10, null))), this::save,
+            (page, pagesFetched, savedCount) -> page < 2);
+
+        assertTrue(result.isCancelled());
+        assertFalse(result.isCompleted());
+        assertEquals(2, result.getPagesFetched());
+        assertEquals(2, result.getLastPage());
+    }
+
+    @Test
+    void fetchFailurePropagates() {
+        IntFunction<OnbidPage> fetcher = page -> {
+            fetchedPages.add(page);
+            if (page == 2) {
+                throw new IllegalStateException("온비드 오류");
+            }
+            return page(PAGE_SIZE, null);
+        };
+
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> engine.run("test", 1, 3, fetcher, this::save));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(List.of(1), savedSizes, "실패한 페이지 이후는 저장하지 않음");
+    }
+
+    @Test
+    void isLastPageUsesRawCountAndTotalCount() {
+        assertTrue(PageIngestionEngine.isLastPage(page(0, null), 1));
+        assertTrue(PageIngestionEngine.isLastPage(page(199, null), 1));
+        assertFalse(PageIngestionEngine.isLastPage(page(PAGE_SIZE, null), 1));
+        assertFalse(PageIngestionEngine.isLastPage(page(PAGE_SIZE, 401), 2));
+        assertTrue(PageIngestionEngine.isLastPage(page(PAGE_SIZE, 400), 2));
+    }
+
+    private IntFunction<OnbidPage> pages(Map<Integer, OnbidPage> pages) {
+        return page -> {
+            fetchedPages.add(page);
+            return pages.getOrDefault(page, OnbidPage.empty());
+        };
+    }
+
+    private int save(List<ItemDetail> items) {
+        savedSizes.add(items.size());
+        return items.size();
+    }
+
+    // 응답 <item> 수가 rawItemCount인 페이지 (파싱된 물건은 1건)
+    private static OnbidPage page(int rawItemCount, Integer totalCount) {
+        List<ItemDetail> items = rawItemCount > 0
+            ? List.of(ItemDetail.builder().plnmNo((long) rawItemCount).build())
+            : List.of();
+        return OnbidPage.builder()
+            .resultCode("00")
+            .totalCount(totalCount)
+            .rawItemCount(rawItemCount)
+            .items(items)
+            .build();
+    }
+
+    private static OnbidCallBudget budget() {
+        ServiceKeyPool keys = new ServiceKeyPool(new String[] {"test-key"}, new String[] {"22"}, 60, 0);
+        return new OnbidCallBudget(1000, 1000, 0, keys, 0.2, 0.5, 0.2, 1000, 1000, 1000);
+    }
+}
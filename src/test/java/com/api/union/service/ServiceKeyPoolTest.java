@@ -0,0 +1,69 @@
+package com.api.union.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.union.service.ServiceKeyPool.KeyState;
+
+class ServiceKeyPoolTest {
+
+    @Test
+    void picksLeastUsedKey() {
+        ServiceKeyPool pool = new ServiceKeyPool(new String[] {"key-a", " key-b ", ""}, new String[] {"22"}, 60, 0);
+
+        assertEquals(2, pool.size());
+        assertEquals("key-a", pool.next().getKey());
+        assertEquals("key-b", pool.next().getKey());
+        assertEquals("key-a", pool.next().getKey());
+    }
+
+    @Test
+    void quotaErrorCoolsDownKey() {
+        ServiceKeyPool pool = new ServiceKeyPool(new String[] {"key-a", "key-b"}, new String[] {"22"}, 60, 0);
+
+        KeyState first = pool.next();
+        assertEquals("key-a", first.getKey());
+        assertTrue(pool.reportResult(first, " 22 "));
+
+        // key-a는 사용량이 더 적어도 cooldown 동안 제외
+        for (int i = 0; i < 3; i++) {
+            assertEquals("key-b", pool.next().getKey());
+        }
+
+        KeyState second = pool.next();
+        assertTrue(pool.reportResult(second, "22"));
+        assertNull(pool.next(), "모든 키가 cooldown이면 null");
+    }
+
+    @Test
+    void otherResultCodesDoNotCoolDown() {
+        ServiceKeyPool pool = new ServiceKeyPool(new String[] {"key-a"}, new String[] {"22"}, 60, 0);
+
+        KeyState key = pool.next();
+        assertFalse(pool.reportResult(key, "00"));
+        assertFalse(pool.reportResult(key, null));
+        assertSame(key, pool.next());
+    }
+
+    @Test
+    void keyReturnsAfterCooldown() throws Exception {
+        // cooldown 0분 → 바로 다시 사용 가능
+        ServiceKeyPool pool = new ServiceKeyPool(new String[] {"key-a"}, new String[] {"22"}, 0, 0);
+
+        KeyState key = pool.next();
+        assertTrue(pool.reportResult(key, "22"));
+        Thread.sleep(2);
+        assertSame(key, pool.next());
+    }
+
+    @Test
+    void exhaustedDailyQuotaExcludesKey() {
+        ServiceKeyPool pool = new ServiceKeyPool(new String[] {"key-a", "key-b"}, new String[] {"22"}, 60, 2);
+
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(pool.next());
+        }
+        assertNull(pool.next(), "키별 일일 할당량을 모두 쓰면 null");
+    }
+}
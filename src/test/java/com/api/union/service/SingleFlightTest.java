@@ -0,0 +1,122 @@
+package com.api.union.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void coalescesConcurrentCallsWithSameKey() throws Exception {
+        SingleFlight<String, List<String>> flight = new SingleFlight<>(ArrayList::new);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        List<String> produced = new ArrayList<>(List.of("a", "b"));
+
+        CompletableFuture<List<String>> leader = CompletableFuture.supplyAsync(() -> flight.execute("page-1", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return produced;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<List<String>> follower = CompletableFuture.supplyAsync(() -> flight.execute("page-1", () -> {
+            calls.incrementAndGet();
+            return List.of("other");
+        }));
+        // 뒤따라온 호출이 진행 중인 호출에 합류할 때까지 대기
+        waitUntil(() -> flight.getCoalesced() == 1);
+        release.countDown();
+
+        List<String> leaderResult = leader.get(5, TimeUnit.SECONDS);
+        List<String> followerResult = follower.get(5, TimeUnit.SECONDS);
+        assertEquals(1, calls.get());
+        assertEquals(1, flight.getExecutions());
+        assertEquals(List.of("a", "b"), followerResult);
+        // 합류한 호출자는 복사본을 받음
+        assertNotSame(leaderResult, followerResult);
+        // 직접 호출한 쪽도 원본이 아닌 복사본을 받음
+        assertNotSame(produced, leaderResult);
+        assertNotSame(produced, followerResult);
+
+        // 한쪽의 수정이 다른 호출자나 원본에 보이지 않음
+        leaderResult.add("c");
+        assertEquals(List.of("a", "b"), followerResult);
+        assertEquals(List.of("a", "b"), produced);
+        assertEquals(0, flight.getInFlight());
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() {
+        SingleFlight<String, String> flight = new SingleFlight<>(v -> v);
+
+        assertEquals("1", flight.execute("a", () -> "1"));
+        assertEquals("2", flight.execute("b", () -> "2"));
+        // 끝난 호출은 보관하지 않으므로 같은 키도 다시 실행
+        assertEquals("3", flight.execute("a", () -> "3"));
+        assertEquals(3, flight.getExecutions());
+        assertEquals(0, flight.getCoalesced());
+    }
+
+    @Test
+    void propagatesLeaderFailureToWaiters() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(v -> v);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute("page-1", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("온비드 오류");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flight.execute("page-1", () -> "unused"));
+        waitUntil(() -> flight.getCoalesced() == 1);
+        release.countDown();
+
+        assertLeaderFailure(leader);
+        assertLeaderFailure(follower);
+        assertEquals(0, flight.getInFlight());
+
+        // 실패 후에는 키가 제거되어 다음 호출이 새로 실행됨
+        assertEquals("ok", flight.execute("page-1", () -> "ok"));
+    }
+
+    private static void assertLeaderFailure(CompletableFuture<String> future) {
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals("온비드 오류", e.getCause().getMessage());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 5s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
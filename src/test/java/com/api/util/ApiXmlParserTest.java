@@ -0,0 +1,120 @@
+package com.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.item.dto.ItemDetail;
+
+class ApiXmlParserTest {
+
+    @Test
+    void parsesNormalPage() throws IOException {
+        OnbidPage page = parseFixture("item-list-page.xml");
+
+        assertFalse(page.isError());
+        assertEquals("00", page.getResultCode());
+        assertEquals(2, page.getTotalCount());
+        assertEquals(2, page.getRawItemCount());
+        assertEquals(2, page.getItems().size());
+
+        ItemDetail first = page.getItems().get(0);
+        assertEquals(1, first.getRnum());
+        assertEquals(754512L, first.getPlnmNo());
+        assertEquals(9001234L, first.getPbctNo());
+        assertEquals(1234L, first.getOrgBaseNo());
+        assertEquals("2025-01234-001", first.getCltrMnmtNo());
+        assertEquals("서울특별시 강남구 역삼동 123-4", first.getAddress());
+        assertEquals("서울특별시 강남구 테헤란로 100", first.getRoadName());
+        assertEquals(150_000_000L, first.getAppraisalAmountMin(), "천 단위 구분기호는 제거");
+        assertEquals(120_000_000L, first.getMinBidPriceMin());
+        assertEquals("한국자산관리공사", first.getOrgName());
+        assertEquals(LocalDateTime.of(2025, 1, 27, 10, 0), first.getBidStart());
+        assertEquals(LocalDateTime.of(2025, 1, 29, 17, 0), first.getBidEnd());
+        assertEquals("입찰준비중", first.getBidStatus());
+        assertEquals(42, first.getViewCount());
+        assertEquals("대 120㎡", first.getGoodsDetail(), "앞뒤 공백은 제거");
+        assertEquals("003", first.getBidRoundNo());
+        assertEquals(Boolean.TRUE, first.getJointBid());
+        assertEquals(Boolean.FALSE, first.getElectronicGuarantee());
+        assertNull(first.getAgentBid());
+
+        // 일부 값이 비었거나 형식이 다른 물건
+        ItemDetail second = page.getItems().get(1);
+        assertEquals(754513L, second.getPlnmNo());
+        assertEquals("부산광역시 해운대구 센텀중앙로 1", second.getAddress(), "지번/도로명 주소가 없으면 ROAD_ADDR");
+        assertNull(second.getMinBidPriceMin(), "'-'는 값 없음");
+        assertEquals(LocalDateTime.of(2025, 1, 27, 0, 0), second.getBidStart(), "날짜만 있으면 0시");
+        assertNull(second.getBidEnd(), "알 수 없는 날짜 형식은 null");
+    }
+
+    @Test
+    void parsesErrorHeader() throws IOException {
+        OnbidPage page = parseFixture("error-header.xml");
+
+        assertTrue(page.isError());
+        assertEquals("30", page.getResultCode(), "returnReasonCode를 resultCode로 사용");
+        assertEquals("SERVICE ERROR / SERVICE_KEY_IS_NOT_REGISTERED_ERROR", page.getResultMsg());
+        assertNull(page.getTotalCount());
+        assertEquals(0, page.getRawItemCount());
+        assertTrue(page.getItems().isEmpty());
+    }
+
+    @Test
+    void skipsItemWithoutPlnmNo() throws IOException {
+        OnbidPage page = parseFixture("item-without-plnm-no.xml");
+
+        assertFalse(page.isError());
+        assertEquals(2, page.getRawItemCount(), "PLNM_NO 없는 항목도 응답 건수에는 포함");
+        assertEquals(1, page.getItems().size());
+        assertEquals(754520L, page.getItems().get(0).getPlnmNo());
+    }
+
+    @Test
+    void malformedXmlReturnsParseErrorWithItemsReadSoFar() throws IOException {
+        OnbidPage page = parseFixture("malformed.xml");
+
+        assertTrue(page.isError(), "깨진 응답을 마지막 페이지로 오인하지 않도록 에러 처리");
+        assertEquals(OnbidPage.PARSE_ERROR_CODE, page.getResultCode());
+        assertNotNull(page.getResultMsg());
+        assertEquals(1, page.getRawItemCount());
+        assertEquals(List.of(754530L), page.getItems().stream().map(ItemDetail::getPlnmNo).toList());
+    }
+
+    @Test
+    void stringAndStreamInputsParseTheSameItems() throws IOException {
+        String xml;
+        try (InputStream in = fixture("item-list-page.xml")) {
+            xml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<ItemDetail> fromString = ApiXmlParser.parseNewItemDetails(xml);
+        List<ItemDetail> fromStream;
+        try (InputStream in = fixture("item-list-page.xml")) {
+            fromStream = ApiXmlParser.parseNewItemDetails(in);
+        }
+        assertEquals(fromStream, fromString);
+
+        assertTrue(ApiXmlParser.parseNewItemDetails((String) null).isEmpty());
+        assertTrue(ApiXmlParser.parseNewItemDetails("  ").isEmpty());
+        assertFalse(ApiXmlParser.parsePage((InputStream) null).isError());
+    }
+
+    private static OnbidPage parseFixture(String name) throws IOException {
+        try (InputStream in = fixture(name)) {
+            return ApiXmlParser.parsePage(in);
+        }
+    }
+
+    private static InputStream fixture(String name) {
+        InputStream in = ApiXmlParserTest.class.getResourceAsStream("/onbid/" + name);
+        assertNotNull(in, "fixture not found: " + name);
+        return in;
+    }
+}